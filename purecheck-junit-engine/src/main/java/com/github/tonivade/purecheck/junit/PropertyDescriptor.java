@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck.junit;
+
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.platform.engine.support.hierarchical.Node;
+
+import com.github.tonivade.purecheck.PropertyTestCase;
+import com.github.tonivade.purecheck.PropertyTestSuite;
+import com.github.tonivade.purefun.Kind;
+
+/**
+ * Descriptor of a single property of a suite, it fails if any of the repetitions fails.
+ *
+ * @author tonivade
+ */
+final class PropertyDescriptor<F extends Kind<F, ?>, E> extends AbstractTestDescriptor implements Node<PureCheckEngineContext> {
+
+  private final PropertyTestSuite<F, E> suite;
+  private final PropertyTestCase<F, E, ?, ?> test;
+
+  PropertyDescriptor(UniqueId uniqueId, PropertyTestSuite<F, E> suite, PropertyTestCase<F, E, ?, ?> test) {
+    super(uniqueId, test.name());
+    this.suite = suite;
+    this.test = test;
+  }
+
+  @Override
+  public Type getType() {
+    return Type.TEST;
+  }
+
+  @Override
+  public PureCheckEngineContext execute(PureCheckEngineContext context, DynamicTestExecutor executor) {
+    suite.run(test).assertion();
+    return context;
+  }
+}
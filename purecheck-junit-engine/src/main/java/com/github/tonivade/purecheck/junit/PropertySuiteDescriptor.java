@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck.junit;
+
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.platform.engine.support.hierarchical.Node;
+
+import com.github.tonivade.purecheck.PropertyTestCase;
+import com.github.tonivade.purecheck.PropertyTestSuite;
+import com.github.tonivade.purecheck.TestFilter;
+import com.github.tonivade.purefun.Kind;
+
+/**
+ * Descriptor of a {@code PropertyTestSuite}, with a child for each property selected by the current filter.
+ *
+ * @author tonivade
+ */
+final class PropertySuiteDescriptor<F extends Kind<F, ?>, E> extends AbstractTestDescriptor implements Node<PureCheckEngineContext> {
+
+  static final String PROPERTY_SEGMENT_TYPE = "property";
+
+  private final PropertyTestSuite<F, E> suite;
+
+  PropertySuiteDescriptor(UniqueId uniqueId, TestSource source, PropertyTestSuite<F, E> suite) {
+    super(uniqueId, suite.name(), source);
+    this.suite = suite;
+    TestFilter filter = TestFilter.current();
+    int index = 0;
+    for (PropertyTestCase<F, E, ?, ?> test : suite.tests()) {
+      if (filter.matchesName(suite.name(), test.name())) {
+        addChild(new PropertyDescriptor<>(uniqueId.append(PROPERTY_SEGMENT_TYPE, String.valueOf(index)), suite, test));
+      }
+      index++;
+    }
+  }
+
+  @Override
+  public Type getType() {
+    return Type.CONTAINER;
+  }
+
+  @Override
+  public void after(PureCheckEngineContext context) {
+    suite.releaseFixtures();
+  }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck.junit;
+
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.platform.engine.support.hierarchical.Node;
+
+import com.github.tonivade.purecheck.PureCheck;
+import com.github.tonivade.purecheck.TestSuite;
+import com.github.tonivade.purefun.Kind;
+
+/**
+ * Descriptor of a {@code PureCheck}, with a child for each suite.
+ *
+ * @author tonivade
+ */
+final class PureCheckDescriptor<F extends Kind<F, ?>, E> extends AbstractTestDescriptor implements Node<PureCheckEngineContext> {
+
+  PureCheckDescriptor(UniqueId uniqueId, TestSource source, PureCheck<F, E> pureCheck) {
+    super(uniqueId, pureCheck.name(), source);
+    int index = 0;
+    for (TestSuite<F, E> suite : pureCheck.suites()) {
+      addChild(new SuiteDescriptor<>(uniqueId.append(SpecDescriptor.SUITE_SEGMENT_TYPE, String.valueOf(index)), source, suite));
+      index++;
+    }
+  }
+
+  @Override
+  public Type getType() {
+    return Type.CONTAINER;
+  }
+}
@@ -0,0 +1,17 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck.junit;
+
+import org.junit.platform.engine.support.hierarchical.EngineExecutionContext;
+
+/**
+ * Execution context of the engine, the suites are executed by the descriptors so it doesn't hold any state.
+ *
+ * @author tonivade
+ */
+public final class PureCheckEngineContext implements EngineExecutionContext {
+
+  PureCheckEngineContext() { }
+}
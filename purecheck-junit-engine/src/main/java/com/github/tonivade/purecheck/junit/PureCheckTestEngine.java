@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck.junit;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+
+import org.junit.platform.engine.EngineDiscoveryRequest;
+import org.junit.platform.engine.ExecutionRequest;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.config.PrefixedConfigurationParameters;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+import org.junit.platform.engine.support.discovery.EngineDiscoveryRequestResolver;
+import org.junit.platform.engine.support.hierarchical.ForkJoinPoolHierarchicalTestExecutorService;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestEngine;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService;
+
+import com.github.tonivade.purecheck.TestSpec;
+
+/**
+ * <p>JUnit Platform engine that discovers the subclasses of {@link TestSpec} and exposes every suite,
+ * test case and property as a test descriptor, so the IDE and the build tools can see, filter, schedule
+ * and time each test case individually.</p>
+ *
+ * <p>The suites are the fields and the methods without parameters of the spec that return a
+ * {@code TestSuite}, {@code PropertyTestSuite}, {@code StreamTestSuite} or {@code PureCheck}. Test
+ * cases are executed in parallel if {@code purecheck.execution.parallel.enabled=true} is defined as a
+ * configuration parameter, the parallelism is configured with the parameters with the prefix
+ * {@code purecheck.execution.parallel.config.}, the same way as Jupiter does.</p>
+ *
+ * @author tonivade
+ */
+public final class PureCheckTestEngine extends HierarchicalTestEngine<PureCheckEngineContext> {
+
+  public static final String ENGINE_ID = "purecheck";
+
+  private static final String PARALLEL_ENABLED = "purecheck.execution.parallel.enabled";
+  private static final String PARALLEL_CONFIG_PREFIX = "purecheck.execution.parallel.config.";
+
+  @Override
+  public String getId() {
+    return ENGINE_ID;
+  }
+
+  @Override
+  public TestDescriptor discover(EngineDiscoveryRequest request, UniqueId uniqueId) {
+    EngineDescriptor engine = new EngineDescriptor(uniqueId, "PureCheck");
+    EngineDiscoveryRequestResolver.<EngineDescriptor>builder()
+      .addClassContainerSelectorResolver(PureCheckTestEngine::isSpec)
+      .addSelectorResolver(context -> new SpecResolver())
+      .build()
+      .resolve(request, engine);
+    for (TestDescriptor child : new ArrayList<>(engine.getChildren())) {
+      if (child instanceof SpecDescriptor spec) {
+        spec.prune();
+      }
+    }
+    return engine;
+  }
+
+  @Override
+  protected HierarchicalTestExecutorService createExecutorService(ExecutionRequest request) {
+    var configuration = request.getConfigurationParameters();
+    if (configuration.getBoolean(PARALLEL_ENABLED).orElse(false)) {
+      return new ForkJoinPoolHierarchicalTestExecutorService(
+          new PrefixedConfigurationParameters(configuration, PARALLEL_CONFIG_PREFIX));
+    }
+    return super.createExecutorService(request);
+  }
+
+  @Override
+  protected PureCheckEngineContext createExecutionContext(ExecutionRequest request) {
+    return new PureCheckEngineContext();
+  }
+
+  static boolean isSpec(Class<?> clazz) {
+    return TestSpec.class.isAssignableFrom(clazz)
+        && !Modifier.isAbstract(clazz.getModifiers())
+        && !clazz.isAnonymousClass()
+        && !clazz.isLocalClass()
+        && (clazz.getEnclosingClass() == null || Modifier.isStatic(clazz.getModifiers()));
+  }
+}
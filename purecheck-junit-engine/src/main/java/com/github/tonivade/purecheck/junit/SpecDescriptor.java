@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck.junit;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.support.HierarchyTraversalMode;
+import org.junit.platform.commons.support.ReflectionSupport;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.engine.support.hierarchical.Node;
+
+import com.github.tonivade.purecheck.PropertyTestSuite;
+import com.github.tonivade.purecheck.PureCheck;
+import com.github.tonivade.purecheck.StreamTestSuite;
+import com.github.tonivade.purecheck.TestSpec;
+import com.github.tonivade.purecheck.TestSuite;
+
+/**
+ * <p>Descriptor of a {@code TestSpec}, the spec is instantiated and every field and method without parameters
+ * that returns a suite is evaluated to discover the test cases.</p>
+ *
+ * <p>If the spec cannot be created, the error is reported when the container is executed, so the rest of the
+ * specs are discovered and executed. If only some suites or test cases of the spec have been selected, for
+ * example by unique id or by method, the rest are removed by {@link #prune()} at the end of the discovery.</p>
+ *
+ * @author tonivade
+ */
+final class SpecDescriptor extends AbstractTestDescriptor implements Node<PureCheckEngineContext> {
+
+  static final String SEGMENT_TYPE = "spec";
+  static final String SUITE_SEGMENT_TYPE = "suite";
+
+  private final Optional<JUnitException> failure;
+  private final Set<UniqueId> selected = new HashSet<>();
+  private boolean all;
+
+  SpecDescriptor(UniqueId parent, Class<?> clazz) {
+    super(parent.append(SEGMENT_TYPE, clazz.getName()), clazz.getSimpleName(), ClassSource.from(clazz));
+    this.failure = discover(clazz);
+  }
+
+  @Override
+  public Type getType() {
+    return Type.CONTAINER;
+  }
+
+  @Override
+  public PureCheckEngineContext before(PureCheckEngineContext context) {
+    if (failure.isPresent()) {
+      throw failure.get();
+    }
+    return context;
+  }
+
+  boolean isFailed() {
+    return failure.isPresent();
+  }
+
+  void selectAll() {
+    all = true;
+  }
+
+  void select(UniqueId uniqueId) {
+    selected.add(uniqueId);
+  }
+
+  /**
+   * It removes the descendants that are not selected, unless the whole spec has been selected.
+   */
+  void prune() {
+    if (!all && !selected.isEmpty()) {
+      prune(this);
+    }
+  }
+
+  private void prune(TestDescriptor descriptor) {
+    for (TestDescriptor child : new ArrayList<>(descriptor.getChildren())) {
+      UniqueId uniqueId = child.getUniqueId();
+      if (selected.stream().anyMatch(uniqueId::hasPrefix)) {
+        continue;
+      }
+      if (selected.stream().anyMatch(id -> id.hasPrefix(uniqueId))) {
+        prune(child);
+      } else {
+        child.removeFromHierarchy();
+      }
+    }
+  }
+
+  private Optional<JUnitException> discover(Class<?> clazz) {
+    try {
+      Object spec = ReflectionSupport.newInstance(clazz);
+      for (Method method : ReflectionSupport.findMethods(clazz, SpecDescriptor::isSuiteMethod, HierarchyTraversalMode.TOP_DOWN)) {
+        addSuite(method.getName(), MethodSource.from(method), ReflectionSupport.invokeMethod(method, spec));
+      }
+      for (Field field : ReflectionSupport.findFields(clazz, SpecDescriptor::isSuiteField, HierarchyTraversalMode.TOP_DOWN)) {
+        addSuite(field.getName(), ClassSource.from(clazz), read(field, spec));
+      }
+      return Optional.empty();
+    } catch (Exception | LinkageError e) {
+      return Optional.of(new JUnitException("cannot discover the suites of " + clazz.getName(), e));
+    }
+  }
+
+  private void addSuite(String member, TestSource source, Object value) {
+    if (value != null) {
+      addChild(describe(getUniqueId().append(SUITE_SEGMENT_TYPE, member), source, value));
+    }
+  }
+
+  static TestDescriptor describe(UniqueId uniqueId, TestSource source, Object value) {
+    return switch (value) {
+      case TestSuite<?, ?> suite -> new SuiteDescriptor<>(uniqueId, source, suite);
+      case PropertyTestSuite<?, ?> suite -> new PropertySuiteDescriptor<>(uniqueId, source, suite);
+      case StreamTestSuite<?, ?> suite -> new StreamSuiteDescriptor(uniqueId, source, suite);
+      case PureCheck<?, ?> pureCheck -> new PureCheckDescriptor<>(uniqueId, source, pureCheck);
+      default -> throw new JUnitException("unsupported suite type: " + value.getClass());
+    };
+  }
+
+  static boolean isSuiteMethod(Method method) {
+    return method.getParameterCount() == 0
+        && !Modifier.isStatic(method.getModifiers())
+        && !method.isSynthetic()
+        && method.getDeclaringClass() != TestSpec.class
+        && isSuiteType(method.getReturnType());
+  }
+
+  private static boolean isSuiteField(Field field) {
+    return !Modifier.isStatic(field.getModifiers())
+        && !field.isSynthetic()
+        && isSuiteType(field.getType());
+  }
+
+  private static boolean isSuiteType(Class<?> type) {
+    return TestSuite.class.isAssignableFrom(type)
+        || PropertyTestSuite.class.isAssignableFrom(type)
+        || StreamTestSuite.class.isAssignableFrom(type)
+        || PureCheck.class.isAssignableFrom(type);
+  }
+
+  private static Object read(Field field, Object spec) {
+    try {
+      field.setAccessible(true);
+      return field.get(spec);
+    } catch (IllegalAccessException e) {
+      throw new JUnitException("cannot read field " + field, e);
+    }
+  }
+}
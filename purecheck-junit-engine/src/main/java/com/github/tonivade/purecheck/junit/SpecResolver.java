@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck.junit;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+
+import org.junit.platform.commons.support.ReflectionSupport;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.discovery.ClassSelector;
+import org.junit.platform.engine.discovery.MethodSelector;
+import org.junit.platform.engine.discovery.UniqueIdSelector;
+import org.junit.platform.engine.support.discovery.SelectorResolver;
+
+/**
+ * It resolves the classes that extend {@code TestSpec} into a {@link SpecDescriptor}. A method is resolved
+ * to the suite returned by the method, and a unique id to the spec, suite or test case it identifies. In
+ * both cases the rest of the spec is removed at the end of the discovery, see {@link SpecDescriptor#prune()}.
+ *
+ * @author tonivade
+ */
+final class SpecResolver implements SelectorResolver {
+
+  @Override
+  public Resolution resolve(ClassSelector selector, Context context) {
+    return spec(selector.getJavaClass(), context)
+        .map(spec -> {
+          spec.selectAll();
+          return Resolution.match(Match.exact(spec));
+        })
+        .orElse(Resolution.unresolved());
+  }
+
+  @Override
+  public Resolution resolve(MethodSelector selector, Context context) {
+    Method method = selector.getJavaMethod();
+    if (!SpecDescriptor.isSuiteMethod(method)) {
+      return Resolution.unresolved();
+    }
+    return spec(selector.getJavaClass(), context)
+        .map(spec -> select(spec, spec.getUniqueId().append(SpecDescriptor.SUITE_SEGMENT_TYPE, method.getName())))
+        .orElse(Resolution.unresolved());
+  }
+
+  @Override
+  public Resolution resolve(UniqueIdSelector selector, Context context) {
+    UniqueId uniqueId = selector.getUniqueId();
+    if (!uniqueId.getEngineId().filter(PureCheckTestEngine.ENGINE_ID::equals).isPresent()) {
+      return Resolution.unresolved();
+    }
+    return uniqueId.getSegments().stream()
+        .filter(segment -> segment.getType().equals(SpecDescriptor.SEGMENT_TYPE))
+        .findFirst()
+        .flatMap(segment -> ReflectionSupport.tryToLoadClass(segment.getValue()).toOptional())
+        .flatMap(clazz -> spec(clazz, context))
+        .map(spec -> select(spec, uniqueId))
+        .orElse(Resolution.unresolved());
+  }
+
+  private static Optional<SpecDescriptor> spec(Class<?> clazz, Context context) {
+    if (!PureCheckTestEngine.isSpec(clazz)) {
+      return Optional.empty();
+    }
+    return context.addToParent(parent -> Optional.of(new SpecDescriptor(parent.getUniqueId(), clazz)));
+  }
+
+  private static Resolution select(SpecDescriptor spec, UniqueId uniqueId) {
+    if (spec.isFailed()) {
+      // there is nothing to select, the spec is reported as a failed container
+      spec.selectAll();
+      return Resolution.match(Match.exact(spec));
+    }
+    spec.select(uniqueId);
+    Optional<? extends TestDescriptor> descriptor = spec.findByUniqueId(uniqueId);
+    return descriptor
+        .map(found -> Resolution.match(Match.exact(found)))
+        .orElse(Resolution.unresolved());
+  }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck.junit;
+
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.platform.engine.support.hierarchical.Node;
+
+import com.github.tonivade.purecheck.StreamTestSuite;
+
+/**
+ * Descriptor of a {@code StreamTestSuite}. The test cases are generated lazily, so the whole suite is
+ * reported as a single test.
+ *
+ * @author tonivade
+ */
+final class StreamSuiteDescriptor extends AbstractTestDescriptor implements Node<PureCheckEngineContext> {
+
+  private final StreamTestSuite<?, ?> suite;
+
+  StreamSuiteDescriptor(UniqueId uniqueId, TestSource source, StreamTestSuite<?, ?> suite) {
+    super(uniqueId, suite.name(), source);
+    this.suite = suite;
+  }
+
+  @Override
+  public Type getType() {
+    return Type.TEST;
+  }
+
+  @Override
+  public PureCheckEngineContext execute(PureCheckEngineContext context, DynamicTestExecutor executor) {
+    suite.parRun().await().getOrElseThrow().assertion();
+    return context;
+  }
+}
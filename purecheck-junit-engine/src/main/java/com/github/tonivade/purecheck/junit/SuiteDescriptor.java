@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck.junit;
+
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.platform.engine.support.hierarchical.Node;
+
+import com.github.tonivade.purecheck.TestCase;
+import com.github.tonivade.purecheck.TestFilter;
+import com.github.tonivade.purecheck.TestSuite;
+import com.github.tonivade.purefun.Kind;
+
+/**
+ * Descriptor of a {@code TestSuite}, with a child for each test case selected by the current filter.
+ * The fixtures of the suite are released when all the test cases finish.
+ *
+ * @author tonivade
+ */
+final class SuiteDescriptor<F extends Kind<F, ?>, E> extends AbstractTestDescriptor implements Node<PureCheckEngineContext> {
+
+  static final String CASE_SEGMENT_TYPE = "case";
+
+  private final TestSuite<F, E> suite;
+
+  SuiteDescriptor(UniqueId uniqueId, TestSource source, TestSuite<F, E> suite) {
+    super(uniqueId, suite.name(), source);
+    this.suite = suite;
+    TestFilter filter = TestFilter.current();
+    int index = 0;
+    for (TestCase<F, E, ?, ?> test : suite.tests()) {
+      if (filter.matches(suite.name(), test.name(), test.tags())) {
+        addChild(new TestCaseDescriptor<>(uniqueId.append(CASE_SEGMENT_TYPE, String.valueOf(index)), suite, test));
+      }
+      index++;
+    }
+  }
+
+  @Override
+  public Type getType() {
+    return Type.CONTAINER;
+  }
+
+  @Override
+  public void after(PureCheckEngineContext context) {
+    suite.releaseFixtures();
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck.junit;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.platform.engine.TestTag;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.platform.engine.support.hierarchical.Node;
+import org.opentest4j.TestAbortedException;
+
+import com.github.tonivade.purecheck.TestCase;
+import com.github.tonivade.purecheck.TestResult;
+import com.github.tonivade.purecheck.TestSuite;
+import com.github.tonivade.purefun.Kind;
+
+/**
+ * Descriptor of a single test case of a suite. A disabled test is reported as aborted, and a failure
+ * or an error as a failed test.
+ *
+ * @author tonivade
+ */
+final class TestCaseDescriptor<F extends Kind<F, ?>, E> extends AbstractTestDescriptor implements Node<PureCheckEngineContext> {
+
+  private final TestSuite<F, E> suite;
+  private final TestCase<F, E, ?, ?> test;
+
+  TestCaseDescriptor(UniqueId uniqueId, TestSuite<F, E> suite, TestCase<F, E, ?, ?> test) {
+    super(uniqueId, test.name());
+    this.suite = suite;
+    this.test = test;
+  }
+
+  @Override
+  public Type getType() {
+    return Type.TEST;
+  }
+
+  @Override
+  public Set<TestTag> getTags() {
+    return test.tags().stream().filter(TestTag::isValid).map(TestTag::create).collect(Collectors.toSet());
+  }
+
+  @Override
+  public PureCheckEngineContext execute(PureCheckEngineContext context, DynamicTestExecutor executor) {
+    verify(suite.run(test));
+    return context;
+  }
+
+  static void verify(TestResult<?, ?, ?> result) {
+    if (result.isDisabled()) {
+      throw new TestAbortedException(result.toString());
+    }
+    result.assertion();
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck.junit;
+
+import static com.github.tonivade.purefun.core.Validator.equalsTo;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectMethod;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUniqueId;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.testkit.engine.EngineTestKit;
+
+import com.github.tonivade.purecheck.PropertyTestSuite;
+import com.github.tonivade.purecheck.TestSuite;
+import com.github.tonivade.purecheck.spec.UIOTestSpec;
+import com.github.tonivade.purefun.effect.UIO;
+
+class PureCheckTestEngineTest {
+
+  @Test
+  void discoverAndRun() {
+    EngineTestKit.engine(PureCheckTestEngine.ENGINE_ID)
+      .selectors(selectClass(HelloSpec.class))
+      .execute()
+      .testEvents()
+      .assertStatistics(stats -> stats.started(4).succeeded(3).failed(1));
+  }
+
+  @Test
+  void parallel() {
+    EngineTestKit.engine(PureCheckTestEngine.ENGINE_ID)
+      .configurationParameter("purecheck.execution.parallel.enabled", "true")
+      .selectors(selectClass(HelloSpec.class))
+      .execute()
+      .testEvents()
+      .assertStatistics(stats -> stats.started(4).succeeded(3).failed(1));
+  }
+
+  @Test
+  void selectTestCaseByUniqueId() {
+    UniqueId uniqueId = UniqueId.forEngine(PureCheckTestEngine.ENGINE_ID)
+        .append(SpecDescriptor.SEGMENT_TYPE, HelloSpec.class.getName())
+        .append(SpecDescriptor.SUITE_SEGMENT_TYPE, "greetings")
+        .append(SuiteDescriptor.CASE_SEGMENT_TYPE, "1");
+
+    EngineTestKit.engine(PureCheckTestEngine.ENGINE_ID)
+      .selectors(selectUniqueId(uniqueId))
+      .execute()
+      .testEvents()
+      .assertStatistics(stats -> stats.started(1).succeeded(0).failed(1));
+  }
+
+  @Test
+  void selectSuiteByUniqueId() {
+    UniqueId uniqueId = UniqueId.forEngine(PureCheckTestEngine.ENGINE_ID)
+        .append(SpecDescriptor.SEGMENT_TYPE, HelloSpec.class.getName())
+        .append(SpecDescriptor.SUITE_SEGMENT_TYPE, "greetings");
+
+    EngineTestKit.engine(PureCheckTestEngine.ENGINE_ID)
+      .selectors(selectUniqueId(uniqueId))
+      .execute()
+      .testEvents()
+      .assertStatistics(stats -> stats.started(2).succeeded(1).failed(1));
+  }
+
+  @Test
+  void selectSuiteByMethod() {
+    EngineTestKit.engine(PureCheckTestEngine.ENGINE_ID)
+      .selectors(selectMethod(HelloSpec.class, "uppercase"))
+      .execute()
+      .testEvents()
+      .assertStatistics(stats -> stats.started(1).succeeded(1).failed(0));
+  }
+
+  @Test
+  void selectClassAndMethod() {
+    EngineTestKit.engine(PureCheckTestEngine.ENGINE_ID)
+      .selectors(selectMethod(HelloSpec.class, "uppercase"), selectClass(HelloSpec.class))
+      .execute()
+      .testEvents()
+      .assertStatistics(stats -> stats.started(4).succeeded(3).failed(1));
+  }
+
+  @Test
+  void brokenSpec() {
+    var results = EngineTestKit.engine(PureCheckTestEngine.ENGINE_ID)
+      .selectors(selectClass(BrokenSpec.class), selectClass(HelloSpec.class))
+      .execute();
+
+    results.containerEvents().assertStatistics(stats -> stats.failed(1));
+    results.testEvents().assertStatistics(stats -> stats.started(4).succeeded(3).failed(1));
+  }
+
+  public static class BrokenSpec extends UIOTestSpec<String> {
+
+    public BrokenSpec() {
+      throw new IllegalStateException("cannot create the spec");
+    }
+  }
+
+  public static class HelloSpec extends UIOTestSpec<String> {
+
+    final TestSuite<UIO<?>, String> greetings = suite("greetings",
+        it.should("say hello")
+          .given("Toni")
+          .when(name -> "Hello " + name)
+          .then(equalsTo("Hello Toni")),
+        it.should("say goodbye")
+          .given("Toni")
+          .when(name -> "Goodbye " + name)
+          .then(equalsTo("Bye Toni")));
+
+    TestSuite<UIO<?>, String> uppercase() {
+      return suite("uppercase",
+          it.should("convert to uppercase")
+            .given("Toni")
+            .when(String::toUpperCase)
+            .then(equalsTo("TONI")));
+    }
+
+    PropertyTestSuite<UIO<?>, String> properties() {
+      return properties("properties",
+          it.should("have length")
+            .given("Toni")
+            .when(String::length)
+            .then(equalsTo(4))
+            .repeat(10));
+    }
+  }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck;
+
+import static com.github.tonivade.purefun.core.Unit.unit;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+import com.github.tonivade.purefun.Kind;
+import com.github.tonivade.purefun.core.Unit;
+import com.github.tonivade.purefun.typeclasses.MonadDefer;
+import com.github.tonivade.purefun.typeclasses.Runtime;
+
+/**
+ * It bridges the effects with {@link CompletionStage}. The stage is completed by the effect itself,
+ * as its last step, so no thread is blocked waiting for the result and the callbacks of the stage are
+ * not delayed until a future is polled.
+ *
+ * @author tonivade
+ */
+final class Async {
+
+  private Async() {}
+
+  static <F extends Kind<F, ?>, T> CompletionStage<T> run(
+      Runtime<F> runtime, MonadDefer<F> monad, Kind<F, T> value, Executor executor) {
+    CompletableFuture<T> future = new CompletableFuture<>();
+    Kind<F, Unit> complete = monad.map(monad.attempt(value), result -> {
+      result.fold(future::completeExceptionally, future::complete);
+      return unit();
+    });
+    runtime.parRun(complete, executor);
+    return future;
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck;
+
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * <p>Asymptotic complexity classes that can be fitted to the durations measured by a {@link PerfSweep},
+ * ordered from the best to the worst.</p>
+ *
+ * <p>Each class is fitted using least squares with a curve {@code t = a + c * f(n)}, where {@code a} is the
+ * fixed cost of each call, so the overhead of the call doesn't hide the growth in sweeps with small sizes.
+ * The class with the lowest root mean square error, relative to the mean duration, is selected, but a class
+ * only replaces a better one if it reduces the error at least a 10%, because a curve with more parameters
+ * always fits the noise of the samples a bit better.</p>
+ *
+ * @author tonivade
+ */
+public enum Complexity {
+
+  CONSTANT("O(1)", n -> 1),
+  LOGARITHMIC("O(log n)", n -> Math.log(n)),
+  LINEAR("O(n)", n -> n),
+  LINEARITHMIC("O(n log n)", n -> n * Math.log(n)),
+  QUADRATIC("O(n^2)", n -> n * n);
+
+  private static final double MARGIN = 0.9;
+
+  private final String notation;
+  private final DoubleUnaryOperator function;
+
+  Complexity(String notation, DoubleUnaryOperator function) {
+    this.notation = notation;
+    this.function = function;
+  }
+
+  public boolean isWorseThan(Complexity other) {
+    return compareTo(other) > 0;
+  }
+
+  /**
+   * It fits the best complexity class for the given sizes and durations
+   *
+   * @param sizes sizes of the input
+   * @param times durations measured for each size
+   * @return the fit
+   */
+  static Fit fit(long[] sizes, double[] times) {
+    if (sizes.length != times.length || sizes.length < 2) {
+      throw new IllegalArgumentException("at least two samples are required");
+    }
+    double mean = 0;
+    for (double time : times) {
+      mean += time / times.length;
+    }
+    Fit best = CONSTANT.fit(sizes, times, mean);
+    for (Complexity complexity : values()) {
+      Fit fit = complexity.fit(sizes, times, mean);
+      if (fit.error() < best.error() * MARGIN) {
+        best = fit;
+      }
+    }
+    return best;
+  }
+
+  private Fit fit(long[] sizes, double[] times, double mean) {
+    double[] values = new double[sizes.length];
+    double average = 0;
+    for (int i = 0; i < sizes.length; i++) {
+      values[i] = function.applyAsDouble(sizes[i]);
+      average += values[i] / sizes.length;
+    }
+    double numerator = 0;
+    double denominator = 0;
+    for (int i = 0; i < sizes.length; i++) {
+      numerator += (values[i] - average) * (times[i] - mean);
+      denominator += (values[i] - average) * (values[i] - average);
+    }
+    // a constant function, or a curve that decreases with the size, is fitted as the mean duration
+    double coefficient = denominator > 0 ? Math.max(0, numerator / denominator) : 0;
+    double intercept = mean - coefficient * average;
+    double squares = 0;
+    for (int i = 0; i < sizes.length; i++) {
+      double residual = times[i] - intercept - coefficient * values[i];
+      squares += residual * residual;
+    }
+    double rms = Math.sqrt(squares / sizes.length);
+    return new Fit(this, intercept, coefficient, mean > 0 ? rms / mean : rms);
+  }
+
+  @Override
+  public String toString() {
+    return notation;
+  }
+
+  /**
+   * Result of the fitting
+   *
+   * @param complexity the complexity class
+   * @param intercept the fixed cost of each call, in nanoseconds
+   * @param coefficient the coefficient of the curve, in nanoseconds
+   * @param error root mean square error relative to the mean duration
+   */
+  record Fit(Complexity complexity, double intercept, double coefficient, double error) { }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <p>Listener that prints the progress of the suites, one line per test case finished and a summary
+ * when the suite finishes, for example:</p>
+ *
+ * <pre>
+ * [suite #1] PASS test (12 ms)
+ * [suite #2] FAIL test (3 ms)
+ * [suite] finished 2 tests in 15 ms: 1 passed, 1 failed, 0 errors, 0 disabled
+ * </pre>
+ *
+ * <p>It's registered automatically if the system property {@code purecheck.progress=true} is defined,
+ * see {@link TestEvents}.</p>
+ *
+ * @author tonivade
+ */
+public final class ConsoleProgress implements TestListener {
+
+  private final PrintStream output;
+  private final Map<String, Counters> suites = new HashMap<>();
+
+  public ConsoleProgress(PrintStream output) {
+    this.output = checkNonNull(output);
+  }
+
+  @Override
+  public void testFinished(String suite, TestResult<?, ?, ?> result, Duration duration) {
+    Counters counters = suites.computeIfAbsent(suite, ignore -> new Counters());
+    counters.add(result);
+    output.printf("[%s #%d] %s %s (%d ms)%n", suite, counters.total, status(result), result.name(), duration.toMillis());
+  }
+
+  @Override
+  public void suiteFinished(TestSuite.Report<?> report, Duration duration) {
+    Counters counters = suites.remove(report.name());
+    if (counters == null) {
+      counters = new Counters();
+    }
+    output.printf("[%s] finished %d tests in %d ms: %d passed, %d failed, %d errors, %d disabled%n",
+        report.name(), counters.total, duration.toMillis(),
+        counters.total - counters.failures - counters.errors - counters.disabled,
+        counters.failures, counters.errors, counters.disabled);
+    output.flush();
+  }
+
+  private static String status(TestResult<?, ?, ?> result) {
+    if (result.isFailure()) {
+      return "FAIL";
+    }
+    if (result.isError()) {
+      return "ERROR";
+    }
+    if (result.isDisabled()) {
+      return "SKIP";
+    }
+    return "PASS";
+  }
+
+  private static final class Counters {
+
+    private int total;
+    private int failures;
+    private int errors;
+    private int disabled;
+
+    private void add(TestResult<?, ?, ?> result) {
+      total++;
+      if (result.isFailure()) {
+        failures++;
+      } else if (result.isError()) {
+        errors++;
+      } else if (result.isDisabled()) {
+        disabled++;
+      }
+    }
+  }
+}
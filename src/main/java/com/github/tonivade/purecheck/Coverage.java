@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>Lightweight edge coverage, in the style of AFL, used by {@link GuidedGenerator} to detect the
+ * inputs that reach new code. The code under test is instrumented with probes, each one with a
+ * different id, at the beginning of each branch. The probes can be injected in the bytecode by
+ * {@link CoverageAgent}, or placed by hand:</p>
+ *
+ * <pre>
+ * if (token.isEmpty()) {
+ *   Coverage.hit(1);
+ *   ...
+ * } else {
+ *   Coverage.hit(2);
+ *   ...
+ * }
+ * </pre>
+ *
+ * <p>Each pair of consecutive probes is an edge, and the number of times each edge is executed is
+ * counted in the {@link Trace} of the guided generator that produced the input being tested. The trace
+ * is bound to the thread that requested the last input, the probes executed by any other thread are
+ * ignored, so generators used by tests running in parallel don't mix their coverage. The probes do
+ * nothing if there is no guided generator in use.</p>
+ *
+ * @author tonivade
+ */
+public final class Coverage {
+
+  private static final int SIZE = 1 << 16;
+  private static final int MASK = SIZE - 1;
+
+  private static final AtomicInteger ACTIVE = new AtomicInteger();
+  private static final ThreadLocal<Trace> CURRENT = new ThreadLocal<>();
+
+  private Coverage() { }
+
+  /**
+   * It records the execution of the given probe
+   *
+   * @param probe id of the probe, it should be unique in the code under test
+   */
+  public static void hit(int probe) {
+    if (ACTIVE.get() > 0) {
+      Trace trace = CURRENT.get();
+      if (trace != null && !trace.hit(probe)) {
+        // the trace was attached to other thread later, or detached
+        CURRENT.remove();
+      }
+    }
+  }
+
+  static Trace trace() {
+    return new Trace();
+  }
+
+  static byte[] features() {
+    return new byte[SIZE];
+  }
+
+  /**
+   * Edges executed by the thread the trace is attached to. The trace is only written by that thread,
+   * when it's attached to other thread the previous one stops writing, and it should be collected
+   * after the test finishes, it's not safe to collect it while the test is being executed.
+   */
+  static final class Trace {
+
+    private static final long NO_OWNER = -1;
+
+    private final byte[] edges = new byte[SIZE];
+    private final int[] touched = new int[SIZE];
+    private int count;
+    private int previous;
+    private volatile boolean enabled;
+    private volatile long owner = NO_OWNER;
+
+    private Trace() { }
+
+    /**
+     * It starts to record the probes executed by the current thread, and it stops recording the
+     * probes executed by the thread attached before
+     */
+    synchronized void attach() {
+      if (!enabled) {
+        enabled = true;
+        ACTIVE.incrementAndGet();
+      }
+      owner = Thread.currentThread().threadId();
+      CURRENT.set(this);
+    }
+
+    /**
+     * It stops recording, the probes are disabled when there are no traces attached
+     */
+    synchronized void detach() {
+      if (enabled) {
+        enabled = false;
+        ACTIVE.decrementAndGet();
+      }
+      owner = NO_OWNER;
+      if (CURRENT.get() == this) {
+        CURRENT.remove();
+      }
+    }
+
+    /**
+     * It merges the edges executed since the last call into the given map of features already seen,
+     * and clears the edges. A feature is an edge with a count in a bucket (1, 2, 3, 4-7, 8-15, 16-31,
+     * 32-127, 128+), so executing the same edge more times is also considered new coverage.
+     *
+     * @param seen features already seen, it will be updated
+     * @return true if some new feature has been found
+     */
+    boolean collect(byte[] seen) {
+      boolean found = false;
+      for (int i = 0; i < count; i++) {
+        int edge = touched[i];
+        int bucket = bucket(edges[edge] & 0xFF);
+        if ((seen[edge] & bucket) == 0) {
+          seen[edge] |= (byte) bucket;
+          found = true;
+        }
+        edges[edge] = 0;
+      }
+      count = 0;
+      previous = 0;
+      return found;
+    }
+
+    void reset() {
+      Arrays.fill(edges, (byte) 0);
+      count = 0;
+      previous = 0;
+    }
+
+    /**
+     * @return false if the current thread is not the owner of the trace
+     */
+    private boolean hit(int probe) {
+      if (owner != Thread.currentThread().threadId()) {
+        return false;
+      }
+      if (enabled) {
+        // scramble the id, so consecutive ids are spread over the map
+        int location = (probe * 0x9E3779B1) >>> 16;
+        int edge = (location ^ previous) & MASK;
+        byte value = edges[edge];
+        if (value == 0) {
+          // remember the edges executed, so they can be collected without scanning the whole map,
+          // every edge is added once because the counters saturate instead of overflowing to zero
+          touched[count++] = edge;
+        }
+        if (value != (byte) 0xFF) {
+          edges[edge] = (byte) (value + 1);
+        }
+        previous = location >>> 1;
+      }
+      return true;
+    }
+  }
+
+  private static int bucket(int count) {
+    if (count <= 3) {
+      return 1 << (count - 1);
+    }
+    if (count <= 7) {
+      return 1 << 3;
+    }
+    if (count <= 15) {
+      return 1 << 4;
+    }
+    if (count <= 31) {
+      return 1 << 5;
+    }
+    if (count <= 127) {
+      return 1 << 6;
+    }
+    return 1 << 7;
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck;
+
+import java.lang.instrument.Instrumentation;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * <p>Java agent that injects the probes of {@link Coverage} in the bytecode of the code under test, so
+ * it's not needed to place them by hand. The argument of the agent is a comma separated list of the
+ * packages to instrument:</p>
+ *
+ * <pre>
+ * java -javaagent:purecheck.jar=com.example.parser,com.example.lexer ...
+ * </pre>
+ *
+ * <p>The agent can be installed too in a running JVM, using {@link #install(Instrumentation, String...)}
+ * with an {@code Instrumentation} instance, only the classes loaded after that will be instrumented.</p>
+ *
+ * <p>The instrumentation needs <a href="https://asm.ow2.io">ASM</a>, that is an optional dependency, so
+ * it should be added to the classpath of the tests.</p>
+ *
+ * @author tonivade
+ */
+public final class CoverageAgent {
+
+  private CoverageAgent() { }
+
+  public static void premain(String arguments, Instrumentation instrumentation) {
+    install(instrumentation, Objects.requireNonNullElse(arguments, "").split(","));
+  }
+
+  public static void agentmain(String arguments, Instrumentation instrumentation) {
+    premain(arguments, instrumentation);
+  }
+
+  /**
+   * It instruments the classes of the given packages, and their subpackages, loaded from now on
+   *
+   * @param instrumentation the instrumentation instance
+   * @param packages names of the packages
+   */
+  public static void install(Instrumentation instrumentation, String... packages) {
+    String[] names = Arrays.stream(packages).map(String::strip).filter(name -> !name.isEmpty()).toArray(String[]::new);
+    if (names.length == 0) {
+      throw new IllegalArgumentException("the packages to instrument are required");
+    }
+    instrumentation.addTransformer(new CoverageTransformer(names));
+  }
+}
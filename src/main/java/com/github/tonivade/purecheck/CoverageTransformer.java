@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck;
+
+import java.lang.instrument.ClassFileTransformer;
+import java.security.ProtectionDomain;
+import java.util.Arrays;
+import java.util.List;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * <p>It injects a call to {@link Coverage#hit(int)} at the beginning of each method, at each branch
+ * target, the instructions with a stack map frame, and after each conditional jump, so every basic
+ * block that starts a branch is a probe. The id of each probe is derived from the name of the class,
+ * the method and the position of the probe in the method, so it's stable between executions.</p>
+ *
+ * <p>The stack map frames are not changed, a probe doesn't change the locals or the stack of the
+ * method, so only the max stack size is computed again.</p>
+ *
+ * @author tonivade
+ */
+final class CoverageTransformer implements ClassFileTransformer {
+
+  private static final String COVERAGE = "com/github/tonivade/purecheck/Coverage";
+
+  private final List<String> packages;
+
+  CoverageTransformer(String... packages) {
+    this.packages = Arrays.stream(packages).map(name -> name.replace('.', '/') + '/').toList();
+  }
+
+  // returning null means that the class is not transformed
+  @SuppressWarnings("NullAway")
+  @Override
+  public byte[] transform(ClassLoader loader, String className,
+      Class<?> classBeingRedefined, ProtectionDomain domain, byte[] bytes) {
+    if (className == null || className.equals(COVERAGE) || packages.stream().noneMatch(className::startsWith)) {
+      return null;
+    }
+    try {
+      return instrument(bytes);
+    } catch (RuntimeException e) {
+      // the class is loaded without probes instead of failing
+      return null;
+    }
+  }
+
+  static byte[] instrument(byte[] bytes) {
+    ClassReader reader = new ClassReader(bytes);
+    ClassWriter writer = new ClassWriter(reader, ClassWriter.COMPUTE_MAXS);
+    reader.accept(new ClassVisitor(Opcodes.ASM9, writer) {
+
+      private String owner = "";
+
+      @Override
+      public void visit(int version, int access, String name, String signature, String superName, String[] interfaces) {
+        owner = name;
+        super.visit(version, access, name, signature, superName, interfaces);
+      }
+
+      @Override
+      public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
+        MethodVisitor visitor = super.visitMethod(access, name, descriptor, signature, exceptions);
+        return new ProbeVisitor(visitor, (owner + '.' + name + descriptor).hashCode());
+      }
+    }, 0);
+    return writer.toByteArray();
+  }
+
+  private static final class ProbeVisitor extends MethodVisitor {
+
+    private final int method;
+    private int probes;
+
+    private ProbeVisitor(MethodVisitor visitor, int method) {
+      super(Opcodes.ASM9, visitor);
+      this.method = method;
+    }
+
+    @Override
+    public void visitCode() {
+      super.visitCode();
+      probe();
+    }
+
+    @Override
+    public void visitFrame(int type, int numLocal, Object[] local, int numStack, Object[] stack) {
+      super.visitFrame(type, numLocal, local, numStack, stack);
+      probe();
+    }
+
+    @Override
+    public void visitJumpInsn(int opcode, Label label) {
+      super.visitJumpInsn(opcode, label);
+      if (opcode != Opcodes.GOTO && opcode != Opcodes.JSR) {
+        probe();
+      }
+    }
+
+    private void probe() {
+      super.visitLdcInsn(method * 31 + probes++);
+      super.visitMethodInsn(Opcodes.INVOKESTATIC, COVERAGE, "hit", "(I)V", false);
+    }
+  }
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <p>It reads the rows of a data file to generate test cases, see {@link TestFactory#table}.</p>
+ *
+ * <p>The files are read using a memory-mapped {@code FileChannel}, mapping a window of the file each
+ * time, so the size of the file is not limited by the heap. The rows are read lazily, and the file
+ * is closed when the stream is closed.</p>
+ *
+ * @author tonivade
+ */
+@FunctionalInterface
+public interface DataSource {
+
+  int DEFAULT_WINDOW = 64 * 1024 * 1024;
+
+  /**
+   * It returns a lazy stream with the content of each row. The buffers are only valid until the
+   * next row is read.
+   *
+   * @return the stream of rows, it should be closed after use
+   */
+  Stream<ByteBuffer> rows();
+
+  default <T> Stream<T> rows(RowDecoder<T> decoder) {
+    return rows().map(decoder::decode);
+  }
+
+  /**
+   * It reads a file with rows delimited by new lines, {@code \n} or {@code \r\n}
+   *
+   * @param file the file to read
+   * @return the data source
+   */
+  static DataSource lines(Path file) {
+    return lines(file, DEFAULT_WINDOW);
+  }
+
+  /**
+   * It reads a file with rows delimited by new lines, mapping the given number of bytes each time.
+   * A row cannot be longer than the window.
+   *
+   * @param file the file to read
+   * @param window size in bytes of the mapped window
+   * @return the data source
+   */
+  static DataSource lines(Path file, int window) {
+    checkNonNull(file);
+    checkWindow(window);
+    return () -> stream(file, channel -> new LineIterator(channel, window));
+  }
+
+  /**
+   * It reads a binary file with rows of a fixed size in bytes
+   *
+   * @param file the file to read
+   * @param recordSize size in bytes of each row
+   * @return the data source
+   */
+  static DataSource records(Path file, int recordSize) {
+    return records(file, recordSize, DEFAULT_WINDOW);
+  }
+
+  static DataSource records(Path file, int recordSize, int window) {
+    checkNonNull(file);
+    checkWindow(window);
+    if (recordSize < 1 || recordSize > window) {
+      throw new IllegalArgumentException("record size should be between 1 and " + window + ": " + recordSize);
+    }
+    return () -> stream(file, channel -> new RecordIterator(channel, recordSize, window));
+  }
+
+  private static void checkWindow(int window) {
+    if (window < 1) {
+      throw new IllegalArgumentException("window should be greater than 0: " + window);
+    }
+  }
+
+  private static Stream<ByteBuffer> stream(Path file, ChannelReader reader) {
+    try {
+      FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+      try {
+        Iterator<ByteBuffer> iterator = reader.open(channel);
+        return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+            .onClose(() -> close(channel));
+      } catch (IOException | RuntimeException e) {
+        close(channel);
+        throw e;
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static void close(FileChannel channel) {
+    try {
+      channel.close();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
+
+@FunctionalInterface
+interface ChannelReader {
+  Iterator<ByteBuffer> open(FileChannel channel) throws IOException;
+}
+
+/**
+ * Base iterator that maps the file by windows
+ */
+abstract class WindowIterator implements Iterator<ByteBuffer> {
+
+  private final FileChannel channel;
+  private final long size;
+  private final int window;
+
+  private long offset;
+  private MappedByteBuffer buffer;
+
+  WindowIterator(FileChannel channel, int window) throws IOException {
+    this.channel = channel;
+    this.size = channel.size();
+    this.window = window;
+    this.buffer = map(0);
+  }
+
+  @Override
+  public boolean hasNext() {
+    return offset + buffer.position() < size;
+  }
+
+  @Override
+  public ByteBuffer next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return nextRow();
+  }
+
+  protected abstract ByteBuffer nextRow();
+
+  protected MappedByteBuffer buffer() {
+    return buffer;
+  }
+
+  protected int window() {
+    return window;
+  }
+
+  /**
+   * @return true if the current window reaches the end of the file
+   */
+  protected boolean isLastWindow() {
+    return offset + buffer.limit() >= size;
+  }
+
+  /**
+   * It maps a new window starting at the current position of the buffer
+   */
+  protected void slide() {
+    try {
+      buffer = map(offset + buffer.position());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private MappedByteBuffer map(long position) throws IOException {
+    this.offset = position;
+    return channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(window, size - position));
+  }
+}
+
+final class LineIterator extends WindowIterator {
+
+  LineIterator(FileChannel channel, int window) throws IOException {
+    super(channel, window);
+  }
+
+  @Override
+  protected ByteBuffer nextRow() {
+    while (true) {
+      MappedByteBuffer buffer = buffer();
+      int start = buffer.position();
+      for (int i = start; i < buffer.limit(); i++) {
+        if (buffer.get(i) == '\n') {
+          buffer.position(i + 1);
+          return slice(buffer, start, i);
+        }
+      }
+      if (isLastWindow()) {
+        buffer.position(buffer.limit());
+        return slice(buffer, start, buffer.limit());
+      }
+      if (start == 0) {
+        throw new IllegalStateException("row longer than the window of " + window() + " bytes");
+      }
+      slide();
+    }
+  }
+
+  private static ByteBuffer slice(MappedByteBuffer buffer, int start, int end) {
+    if (end > start && buffer.get(end - 1) == '\r') {
+      end--;
+    }
+    return buffer.slice(start, end - start).asReadOnlyBuffer();
+  }
+}
+
+final class RecordIterator extends WindowIterator {
+
+  private final int recordSize;
+
+  RecordIterator(FileChannel channel, int recordSize, int window) throws IOException {
+    super(channel, window - window % recordSize);
+    this.recordSize = recordSize;
+    if (channel.size() % recordSize != 0) {
+      throw new IllegalArgumentException(
+          "the size of the file " + channel.size() + " is not a multiple of the record size " + recordSize);
+    }
+  }
+
+  @Override
+  protected ByteBuffer nextRow() {
+    if (buffer().remaining() == 0) {
+      slide();
+    }
+    MappedByteBuffer buffer = buffer();
+    int start = buffer.position();
+    buffer.position(start + recordSize);
+    return buffer.slice(start, recordSize).asReadOnlyBuffer();
+  }
+}
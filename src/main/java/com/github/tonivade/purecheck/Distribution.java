@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+
+import com.github.tonivade.purefun.data.Sequence;
+
+/**
+ * <p>Distribution of the durations of the executions of a perf case. It keeps all the samples sorted,
+ * so any percentile can be calculated, not only the ones included by default in the {@code Stats}.</p>
+ *
+ * <p>The percentiles are calculated using the nearest rank over the sorted samples, the same way as
+ * {@link PerfCase.Stats#percentiles()}.</p>
+ *
+ * @author tonivade
+ */
+public final class Distribution {
+
+  private static final Distribution EMPTY = new Distribution(new long[0]);
+
+  private static final double[] SUMMARY = { 0, 50, 90, 95, 99, 99.9, 99.99, 100 };
+  private static final int BUCKETS = 10;
+  private static final int BAR_LENGTH = 40;
+
+  private final long[] nanos;
+
+  private Distribution(long[] nanos) {
+    this.nanos = checkNonNull(nanos);
+  }
+
+  public static Distribution empty() {
+    return EMPTY;
+  }
+
+  public static Distribution of(Sequence<Duration> samples) {
+    long[] nanos = samples.stream().mapToLong(Duration::toNanos).toArray();
+    Arrays.sort(nanos);
+    return new Distribution(nanos);
+  }
+
+  public int size() {
+    return nanos.length;
+  }
+
+  public boolean isEmpty() {
+    return nanos.length == 0;
+  }
+
+  /**
+   * It calculates the given percentile, for example {@code 99.9}, it will throw an
+   * {@code IllegalArgumentException} if the percentile is not between 0 and 100, and
+   * an {@code IllegalStateException} if the distribution is empty.
+   *
+   * @param percentile the percentile, between 0 and 100
+   * @return the duration
+   */
+  public Duration percentile(double percentile) {
+    if (percentile < 0 || percentile > 100) {
+      throw new IllegalArgumentException("percentile should be between 0 and 100: " + percentile);
+    }
+    if (isEmpty()) {
+      throw new IllegalStateException("empty distribution");
+    }
+    return Duration.ofNanos(nanos[(int) Math.round(percentile / 100.0 * (nanos.length - 1))]);
+  }
+
+  /**
+   * Standard deviation of the samples
+   *
+   * @return the jitter
+   */
+  public Duration jitter() {
+    if (isEmpty()) {
+      return Duration.ZERO;
+    }
+    double mean = Arrays.stream(nanos).average().orElse(0);
+    double variance = Arrays.stream(nanos).mapToDouble(n -> (n - mean) * (n - mean)).average().orElse(0);
+    return Duration.ofNanos((long) Math.sqrt(variance));
+  }
+
+  /**
+   * It prints the main percentiles and a histogram of the samples, with logarithmic buckets
+   * between the min and the max value.
+   */
+  @Override
+  public String toString() {
+    if (isEmpty()) {
+      return "Distribution[empty]";
+    }
+    StringBuilder output = new StringBuilder("Distribution[samples=").append(nanos.length).append(",jitter=")
+        .append(jitter()).append(']');
+    for (double percentile : SUMMARY) {
+      output.append(String.format(Locale.ROOT, "%n  p%-6s %s", format(percentile), percentile(percentile)));
+    }
+    long min = Math.max(1, nanos[0]);
+    long max = Math.max(min + 1, nanos[nanos.length - 1]);
+    double ratio = Math.pow((double) max / min, 1.0 / BUCKETS);
+    long[] counts = new long[BUCKETS];
+    for (long value : nanos) {
+      int bucket = (int) (Math.log((double) Math.max(value, min) / min) / Math.log(ratio));
+      counts[Math.min(bucket, BUCKETS - 1)]++;
+    }
+    long highest = Arrays.stream(counts).max().orElse(1);
+    for (int i = 0; i < BUCKETS; i++) {
+      long upper = (long) Math.ceil(min * Math.pow(ratio, i + 1.0));
+      int length = (int) (counts[i] * BAR_LENGTH / highest);
+      output.append(String.format(Locale.ROOT, "%n  <= %-18s %8d %s", Duration.ofNanos(upper), counts[i], "#".repeat(length)));
+    }
+    return output.toString();
+  }
+
+  private static String format(double percentile) {
+    return percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile);
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.github.tonivade.purefun.type.Option;
+
+/**
+ * <p>Historical durations of the test cases, identified by the name of the suite and the name of the test.</p>
+ *
+ * <p>They are recorded while the tests are executed, and they can be stored in a properties file to balance the
+ * tests between shards in the next execution.</p>
+ *
+ * @author tonivade
+ */
+public final class Durations {
+
+  private final Map<String, Long> nanos;
+
+  private Durations(Map<String, Long> nanos) {
+    this.nanos = new ConcurrentHashMap<>(checkNonNull(nanos));
+  }
+
+  public static Durations empty() {
+    return new Durations(Map.of());
+  }
+
+  /**
+   * It loads the durations from a properties file, if the file doesn't exist it returns an empty instance
+   *
+   * @param file properties file
+   * @return the loaded durations
+   */
+  public static Durations load(Path file) {
+    if (!Files.exists(file)) {
+      return empty();
+    }
+    Properties properties = new Properties();
+    try (var reader = Files.newBufferedReader(file, UTF_8)) {
+      properties.load(reader);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    Map<String, Long> nanos = new TreeMap<>();
+    properties.forEach((key, value) -> nanos.put(key.toString(), Long.parseLong(value.toString())));
+    return new Durations(nanos);
+  }
+
+  /**
+   * It stores the durations in a properties file
+   *
+   * @param file properties file
+   */
+  public void save(Path file) {
+    Properties properties = new Properties();
+    nanos.forEach((key, value) -> properties.setProperty(key, String.valueOf(value)));
+    try (var writer = Files.newBufferedWriter(file, UTF_8)) {
+      properties.store(writer, "purecheck durations in nanoseconds");
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  public Option<Duration> get(String suite, String test) {
+    return Option.of(nanos.get(key(suite, test))).map(Duration::ofNanos);
+  }
+
+  public Durations merge(Durations other) {
+    Map<String, Long> merged = new TreeMap<>(nanos);
+    merged.putAll(other.nanos);
+    return new Durations(merged);
+  }
+
+  public int size() {
+    return nanos.size();
+  }
+
+  void record(String suite, String test, long duration) {
+    nanos.put(key(suite, test), duration);
+  }
+
+  Map<String, Long> asMap() {
+    return Map.copyOf(nanos);
+  }
+
+  static Durations from(Map<String, Long> nanos) {
+    return new Durations(nanos);
+  }
+
+  private static String key(String suite, String test) {
+    return suite + "/" + test;
+  }
+
+  @Override
+  public String toString() {
+    return "Durations" + new TreeMap<>(nanos);
+  }
+}
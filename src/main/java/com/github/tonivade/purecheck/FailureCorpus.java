@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.github.tonivade.purefun.Kind;
+import com.github.tonivade.purefun.core.Function1;
+import com.github.tonivade.purefun.core.Producer;
+import com.github.tonivade.purefun.data.ImmutableList;
+import com.github.tonivade.purefun.data.Sequence;
+import com.github.tonivade.purefun.data.SequenceOf;
+import com.github.tonivade.purefun.type.Either;
+import com.github.tonivade.purefun.type.Option;
+import com.github.tonivade.purefun.typeclasses.Instances;
+import com.github.tonivade.purefun.typeclasses.MonadDefer;
+
+/**
+ * <p>On-disk corpus of the inputs that made a property fail.</p>
+ *
+ * <p>When a repeated test case fails or throws an unexpected error, the input is serialized in a
+ * directory for the test case, identified by the name of the test and the class where it was defined.
+ * The next time the property is repeated, all the inputs of the corpus are replayed first, before the
+ * new random inputs, so the known regressions are detected as soon as possible.</p>
+ *
+ * <p>Only the inputs that implement {@code Serializable} are stored. The inputs are deserialized with
+ * a filter that only accepts the classes of {@code java.lang}, {@code java.util}, {@code java.time},
+ * {@code java.math}, purefun and purecheck, and the classes in the package, or subpackages, of the class
+ * where the test was defined. More patterns can be added with the system property
+ * {@code purecheck.corpus.filter}, using the syntax of {@link ObjectInputFilter.Config#createFilter(String)}.
+ * The inputs rejected by the filter are ignored, but kept in the corpus.</p>
+ *
+ * <p>If the type of the input of the test changes, the stored inputs that don't match the new type are
+ * removed from the corpus when they are replayed.</p>
+ *
+ * @author tonivade
+ */
+public final class FailureCorpus {
+
+  private static final String CORPUS_PROPERTY = "purecheck.corpus";
+  private static final String FILTER_PROPERTY = "purecheck.corpus.filter";
+  private static final String EXTENSION = ".input";
+  private static final String LIMITS = "maxdepth=32;maxrefs=100000;maxarray=1000000;maxbytes=10000000";
+  private static final String ALLOWED =
+      "java.lang.*;java.util.*;java.time.*;java.math.*;com.github.tonivade.purefun.**;com.github.tonivade.purecheck.**";
+
+  private final Path directory;
+
+  private FailureCorpus(Path directory) {
+    this.directory = checkNonNull(directory);
+  }
+
+  /**
+   * It creates a new corpus that stores the inputs in the given directory
+   *
+   * @param directory directory where the inputs are going to be stored
+   * @return a new corpus
+   */
+  public static FailureCorpus onDisk(Path directory) {
+    try {
+      return new FailureCorpus(Files.createDirectories(directory));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * It creates a new corpus if the system property {@code purecheck.corpus} is defined with the
+   * directory to use.
+   *
+   * @return a corpus if it's enabled
+   */
+  public static Option<FailureCorpus> fromSystemProperty() {
+    return Option.of(System.getProperty(CORPUS_PROPERTY)).map(Path::of).map(FailureCorpus::onDisk);
+  }
+
+  String key(String name, Class<?> clazz) {
+    return sha256((clazz.getName() + '\0' + name).getBytes(UTF_8));
+  }
+
+  /**
+   * It returns the inputs stored for the given test, the inputs that cannot be read are removed
+   *
+   * @param key key of the test
+   * @param owner class where the test was defined
+   * @return the inputs
+   */
+  @SuppressWarnings("unchecked")
+  <T> Sequence<T> load(String key, Class<?> owner) {
+    return ImmutableList.from(stored(key, owner).stream().map(stored -> (T) stored.input()).toList());
+  }
+
+  /**
+   * It executes the test with each one of the inputs stored for the given test. The inputs whose type
+   * doesn't match the type expected by the test, because the test has changed, are removed and they
+   * are not included in the results.
+   *
+   * @param monad monad instance
+   * @param key key of the test
+   * @param owner class where the test was defined
+   * @param test the test to execute with each input
+   * @return the results
+   */
+  @SuppressWarnings("unchecked")
+  <F extends Kind<F, ?>, E, T, R> Kind<F, Sequence<TestResult<E, T, R>>> replay(
+      MonadDefer<F> monad, String key, Class<?> owner, Function1<T, ? extends Kind<F, TestResult<E, T, R>>> test) {
+    return monad.flatMap(monad.later(() -> stored(key, owner)), inputs -> {
+      var results = ImmutableList.from(inputs).map(stored -> replay(monad, stored, () -> test.apply((T) stored.input())));
+      var sequence = Instances.<Sequence<?>>traverse().sequence(monad, results);
+      return monad.map(sequence, xs -> SequenceOf.toSequence(xs).filter(Option::isPresent).map(Option::getOrElseThrow));
+    });
+  }
+
+  private <F extends Kind<F, ?>, E, T, R> Kind<F, Option<TestResult<E, T, R>>> replay(
+      MonadDefer<F> monad, Stored stored, Producer<? extends Kind<F, TestResult<E, T, R>>> test) {
+    Kind<F, Either<Throwable, TestResult<E, T, R>>> result = monad.attempt(monad.defer(test));
+    return monad.flatMap(result, either -> {
+      Option<Throwable> error = either.fold(Option::some, FailureCorpus::cause);
+      if (error.filter(e -> mismatch(e, stored.input())).isPresent()) {
+        return monad.later(() -> {
+          remove(stored.file());
+          return Option.<TestResult<E, T, R>>none();
+        });
+      }
+      return either.fold(monad::<Option<TestResult<E, T, R>>>raiseError, r -> monad.pure(Option.some(r)));
+    });
+  }
+
+  private List<Stored> stored(String key, Class<?> owner) {
+    Path folder = directory.resolve(key);
+    if (!Files.isDirectory(folder)) {
+      return List.of();
+    }
+    ObjectInputFilter filter = filter(owner, FILTER_PROPERTY);
+    List<Stored> inputs = new ArrayList<>();
+    try (Stream<Path> files = Files.list(folder)) {
+      for (Path file : files.filter(file -> file.toString().endsWith(EXTENSION)).sorted().toList()) {
+        try (var input = new ObjectInputStream(Files.newInputStream(file))) {
+          input.setObjectInputFilter(filter);
+          inputs.add(new Stored(file, input.readObject()));
+        } catch (InvalidClassException e) {
+          // rejected by the filter or serialized with an incompatible version of the class, it's kept
+          // in case the filter or the class change again
+        } catch (IOException | ClassNotFoundException e) {
+          remove(file);
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return inputs;
+  }
+
+  /**
+   * It creates the filter used to deserialize the values stored by the tests defined in the given class
+   *
+   * @param owner class where the test was defined
+   * @param property system property with more patterns to accept
+   * @return the filter
+   */
+  static ObjectInputFilter filter(Class<?> owner, String property) {
+    String patterns = Stream.of(LIMITS, ALLOWED, owner.getPackageName() + ".**", System.getProperty(property, ""), "!*")
+        .filter(pattern -> !pattern.isBlank())
+        .collect(Collectors.joining(";"));
+    return ObjectInputFilter.Config.createFilter(patterns);
+  }
+
+  /**
+   * The input is cast to the type expected by the test when the test is executed, so the
+   * {@code ClassCastException} mentions the class of the input.
+   */
+  private static boolean mismatch(Throwable error, Object input) {
+    return error instanceof ClassCastException
+        && String.valueOf(error.getMessage()).startsWith("class " + input.getClass().getName() + " cannot be cast");
+  }
+
+  private static Option<Throwable> cause(TestResult<?, ?, ?> result) {
+    if (result instanceof TestResult.Error<?, ?, ?> error && error.error().isRight()) {
+      return Option.some(error.error().getRight());
+    }
+    return Option.none();
+  }
+
+  /**
+   * It stores the input of the result if it's a failure or an error
+   *
+   * @param key key of the test
+   * @param result the result of the test
+   * @return the same result
+   */
+  <E, T, R> TestResult<E, T, R> record(String key, TestResult<E, T, R> result) {
+    Option<Object> input = input(result);
+    if (input.isPresent()) {
+      write(directory.resolve(key), input.getOrElseThrow());
+    }
+    return result;
+  }
+
+  private static Option<Object> input(TestResult<?, ?, ?> result) {
+    return switch (result) {
+      case TestResult.Failure<?, ?, ?> failure -> Option.of(failure.input());
+      case TestResult.Error<?, ?, ?> error -> Option.of(error.input());
+      case TestResult.Retried<?, ?, ?> retried -> input(retried.result());
+      default -> Option.none();
+    };
+  }
+
+  private static void write(Path folder, Object input) {
+    if (!(input instanceof Serializable)) {
+      return;
+    }
+    try {
+      var bytes = new ByteArrayOutputStream();
+      try (var output = new ObjectOutputStream(bytes)) {
+        output.writeObject(input);
+      } catch (IOException e) {
+        // input not serializable, it cannot be stored
+        return;
+      }
+      // the name of the file is the hash of the content, so the same input is stored only once
+      Path file = Files.createDirectories(folder).resolve(sha256(bytes.toByteArray()) + EXTENSION);
+      if (!Files.exists(file)) {
+        Path temp = Files.createTempFile(folder, "input", ".tmp");
+        Files.write(temp, bytes.toByteArray());
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      }
+    } catch (IOException e) {
+      // nothing to do, the input will be stored the next time it fails
+    }
+  }
+
+  private static void remove(Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      // nothing to do, it will be ignored next time
+    }
+  }
+
+  private record Stored(Path file, Object input) { }
+
+  private static String sha256(byte[] value) {
+    try {
+      return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(value));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
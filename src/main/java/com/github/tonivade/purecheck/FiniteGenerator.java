@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.github.tonivade.purefun.core.Function1;
+import com.github.tonivade.purefun.data.ImmutableList;
+import com.github.tonivade.purefun.data.Sequence;
+
+/**
+ * <p>Generator of a small domain of values that can be enumerated. As a generator it returns a
+ * random value of the domain, but when a property is repeated at least as many times as the size
+ * of the domain, each value is tested exactly once instead of sampling with duplicates:</p>
+ *
+ * <pre>
+ * it.should("encode any byte")
+ *   .given(Generator.bytes())
+ *   .when(Encoder::encode)
+ *   .then(...)
+ *   .repeat(1000); // only 256 executions
+ * </pre>
+ *
+ * @author tonivade
+ *
+ * @param <T> type of the values generated
+ */
+public final class FiniteGenerator<T> implements Generator<T> {
+
+  private final int size;
+  private final Function1<Integer, T> element;
+
+  FiniteGenerator(int size, Function1<Integer, T> element) {
+    if (size <= 0) {
+      throw new IllegalArgumentException("size should be greater than zero: " + size);
+    }
+    this.size = size;
+    this.element = checkNonNull(element);
+  }
+
+  @Override
+  public T run() {
+    return element.apply(ThreadLocalRandom.current().nextInt(size));
+  }
+
+  /**
+   * Number of values of the domain
+   *
+   * @return the size of the domain
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * All the values of the domain, in order
+   *
+   * @return the values
+   */
+  public Sequence<T> values() {
+    List<T> values = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      values.add(element.apply(i));
+    }
+    return ImmutableList.from(values);
+  }
+}
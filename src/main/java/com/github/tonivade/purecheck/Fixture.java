@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.github.tonivade.purefun.Kind;
+import com.github.tonivade.purefun.core.Consumer1;
+import com.github.tonivade.purefun.core.Producer;
+import com.github.tonivade.purefun.data.Sequence;
+import com.github.tonivade.purefun.type.Option;
+import com.github.tonivade.purefun.typeclasses.MonadDefer;
+
+/**
+ * <p>It defines a resource shared by the tests of a suite.</p>
+ *
+ * <p>The resource is created lazily the first time it is requested and it is reused by all the tests
+ * and repetitions, even if they are executed in parallel. Once the suite finishes, successfully or not,
+ * the resource is released and it will be created again if it is requested later. If the same fixture
+ * is used by several suites running at the same time, it's released when the last one finishes.</p>
+ *
+ * @author tonivade
+ *
+ * @param <T> type of the resource
+ */
+public final class Fixture<T> {
+
+  private final Lock lock = new ReentrantLock();
+
+  private final Producer<T> setup;
+  private final Consumer1<? super T> release;
+
+  private volatile Option<T> value = Option.none();
+  private int users;
+
+  private Fixture(Producer<T> setup, Consumer1<? super T> release) {
+    this.setup = checkNonNull(setup);
+    this.release = checkNonNull(release);
+  }
+
+  /**
+   * It returns the resource, it will be created if it doesn't exist yet.
+   *
+   * @return the resource
+   */
+  public T get() {
+    Option<T> current = value;
+    if (current.isEmpty()) {
+      lock.lock();
+      try {
+        current = value;
+        if (current.isEmpty()) {
+          current = Option.some(checkNonNull(setup.get()));
+          value = current;
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+    return current.getOrElseThrow();
+  }
+
+  /**
+   * It releases the resource if it was created and it's not used by any running suite.
+   */
+  public void release() {
+    lock.lock();
+    try {
+      if (users == 0) {
+        dispose();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void open() {
+    lock.lock();
+    try {
+      users++;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void close() {
+    lock.lock();
+    try {
+      users--;
+      if (users == 0) {
+        dispose();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void dispose() {
+    Option<T> current = value;
+    value = Option.none();
+    if (current.isPresent()) {
+      release.accept(current.getOrElseThrow());
+    }
+  }
+
+  public static <T> Fixture<T> of(Producer<T> setup) {
+    return of(setup, ignore -> {});
+  }
+
+  public static <T> Fixture<T> of(Producer<T> setup, Consumer1<? super T> release) {
+    return new Fixture<>(setup, release);
+  }
+
+  /**
+   * Fixtures used by a suite, they are acquired when the suite starts and released when it finishes,
+   * even if the execution fails or it's cancelled.
+   *
+   * @param <F> type of the kind
+   */
+  static final class Scope<F extends Kind<F, ?>> {
+
+    private final Option<MonadDefer<F>> monad;
+    private final Sequence<? extends Fixture<?>> fixtures;
+
+    private Scope(Option<MonadDefer<F>> monad, Sequence<? extends Fixture<?>> fixtures) {
+      this.monad = checkNonNull(monad);
+      this.fixtures = checkNonNull(fixtures);
+    }
+
+    static <F extends Kind<F, ?>> Scope<F> empty() {
+      return new Scope<>(Option.none(), Sequence.emptyList());
+    }
+
+    static <F extends Kind<F, ?>> Scope<F> of(MonadDefer<F> monad, Sequence<? extends Fixture<?>> fixtures) {
+      return new Scope<>(Option.some(monad), fixtures);
+    }
+
+    <A> Kind<F, A> use(Kind<F, A> value) {
+      if (monad.isEmpty() || fixtures.isEmpty()) {
+        return value;
+      }
+      MonadDefer<F> defer = monad.getOrElseThrow();
+      Consumer1<Sequence<? extends Fixture<?>>> close = xs -> xs.forEach(Fixture::close);
+      return defer.bracket(defer.later(this::open), ignore -> value, close);
+    }
+
+    void release() {
+      fixtures.forEach(Fixture::release);
+    }
+
+    private Sequence<? extends Fixture<?>> open() {
+      Deque<Fixture<?>> opened = new ArrayDeque<>();
+      try {
+        for (Fixture<?> fixture : fixtures) {
+          fixture.open();
+          opened.push(fixture);
+        }
+        return fixtures;
+      } catch (RuntimeException | Error e) {
+        // bracket never calls close if the acquire fails, so the fixtures already acquired are released here
+        while (!opened.isEmpty()) {
+          try {
+            opened.pop().close();
+          } catch (RuntimeException | Error suppressed) {
+            e.addSuppressed(suppressed);
+          }
+        }
+        throw e;
+      }
+    }
+  }
+}
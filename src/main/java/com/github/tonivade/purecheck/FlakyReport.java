@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonEmpty;
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+
+import java.time.Duration;
+
+import com.github.tonivade.purefun.data.Sequence;
+
+/**
+ * <p>It describes the report generated by the flakiness detection of a test suite.</p>
+ *
+ * <p>Every test of the suite is executed several times, in parallel and in a different order each time. The tests
+ * that sometimes pass and sometimes not are considered unstable, and they are quarantined in a different section
+ * of the report.</p>
+ *
+ * @author tonivade
+ */
+public final class FlakyReport {
+
+  private final String name;
+  private final long seed;
+  private final Sequence<Stats> stats;
+
+  public FlakyReport(String name, long seed, Sequence<Stats> stats) {
+    this.name = checkNonEmpty(name);
+    this.seed = seed;
+    this.stats = checkNonNull(stats);
+  }
+
+  public Sequence<Stats> stable() {
+    return stats.filterNot(Stats::isUnstable);
+  }
+
+  public Sequence<Stats> quarantined() {
+    return stats.filter(Stats::isUnstable);
+  }
+
+  /**
+   * It will throw an {@code AssertionError} if any test is unstable
+   */
+  public void assertion() {
+    var quarantined = quarantined();
+    if (!quarantined.isEmpty()) {
+      throw new AssertionError("unstable tests found with seed " + seed + ": " + quarantined.map(Stats::name).join(","));
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "## " + name + " (seed " + seed + ")\n\n"
+        + stable().join("\n- ", "### stable\n\n- ", "\n") + "\n"
+        + quarantined().join("\n- ", "### quarantined\n\n- ", "\n");
+  }
+
+  /**
+   * Statistics of the executions of a test
+   *
+   * @param name name of the test
+   * @param runs number of executions
+   * @param passes number of executions without failures or errors
+   * @param mean mean duration of the executions
+   * @param deviation standard deviation of the durations of the executions
+   */
+  public record Stats(String name, int runs, int passes, Duration mean, Duration deviation) {
+
+    public Stats {
+      checkNonEmpty(name);
+      checkNonNull(mean);
+      checkNonNull(deviation);
+    }
+
+    public double passRate() {
+      return runs > 0 ? (double) passes / runs : 0.0;
+    }
+
+    public boolean isUnstable() {
+      return passes > 0 && passes < runs;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("test '%s' passed %d of %d (%.2f%%) mean=%s deviation=%s",
+          name, passes, runs, passRate() * 100.0, mean, deviation);
+    }
+  }
+}
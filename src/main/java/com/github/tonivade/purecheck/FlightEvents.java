@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck;
+
+import static com.github.tonivade.purefun.core.Unit.unit;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+
+import com.github.tonivade.purefun.Kind;
+import com.github.tonivade.purefun.core.Producer;
+import com.github.tonivade.purefun.typeclasses.Monad;
+import com.github.tonivade.purefun.typeclasses.MonadDefer;
+
+import jdk.jfr.Category;
+import jdk.jfr.Configuration;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Recording;
+import jdk.jfr.Timespan;
+
+/**
+ * <p>JDK Flight Recorder events emitted during the execution of the tests, suites and perf cases, so
+ * they can be correlated with the JIT, GC or lock events of the same recording.</p>
+ *
+ * <p>The effects are only instrumented if the flight recorder has been initialized when the tests
+ * are created, for example using {@code -XX:StartFlightRecording}, otherwise they are left as they are.</p>
+ *
+ * @author tonivade
+ */
+final class FlightEvents {
+
+  private static final String CATEGORY = "PureCheck";
+  private static final String CONFIGURATION = "profile";
+
+  private FlightEvents() { }
+
+  static <F extends Kind<F, ?>, E, T, R> Kind<F, TestResult<E, T, R>> testCase(
+      Monad<F> monad, String name, Kind<F, TestResult<E, T, R>> test) {
+    return record(monad, test, TestCaseEvent::new, (event, result) -> {
+      event.name = name;
+      event.outcome = outcome(result);
+    });
+  }
+
+  static <F extends Kind<F, ?>, E> Kind<F, TestSuite.Report<E>> property(
+      Monad<F> monad, String name, Kind<F, TestSuite.Report<E>> test) {
+    return record(monad, test, PropertyEvent::new, (event, report) -> {
+      event.name = name;
+      event.samples = (int) report.total();
+      event.failures = (int) report.failures();
+      event.errors = (int) report.errors();
+    });
+  }
+
+  static <F extends Kind<F, ?>, E> Kind<F, TestSuite.Report<E>> suite(
+      Monad<F> monad, String name, boolean parallel, Kind<F, TestSuite.Report<E>> suite) {
+    return record(monad, suite, SuiteEvent::new, (event, report) -> {
+      event.name = name;
+      event.parallel = parallel;
+      event.tests = (int) report.total();
+      event.failures = (int) report.failures();
+      event.errors = (int) report.errors();
+    });
+  }
+
+  static <F extends Kind<F, ?>, A> Kind<F, A> warmup(Monad<F> monad, String name, Kind<F, A> warmup) {
+    return record(monad, warmup, PerfBatchEvent::new, (event, ignore) -> {
+      event.name = name;
+      event.phase = "warmup";
+    });
+  }
+
+  static <F extends Kind<F, ?>> Kind<F, PerfCase.Stats> measure(
+      Monad<F> monad, String name, int samples, Kind<F, PerfCase.Stats> measure) {
+    return record(monad, measure, PerfBatchEvent::new, (event, stats) -> {
+      event.name = name;
+      event.phase = "measure";
+      event.samples = samples;
+      event.min = stats.min().toNanos();
+      event.mean = stats.mean().toNanos();
+      event.max = stats.max().toNanos();
+    });
+  }
+
+  /**
+   * It initializes the flight recorder, so the effects created after are instrumented
+   */
+  static void initialize() {
+    FlightRecorder.getFlightRecorder();
+  }
+
+  /**
+   * It starts a new recording before the execution of the perf case, and it stops it at the end. The
+   * recording is stored in the given directory and the path is attached to the stats.
+   */
+  static <F extends Kind<F, ?>> Kind<F, PerfCase.Stats> recording(
+      MonadDefer<F> monad, String name, Path directory, Kind<F, PerfCase.Stats> measure) {
+    return recorded(monad, () -> start(name), measure,
+        (recording, stats) -> stats.withRecording(stop(recording, directory.resolve(fileName(name, ".jfr")))));
+  }
+
+  /**
+   * It executes the task while the recording is running, if the task fails the recording is discarded,
+   * otherwise the recording is passed to the finish function to be stopped and processed.
+   */
+  static <F extends Kind<F, ?>, A> Kind<F, A> recorded(
+      MonadDefer<F> monad, Producer<Recording> start, Kind<F, A> task, BiFunction<Recording, A, A> finish) {
+    return monad.flatMap(monad.later(start), recording -> monad.flatMap(monad.attempt(task), result -> {
+      if (result.isLeft()) {
+        recording.close();
+        return monad.<A>raiseError(result.getLeft());
+      }
+      return monad.later(() -> finish.apply(recording, result.getRight()));
+    }));
+  }
+
+  static String fileName(String name, String extension) {
+    return name.replaceAll("[^A-Za-z0-9._-]", "_") + "-" + System.currentTimeMillis() + extension;
+  }
+
+  private static Recording start(String name) {
+    try {
+      Recording recording = new Recording(Configuration.getConfiguration(CONFIGURATION));
+      recording.setName("purecheck " + name);
+      recording.start();
+      return recording;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } catch (ParseException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  static Path stop(Recording recording, Path file) {
+    try (recording) {
+      recording.stop();
+      Files.createDirectories(file.toAbsolutePath().getParent());
+      recording.dump(file);
+      return file;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static <F extends Kind<F, ?>, A, V extends Event> Kind<F, A> record(
+      Monad<F> monad, Kind<F, A> task, Producer<V> factory, BiConsumer<V, A> fill) {
+    if (!FlightRecorder.isInitialized()) {
+      return task;
+    }
+    return monad.flatMap(monad.pure(unit()), ignore -> {
+      V event = factory.get();
+      event.begin();
+      return monad.map(task, value -> {
+        event.end();
+        if (event.shouldCommit()) {
+          fill.accept(event, value);
+          event.commit();
+        }
+        return value;
+      });
+    });
+  }
+
+  private static String outcome(TestResult<?, ?, ?> result) {
+    if (result.isFailure()) {
+      return "failure";
+    }
+    if (result.isError()) {
+      return "error";
+    }
+    if (result.isDisabled()) {
+      return "disabled";
+    }
+    return "success";
+  }
+
+  @Name("com.github.tonivade.purecheck.TestCase")
+  @Label("Test Case")
+  @Category(CATEGORY)
+  @Description("Execution of a test case")
+  static final class TestCaseEvent extends Event {
+
+    @Label("Name")
+    String name = "";
+
+    @Label("Outcome")
+    String outcome = "";
+  }
+
+  @Name("com.github.tonivade.purecheck.Property")
+  @Label("Property")
+  @Category(CATEGORY)
+  @Description("Execution of all the samples of a property")
+  static final class PropertyEvent extends Event {
+
+    @Label("Name")
+    String name = "";
+
+    @Label("Samples")
+    int samples;
+
+    @Label("Failures")
+    int failures;
+
+    @Label("Errors")
+    int errors;
+  }
+
+  @Name("com.github.tonivade.purecheck.Suite")
+  @Label("Suite")
+  @Category(CATEGORY)
+  @Description("Execution of a test suite")
+  static final class SuiteEvent extends Event {
+
+    @Label("Name")
+    String name = "";
+
+    @Label("Parallel")
+    boolean parallel;
+
+    @Label("Tests")
+    int tests;
+
+    @Label("Failures")
+    int failures;
+
+    @Label("Errors")
+    int errors;
+  }
+
+  @Name("com.github.tonivade.purecheck.PerfBatch")
+  @Label("Perf Batch")
+  @Category(CATEGORY)
+  @Description("Execution of a batch of samples of a perf case, the warmup or the measurement")
+  static final class PerfBatchEvent extends Event {
+
+    @Label("Name")
+    String name = "";
+
+    @Label("Phase")
+    String phase = "";
+
+    @Label("Samples")
+    int samples;
+
+    @Label("Min")
+    @Timespan
+    long min;
+
+    @Label("Mean")
+    @Timespan
+    long mean;
+
+    @Label("Max")
+    @Timespan
+    long max;
+  }
+}
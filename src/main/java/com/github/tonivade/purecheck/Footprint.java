@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonEmpty;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.Locale;
+
+import com.github.tonivade.purefun.core.Validator;
+import com.github.tonivade.purefun.type.Validation;
+
+/**
+ * <p>Retained heap of the values returned by a perf case, see {@link PerfCase#footprint(int)}.</p>
+ *
+ * <p>It's measured as the difference of the used heap, after forcing a full garbage collection, before
+ * and after building the given number of instances, keeping all of them reachable. The more instances
+ * are built, the less relevant is the noise of the measure.</p>
+ *
+ * <pre>
+ * it.should("retain less than 64 bytes per element")
+ *   .given(100)
+ *   .whenK(perfCase::footprint)
+ *   .then(Footprint.atMostPerElement(1000, 64));
+ * </pre>
+ *
+ * @param name name of the perf case
+ * @param instances number of instances retained during the measure
+ * @param retained bytes retained by all the instances
+ *
+ * @author tonivade
+ */
+public record Footprint(String name, int instances, long retained) {
+
+  private static final int MAX_COLLECTIONS = 20;
+  private static final int STABLE_COLLECTIONS = 2;
+
+  public Footprint {
+    checkNonEmpty(name);
+    if (instances < 1) {
+      throw new IllegalArgumentException("at least one instance is required: " + instances);
+    }
+  }
+
+  public long getBytesPerInstance() {
+    return retained / instances;
+  }
+
+  public double getBytesPerElement(int elements) {
+    return (double) retained / instances / elements;
+  }
+
+  /**
+   * The bytes retained by each instance should be lower or equal than the given value
+   *
+   * @param max max bytes by instance
+   * @return the validator
+   */
+  public static Validator<String, Footprint> atMost(long max) {
+    return footprint -> footprint.getBytesPerInstance() > max
+        ? Validation.invalid("retained " + footprint.getBytesPerInstance() + " bytes per instance, expected at most " + max + "\n" + footprint)
+        : Validation.valid(footprint);
+  }
+
+  /**
+   * The bytes retained by each element of the instances should be lower or equal than the given value,
+   * useful to check the overhead of collections and caches with the given number of elements
+   *
+   * @param elements number of elements of each instance
+   * @param max max bytes by element
+   * @return the validator
+   */
+  public static Validator<String, Footprint> atMostPerElement(int elements, double max) {
+    if (elements < 1) {
+      throw new IllegalArgumentException("at least one element is required: " + elements);
+    }
+    return footprint -> footprint.getBytesPerElement(elements) > max
+        ? Validation.invalid(String.format(Locale.ROOT, "retained %.2f bytes per element, expected at most %.2f%n%s",
+            footprint.getBytesPerElement(elements), max, footprint))
+        : Validation.valid(footprint);
+  }
+
+  @Override
+  public String toString() {
+    return "Footprint[name=" + name + ",instances=" + instances + ",retained=" + retained
+        + ",bytesPerInstance=" + getBytesPerInstance() + "]";
+  }
+
+  /**
+   * It forces a garbage collection until the used heap doesn't decrease for some consecutive
+   * collections, and returns the lowest value seen
+   *
+   * @return bytes used in the heap
+   */
+  static long usedHeap() {
+    MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    long used = Long.MAX_VALUE;
+    int stable = 0;
+    for (int i = 0; i < MAX_COLLECTIONS && stable < STABLE_COLLECTIONS; i++) {
+      System.gc();
+      long current = memory.getHeapMemoryUsage().getUsed();
+      if (current < used) {
+        used = current;
+        stable = 0;
+      } else {
+        stable++;
+      }
+    }
+    return used;
+  }
+}
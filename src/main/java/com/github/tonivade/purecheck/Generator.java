@@ -4,13 +4,158 @@
  */
 package com.github.tonivade.purecheck;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
 
+import com.github.tonivade.purefun.core.Function1;
 import com.github.tonivade.purefun.core.Producer;
+import com.github.tonivade.purefun.data.ImmutableList;
 
 public interface Generator<T> extends Producer<T> {
 
   static Generator<Integer> randomInt() {
     return () -> ThreadLocalRandom.current().nextInt();
   }
+
+  static Generator<String> randomString(int maxLength) {
+    return () -> {
+      ThreadLocalRandom current = ThreadLocalRandom.current();
+      char[] chars = new char[current.nextInt(maxLength + 1)];
+      for (int i = 0; i < chars.length; i++) {
+        chars[i] = (char) current.nextInt(Byte.MAX_VALUE + 1);
+      }
+      return new String(chars);
+    };
+  }
+
+  /**
+   * It creates a generator that returns the boundary values 0, 1, -1, {@code Integer.MIN_VALUE}
+   * and {@code Integer.MAX_VALUE} much more often than a uniform random generator
+   *
+   * @return the generator
+   */
+  static Generator<Integer> biasedInt() {
+    return biased(randomInt(), oneOf(0, 1, -1, Integer.MIN_VALUE, Integer.MAX_VALUE));
+  }
+
+  /**
+   * It creates a generator of strings that returns empty strings and strings of a single character
+   * much more often than a uniform random generator
+   *
+   * @param maxLength max length of the strings
+   * @return the generator
+   */
+  static Generator<String> biasedString(int maxLength) {
+    return biased(randomString(maxLength), randomString(Math.min(maxLength, 1)));
+  }
+
+  /**
+   * It creates a generator of lists that returns empty lists and lists of a single element much more
+   * often than a uniform random generator
+   *
+   * @param item generator of the elements of the list
+   * @param maxSize max size of the lists
+   * @return the generator
+   */
+  static <T> Generator<ImmutableList<T>> biasedList(Generator<T> item, int maxSize) {
+    return biased(randomList(item, maxSize), randomList(item, Math.min(maxSize, 1)));
+  }
+
+  /**
+   * It creates a generator of lists of random size
+   *
+   * @param item generator of the elements of the list
+   * @param maxSize max size of the lists
+   * @return the generator
+   */
+  static <T> Generator<ImmutableList<T>> randomList(Generator<T> item, int maxSize) {
+    return () -> {
+      int size = ThreadLocalRandom.current().nextInt(maxSize + 1);
+      List<T> list = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        list.add(item.get());
+      }
+      return ImmutableList.from(list);
+    };
+  }
+
+  /**
+   * It creates a generator that returns a value of the edge cases generator one out of four times,
+   * and a value of the random generator otherwise
+   *
+   * @param random generator of random values
+   * @param edgeCases generator of the edge cases, like boundaries or empty values
+   * @return the generator
+   */
+  static <T> Generator<T> biased(Generator<T> random, Generator<T> edgeCases) {
+    return () -> ThreadLocalRandom.current().nextInt(4) == 0 ? edgeCases.get() : random.get();
+  }
+
+  /**
+   * It creates a generator of the given values, see {@link FiniteGenerator}
+   *
+   * @param values values of the domain
+   * @return the generator
+   */
+  @SafeVarargs
+  static <T> FiniteGenerator<T> oneOf(T... values) {
+    List<T> list = List.of(values);
+    return new FiniteGenerator<>(list.size(), list::get);
+  }
+
+  /**
+   * It creates a generator of the integers between {@code from} (inclusive) and {@code to} (exclusive),
+   * see {@link FiniteGenerator}
+   *
+   * @param from first value of the range
+   * @param to last value of the range, exclusive
+   * @return the generator
+   */
+  static FiniteGenerator<Integer> range(int from, int to) {
+    long size = (long) to - from;
+    if (size <= 0 || size > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("invalid range: [" + from + ", " + to + ")");
+    }
+    return new FiniteGenerator<>((int) size, i -> from + i);
+  }
+
+  /**
+   * It creates a generator of all the bytes, see {@link FiniteGenerator}
+   *
+   * @return the generator
+   */
+  static FiniteGenerator<Byte> bytes() {
+    return new FiniteGenerator<>(1 << Byte.SIZE, i -> (byte) (Byte.MIN_VALUE + i));
+  }
+
+  /**
+   * It creates a generator of booleans, see {@link FiniteGenerator}
+   *
+   * @return the generator
+   */
+  static FiniteGenerator<Boolean> booleans() {
+    return oneOf(false, true);
+  }
+
+  /**
+   * It creates a generator of the constants of the enum, see {@link FiniteGenerator}
+   *
+   * @param type class of the enum
+   * @return the generator
+   */
+  static <E extends Enum<E>> FiniteGenerator<E> enums(Class<E> type) {
+    return oneOf(type.getEnumConstants());
+  }
+
+  /**
+   * It creates a coverage guided generator, see {@link GuidedGenerator}
+   *
+   * @param random generator of new random values
+   * @param mutation mutation of the values of the corpus
+   * @return the guided generator
+   */
+  static <T> GuidedGenerator<T> guided(Generator<T> random, Function1<T, T> mutation) {
+    return new GuidedGenerator<>(random, mutation);
+  }
 }
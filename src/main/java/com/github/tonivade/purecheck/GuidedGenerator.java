@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.github.tonivade.purefun.core.Function1;
+import com.github.tonivade.purefun.data.ImmutableList;
+import com.github.tonivade.purefun.data.Sequence;
+import com.github.tonivade.purefun.type.Option;
+
+/**
+ * <p>Coverage guided generator. It keeps a corpus with the inputs that reached new edges of the code
+ * instrumented with {@link Coverage#hit(int)}, and most of the new inputs are created mutating a random
+ * input of the corpus, instead of generating a new random one, so the branches that are hard to reach
+ * are explored much faster:</p>
+ *
+ * <pre>
+ * it.should("parse any input")
+ *   .given(Generator.guided(Generator.randomString(16), GuidedGenerator.strings()))
+ *   .when(Parser::parse)
+ *   .then(...)
+ *   .repeat(10_000);
+ * </pre>
+ *
+ * <p>The coverage of an input is collected when the next input is requested, so it works with
+ * {@code repeat} when the iterations are executed one after the other, in the same thread or not.
+ * Each generator records the coverage in its own {@link Coverage.Trace}, bound to the thread that
+ * requested the last input, and it stops recording when {@link #finish()} is called, what is done by
+ * {@code repeat} at the end of the iterations.</p>
+ *
+ * @author tonivade
+ *
+ * @param <T> type of the values generated
+ */
+public final class GuidedGenerator<T> implements Generator<T> {
+
+  private static final double RANDOM_RATIO = 0.1;
+  private static final int MAX_MUTATIONS = 4;
+  private static final int MAX_DELTA = 35;
+  private static final int[] INTERESTING = { 0, 1, -1, 16, 32, 64, 100, 127, 128, 255, 256, 1024, 4096,
+      Short.MAX_VALUE, Short.MIN_VALUE, Integer.MAX_VALUE, Integer.MIN_VALUE };
+
+  private final Generator<T> random;
+  private final Function1<T, T> mutation;
+  private final List<T> corpus = new ArrayList<>();
+  private final byte[] features = Coverage.features();
+  private final Coverage.Trace trace = Coverage.trace();
+  private Option<T> last = Option.none();
+
+  GuidedGenerator(Generator<T> random, Function1<T, T> mutation) {
+    this.random = checkNonNull(random);
+    this.mutation = checkNonNull(mutation);
+  }
+
+  @Override
+  public synchronized T run() {
+    if (last.isEmpty()) {
+      // discard the edges executed before the first input
+      trace.reset();
+    } else {
+      collect();
+    }
+    trace.attach();
+    T next = next();
+    last = Option.of(next);
+    return next;
+  }
+
+  /**
+   * It collects the coverage of the last input and stops recording, the probes are disabled
+   * if there are no more guided generators in use. The generator can be used again later.
+   */
+  public synchronized void finish() {
+    if (last.isPresent()) {
+      collect();
+    }
+    trace.detach();
+    last = Option.none();
+  }
+
+  /**
+   * Inputs that reached new coverage, in the order they were found
+   *
+   * @return the corpus
+   */
+  public synchronized Sequence<T> corpus() {
+    return ImmutableList.from(corpus);
+  }
+
+  private void collect() {
+    if (trace.collect(features)) {
+      corpus.add(last.getOrElseThrow());
+    }
+  }
+
+  private T next() {
+    ThreadLocalRandom current = ThreadLocalRandom.current();
+    if (corpus.isEmpty() || current.nextDouble() < RANDOM_RATIO) {
+      return random.get();
+    }
+    T value = corpus.get(current.nextInt(corpus.size()));
+    for (int i = current.nextInt(MAX_MUTATIONS) + 1; i > 0; i--) {
+      value = mutation.apply(value);
+    }
+    return value;
+  }
+
+  /**
+   * Mutation of integers, it flips a random bit, adds or subtracts a small value, or replaces the
+   * value with a boundary value
+   *
+   * @return the mutation
+   */
+  public static Function1<Integer, Integer> integers() {
+    return value -> {
+      ThreadLocalRandom current = ThreadLocalRandom.current();
+      return switch (current.nextInt(3)) {
+        case 0 -> value ^ (1 << current.nextInt(Integer.SIZE));
+        case 1 -> value + current.nextInt(-MAX_DELTA, MAX_DELTA + 1);
+        default -> INTERESTING[current.nextInt(INTERESTING.length)];
+      };
+    };
+  }
+
+  /**
+   * Mutation of strings, it inserts, removes or replaces a random ASCII character
+   *
+   * @return the mutation
+   */
+  public static Function1<String, String> strings() {
+    return value -> {
+      ThreadLocalRandom current = ThreadLocalRandom.current();
+      StringBuilder builder = new StringBuilder(value);
+      int operation = value.isEmpty() ? 0 : current.nextInt(3);
+      char next = (char) current.nextInt(Byte.MAX_VALUE + 1);
+      switch (operation) {
+        case 0 -> builder.insert(current.nextInt(value.length() + 1), next);
+        case 1 -> builder.deleteCharAt(current.nextInt(value.length()));
+        default -> builder.setCharAt(current.nextInt(value.length()), next);
+      }
+      return builder.toString();
+    };
+  }
+}
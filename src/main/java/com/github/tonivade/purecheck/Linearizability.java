@@ -0,0 +1,444 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonEmpty;
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.github.tonivade.purefun.Kind;
+import com.github.tonivade.purefun.core.Function2;
+import com.github.tonivade.purefun.core.Producer;
+import com.github.tonivade.purefun.core.Tuple2;
+import com.github.tonivade.purefun.core.Validator;
+import com.github.tonivade.purefun.data.ImmutableList;
+import com.github.tonivade.purefun.type.Option;
+import com.github.tonivade.purefun.type.Validation;
+import com.github.tonivade.purefun.typeclasses.MonadDefer;
+
+/**
+ * <p>Linearizability checker for concurrent objects. Some threads execute operations, created by a
+ * {@link Generator}, against the same object under test, and the invocation and response times of
+ * each operation are recorded in a {@link History}. Then the history is checked against a sequential
+ * {@link Model} of the object, looking for an order of the operations, compatible with the real time
+ * order, where all the results are the same as the ones returned by the model:</p>
+ *
+ * <pre>
+ * var queue = Linearizability.linearizability("queue", monad, ConcurrentLinkedQueue::new, QueueOp::execute)
+ *   .operations(QueueOp.generator())
+ *   .threads(3, 100);
+ *
+ * it.should("be linearizable")
+ *   .given(queue)
+ *   .whenK(Linearizability::run)
+ *   .then(Linearizability.linearizable(QueueOp.model()))
+ *   .repeat(50);
+ * </pre>
+ *
+ * <p>The search is the algorithm of Wing and Gong, with the memoization of the pairs of operations already
+ * linearized and state of the model proposed by Lowe, so the state of the model should implement
+ * {@code equals} and {@code hashCode}. When the history is not linearizable, the failure reports the
+ * shortest prefix of the history that is not linearizable.</p>
+ *
+ * @author tonivade
+ *
+ * @param <F> type of the kind
+ * @param <T> type of the object under test
+ * @param <O> type of the operations
+ * @param <R> type of the results of the operations
+ */
+public final class Linearizability<F extends Kind<F, ?>, T, O, R> {
+
+  private final String name;
+  private final MonadDefer<F> monad;
+  private final Producer<T> target;
+  private final Function2<T, O, R> execute;
+  private final Option<Generator<O>> generator;
+  private final int threads;
+  private final int operations;
+
+  private Linearizability(String name, MonadDefer<F> monad, Producer<T> target, Function2<T, O, R> execute,
+      Option<Generator<O>> generator, int threads, int operations) {
+    this.name = checkNonEmpty(name);
+    this.monad = checkNonNull(monad);
+    this.target = checkNonNull(target);
+    this.execute = checkNonNull(execute);
+    this.generator = checkNonNull(generator);
+    this.threads = threads;
+    this.operations = operations;
+    if (threads < 1 || operations < 1) {
+      throw new IllegalArgumentException("threads and operations should be greater than zero");
+    }
+  }
+
+  /**
+   * It creates a new checker, by default with two threads executing ten operations each one
+   *
+   * @param name name of the test
+   * @param monad monad instance
+   * @param target creates a new object under test for each history
+   * @param execute executes an operation against the object under test
+   * @return the checker
+   */
+  public static <F extends Kind<F, ?>, T, O, R> Linearizability<F, T, O, R> linearizability(
+      String name, MonadDefer<F> monad, Producer<T> target, Function2<T, O, R> execute) {
+    return new Linearizability<>(name, monad, target, execute, Option.none(), 2, 10);
+  }
+
+  public Linearizability<F, T, O, R> operations(Generator<O> generator) {
+    return new Linearizability<>(name, monad, target, execute, Option.some(checkNonNull(generator)), threads, operations);
+  }
+
+  /**
+   * Number of threads and operations executed by each thread
+   *
+   * @param threads number of threads
+   * @param operations number of operations by thread
+   * @return the checker
+   */
+  public Linearizability<F, T, O, R> threads(int threads, int operations) {
+    return new Linearizability<>(name, monad, target, execute, generator, threads, operations);
+  }
+
+  /**
+   * It records a new history against a fresh object under test. If any operation throws an
+   * exception the execution fails with it.
+   *
+   * @return the history
+   */
+  public Kind<F, History<O, R>> run() {
+    if (generator.isEmpty()) {
+      throw new IllegalStateException("operations generator is required: " + name);
+    }
+    return monad.later(this::record);
+  }
+
+  /**
+   * It validates that the history is linearizable, if not, the error contains the shortest
+   * prefix of the history that is not linearizable.
+   *
+   * @param model the sequential model of the object under test
+   * @return the validator
+   */
+  public static <S, O, R> Validator<String, History<O, R>> linearizable(Model<S, O, R> model) {
+    checkNonNull(model);
+    return history -> counterexample(model.initial(), model.transition(), history).fold(
+        () -> Validation.valid(history),
+        prefix -> Validation.invalid("history is not linearizable, shortest failing prefix:\n" + prefix));
+  }
+
+  private History<O, R> record() throws Throwable {
+    Generator<O> operations = generator.getOrElseThrow();
+    List<List<O>> inputs = new ArrayList<>(threads);
+    for (int i = 0; i < threads; i++) {
+      List<O> input = new ArrayList<>(this.operations);
+      for (int j = 0; j < this.operations; j++) {
+        input.add(operations.get());
+      }
+      inputs.add(input);
+    }
+    return new History<>(ImmutableList.from(execute(name, target.get(), inputs, execute)));
+  }
+
+  /**
+   * It executes each list of operations in its own thread against the same object, all the threads
+   * start at the same time, and returns the operations sorted by invocation time.
+   *
+   * @param name name used for the threads
+   * @param object the object under test
+   * @param inputs operations to execute by each thread
+   * @param execute executes an operation against the object under test
+   * @return the history
+   */
+  static <T, O, R> List<Operation<O, R>> execute(String name, T object, List<List<O>> inputs,
+      Function2<T, O, R> execute) throws Throwable {
+    AtomicInteger counter = new AtomicInteger();
+    ExecutorService executor = Executors.newFixedThreadPool(inputs.size(), runnable -> {
+      Thread thread = new Thread(runnable, "purecheck-linearizability-" + name + "-" + counter.getAndIncrement());
+      thread.setDaemon(true);
+      return thread;
+    });
+    try {
+      CyclicBarrier start = new CyclicBarrier(inputs.size());
+      List<Future<List<Operation<O, R>>>> futures = new ArrayList<>(inputs.size());
+      for (int i = 0; i < inputs.size(); i++) {
+        int thread = i;
+        List<O> input = inputs.get(i);
+        futures.add(executor.submit(() -> {
+          List<Operation<O, R>> output = new ArrayList<>(input.size());
+          start.await();
+          for (O operation : input) {
+            long invoke = System.nanoTime();
+            R result = execute.apply(object, operation);
+            output.add(new Operation<>(thread, invoke, System.nanoTime(), operation, result));
+          }
+          return output;
+        }));
+      }
+      List<Operation<O, R>> history = new ArrayList<>();
+      for (Future<List<Operation<O, R>>> future : futures) {
+        try {
+          history.addAll(future.get());
+        } catch (ExecutionException e) {
+          throw Option.<Throwable>of(e.getCause()).getOrElse(e);
+        }
+      }
+      history.sort(Comparator.comparingLong(Operation::invoke));
+      return history;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * It searches the shortest prefix of the history, by response time, that is not linearizable. The
+   * operations that have not finished at the end of the prefix are included as pending, so they can be
+   * linearized at any point after the invocation, or never, and they are removed from the result when
+   * they are not needed to reproduce the failure.
+   *
+   * @param initial initial state of the model
+   * @param transition returns the next state of the model if the operation is valid in the given state
+   * @param history the history to check
+   * @return the shortest prefix not linearizable, or none if the whole history is linearizable
+   */
+  static <S, O, R> Option<History<O, R>> counterexample(
+      S initial, Function2<S, Operation<O, R>, Option<S>> transition, History<O, R> history) {
+    List<Operation<O, R>> operations = history.operations().stream().toList();
+    if (isLinearizable(initial, transition, operations)) {
+      return Option.none();
+    }
+    long[] cuts = operations.stream().mapToLong(Operation::response).distinct().sorted().toArray();
+    int low = 0;
+    int high = cuts.length - 1;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (isLinearizable(initial, transition, prefix(operations, cuts[middle]))) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    List<Operation<O, R>> prefix = new ArrayList<>(prefix(operations, cuts[low]));
+    // pending operations can be omitted, so they are removed if they are not needed to fail
+    for (int i = prefix.size() - 1; i >= 0; i--) {
+      if (prefix.get(i).isPending()) {
+        Operation<O, R> removed = prefix.remove(i);
+        if (isLinearizable(initial, transition, prefix)) {
+          prefix.add(i, removed);
+        }
+      }
+    }
+    return Option.some(new History<>(ImmutableList.from(prefix)));
+  }
+
+  private static <O, R> List<Operation<O, R>> prefix(List<Operation<O, R>> operations, long cut) {
+    List<Operation<O, R>> prefix = new ArrayList<>();
+    for (Operation<O, R> operation : operations) {
+      if (operation.invoke() < cut) {
+        prefix.add(operation.response() > cut ? operation.pending() : operation);
+      }
+    }
+    return prefix;
+  }
+
+  static <S, O, R> boolean isLinearizable(Model<S, O, R> model, List<Operation<O, R>> operations) {
+    return isLinearizable(model.initial(), model.transition(), operations);
+  }
+
+  static <S, O, R> boolean isLinearizable(
+      S initial, Function2<S, Operation<O, R>, Option<S>> transition, List<Operation<O, R>> operations) {
+    Entry head = Entry.list(operations);
+    List<Entry> calls = new ArrayList<>();
+    List<S> states = new ArrayList<>();
+    Set<Memo> cache = new HashSet<>();
+    BitSet linearized = new BitSet(operations.size());
+    S state = initial;
+    Entry entry = head.next;
+    while (!head.next.isTail()) {
+      if (entry.isCall()) {
+        Option<S> next = transition.apply(state, operations.get(entry.id));
+        if (next.isPresent()) {
+          BitSet candidate = (BitSet) linearized.clone();
+          candidate.set(entry.id);
+          if (cache.add(new Memo(candidate, next.getOrElseThrow()))) {
+            calls.add(entry);
+            states.add(state);
+            state = next.getOrElseThrow();
+            linearized = candidate;
+            entry.lift();
+            entry = head.next;
+            continue;
+          }
+        }
+        entry = entry.next;
+      } else {
+        // the response of an operation is reached before linearizing it, so backtrack
+        if (calls.isEmpty()) {
+          return false;
+        }
+        Entry last = calls.remove(calls.size() - 1);
+        state = states.remove(states.size() - 1);
+        linearized = (BitSet) linearized.clone();
+        linearized.clear(last.id);
+        last.unlift();
+        entry = last.next;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Sequential specification of the object under test
+   *
+   * @param initial initial state
+   * @param step given a state and an operation, returns the new state and the expected result
+   */
+  public record Model<S, O, R>(S initial, Function2<S, O, Tuple2<S, R>> step) {
+
+    public Model {
+      checkNonNull(initial);
+      checkNonNull(step);
+    }
+
+    Function2<S, Operation<O, R>, Option<S>> transition() {
+      return (state, operation) -> {
+        Tuple2<S, R> next = step.apply(state, operation.operation());
+        return operation.isPending() || Objects.equals(next.get2(), operation.result())
+            ? Option.some(next.get1()) : Option.none();
+      };
+    }
+  }
+
+  /**
+   * An operation executed by a thread
+   *
+   * @param thread number of the thread
+   * @param invoke time of the invocation, in nanos
+   * @param response time of the response, in nanos, {@code Long.MAX_VALUE} if it's pending
+   * @param operation the operation
+   * @param result the result returned
+   */
+  public record Operation<O, R>(int thread, long invoke, long response, O operation, R result) {
+
+    public boolean isPending() {
+      return response == Long.MAX_VALUE;
+    }
+
+    Operation<O, R> pending() {
+      return new Operation<>(thread, invoke, Long.MAX_VALUE, operation, result);
+    }
+  }
+
+  /**
+   * Operations executed against the object under test, sorted by invocation time
+   *
+   * @param operations the operations
+   */
+  public record History<O, R>(ImmutableList<Operation<O, R>> operations) {
+
+    public History {
+      checkNonNull(operations);
+    }
+
+    @Override
+    public String toString() {
+      long start = operations.stream().mapToLong(Operation::invoke).min().orElse(0);
+      StringBuilder output = new StringBuilder("History[operations=" + operations.size() + "]");
+      for (Operation<O, R> operation : operations) {
+        output.append(String.format(Locale.ROOT, "%n  %8d..%-8s [thread-%d] %s -> %s",
+            operation.invoke() - start,
+            operation.isPending() ? "pending" : String.valueOf(operation.response() - start),
+            operation.thread(), operation.operation(), operation.isPending() ? "?" : operation.result()));
+      }
+      return output.toString();
+    }
+  }
+
+  private record Memo(BitSet linearized, Object state) { }
+
+  /**
+   * Node of the double linked list of invocations and responses, sorted by time, used by the search.
+   * The list starts and ends with a sentinel node.
+   */
+  private static final class Entry {
+
+    private static final int SENTINEL = -1;
+
+    private final int id;
+    private final boolean call;
+    private final long time;
+    private Entry match = this;
+    private Entry prev = this;
+    private Entry next = this;
+
+    private Entry(int id, boolean call, long time) {
+      this.id = id;
+      this.call = call;
+      this.time = time;
+    }
+
+    private boolean isCall() {
+      return call;
+    }
+
+    private boolean isTail() {
+      return id == SENTINEL;
+    }
+
+    private void lift() {
+      prev.next = next;
+      next.prev = prev;
+      match.prev.next = match.next;
+      match.next.prev = match.prev;
+    }
+
+    private void unlift() {
+      match.prev.next = match;
+      match.next.prev = match;
+      prev.next = this;
+      next.prev = this;
+    }
+
+    private static <O, R> Entry list(List<Operation<O, R>> operations) {
+      List<Entry> entries = new ArrayList<>(operations.size() * 2);
+      for (int i = 0; i < operations.size(); i++) {
+        Operation<O, R> operation = operations.get(i);
+        Entry call = new Entry(i, true, operation.invoke());
+        Entry response = new Entry(i, false, operation.response());
+        call.match = response;
+        response.match = call;
+        entries.add(call);
+        entries.add(response);
+      }
+      // on the same time, invocations go first, so the operations are considered concurrent
+      entries.sort(Comparator.<Entry>comparingLong(entry -> entry.time).thenComparing(entry -> entry.call ? 0 : 1));
+      Entry head = new Entry(SENTINEL, false, Long.MIN_VALUE);
+      Entry last = head;
+      for (Entry entry : entries) {
+        last.next = entry;
+        entry.prev = last;
+        last = entry;
+      }
+      Entry tail = new Entry(SENTINEL, false, Long.MAX_VALUE);
+      last.next = tail;
+      tail.prev = last;
+      return head;
+    }
+  }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import com.github.tonivade.purefun.type.Either;
+import com.github.tonivade.purefun.type.Option;
+
+/**
+ * <p>Listener that exports the results of the suites in the
+ * <a href="https://openmetrics.io">OpenMetrics</a> text format, so they can be imported in the same
+ * dashboards used in production, using for example the textfile collector of the node exporter.</p>
+ *
+ * <p>It exports these metrics:</p>
+ * <ul>
+ *   <li>{@code purecheck_tests_total}: counter of tests executed by suite and result.</li>
+ *   <li>{@code purecheck_test_duration_seconds}: histogram of the duration of each test.</li>
+ *   <li>{@code purecheck_perf_duration_seconds}: summary with the percentiles of each {@link PerfCase.Stats}
+ *   returned by a test, and gauges {@code purecheck_perf_min_seconds}, {@code purecheck_perf_max_seconds},
+ *   {@code purecheck_perf_mean_seconds} and {@code purecheck_perf_requests_per_second}.</li>
+ * </ul>
+ *
+ * <p>The file is written every time a suite finishes, so at the end of the run it contains the metrics
+ * of all the suites. It's registered automatically if the system property {@code purecheck.metrics}
+ * is defined with the path of the file, see {@link TestEvents}.</p>
+ *
+ * @author tonivade
+ */
+public final class OpenMetricsExporter implements TestListener {
+
+  private static final double[] BUCKETS = { 0.001, 0.005, 0.01, 0.05, 0.1, 0.5, 1, 5, 10, 60 };
+
+  private final Path file;
+  private final Map<String, long[]> counters = new TreeMap<>();
+  private final Map<String, Histogram> durations = new TreeMap<>();
+  private final Map<String, PerfCase.Stats> perf = new TreeMap<>();
+
+  public OpenMetricsExporter(Path file) {
+    this.file = checkNonNull(file);
+  }
+
+  @Override
+  public synchronized void testFinished(String suite, TestResult<?, ?, ?> result, Duration duration) {
+    counters.computeIfAbsent(suite, ignore -> new long[Outcome.values().length])[Outcome.of(result).ordinal()]++;
+    durations.computeIfAbsent(labels("suite", suite, "test", result.name()), ignore -> new Histogram())
+      .observe(duration.toNanos() / 1e9);
+    Option<PerfCase.Stats> stats = stats(result);
+    if (stats.isPresent()) {
+      record(stats.getOrElseThrow());
+    }
+  }
+
+  @Override
+  public void suiteFinished(TestSuite.Report<?> report, Duration duration) {
+    write();
+  }
+
+  /**
+   * It records the stats of a perf case executed outside of a suite
+   *
+   * @param stats the stats
+   */
+  public synchronized void record(PerfCase.Stats stats) {
+    perf.put(labels("name", stats.name()), stats);
+  }
+
+  /**
+   * It writes all the metrics recorded until now, it replaces the file atomically
+   */
+  public void write() {
+    String content = toString();
+    try {
+      Path directory = file.toAbsolutePath().getParent();
+      Files.createDirectories(directory);
+      Path temp = Files.createTempFile(directory, "metrics", ".tmp");
+      Files.writeString(temp, content, UTF_8);
+      Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public synchronized String toString() {
+    StringBuilder output = new StringBuilder();
+
+    header(output, "purecheck_tests", "counter", "Number of tests executed by result.");
+    counters.forEach((suite, values) -> {
+      for (Outcome outcome : Outcome.values()) {
+        sample(output, "purecheck_tests_total", labels("suite", suite, "result", outcome.label), values[outcome.ordinal()]);
+      }
+    });
+
+    header(output, "purecheck_test_duration_seconds", "histogram", "Duration of the tests.");
+    durations.forEach((labels, histogram) -> histogram.write(output, "purecheck_test_duration_seconds", labels));
+
+    header(output, "purecheck_perf_duration_seconds", "summary", "Percentiles of the perf cases.");
+    perf.forEach((labels, stats) -> {
+      stats.percentiles().entries().forEach(entry -> sample(output, "purecheck_perf_duration_seconds",
+          labels + ",quantile=\"" + format(entry.get1() / 100.0) + "\"", seconds(entry.get2())));
+      sample(output, "purecheck_perf_duration_seconds_sum", labels, seconds(stats.total()));
+    });
+    gauge(output, "purecheck_perf_min_seconds", "Min duration of the perf cases.", PerfCase.Stats::min);
+    gauge(output, "purecheck_perf_max_seconds", "Max duration of the perf cases.", PerfCase.Stats::max);
+    gauge(output, "purecheck_perf_mean_seconds", "Mean duration of the perf cases.", PerfCase.Stats::mean);
+
+    header(output, "purecheck_perf_requests_per_second", "gauge", "Throughput of the perf cases.");
+    perf.forEach((labels, stats) ->
+        sample(output, "purecheck_perf_requests_per_second", labels, stats.getRequestsPerSeconds()));
+
+    return output.append("# EOF\n").toString();
+  }
+
+  private void gauge(StringBuilder output, String name, String help, Function<PerfCase.Stats, Duration> value) {
+    header(output, name, "gauge", help);
+    perf.forEach((labels, stats) -> sample(output, name, labels, seconds(value.apply(stats))));
+  }
+
+  private static Option<PerfCase.Stats> stats(TestResult<?, ?, ?> result) {
+    return switch (result) {
+      case TestResult.Success<?, ?, ?> success -> stats(success.value());
+      case TestResult.Failure<?, ?, ?> failure -> stats(failure.value());
+      case TestResult.Retried<?, ?, ?> retried -> stats(retried.result());
+      default -> Option.none();
+    };
+  }
+
+  private static Option<PerfCase.Stats> stats(Either<Throwable, ?> value) {
+    if (value.isRight() && value.getRight() instanceof PerfCase.Stats stats) {
+      return Option.some(stats);
+    }
+    return Option.none();
+  }
+
+  private static void header(StringBuilder output, String name, String type, String help) {
+    output.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    output.append("# HELP ").append(name).append(' ').append(help).append('\n');
+  }
+
+  private static void sample(StringBuilder output, String name, String labels, Object value) {
+    output.append(name).append('{').append(labels).append("} ").append(value).append('\n');
+  }
+
+  private static String labels(String... pairs) {
+    StringBuilder labels = new StringBuilder();
+    for (int i = 0; i < pairs.length; i += 2) {
+      if (i > 0) {
+        labels.append(',');
+      }
+      labels.append(pairs[i]).append("=\"").append(escape(pairs[i + 1])).append('"');
+    }
+    return labels.toString();
+  }
+
+  private static String escape(String value) {
+    return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+  }
+
+  private static String seconds(Duration duration) {
+    return format(duration.toNanos() / 1e9);
+  }
+
+  private static String format(double value) {
+    return String.format(Locale.ROOT, "%s", value);
+  }
+
+  private enum Outcome {
+    PASSED("passed"), FAILED("failed"), ERROR("error"), DISABLED("disabled");
+
+    private final String label;
+
+    Outcome(String label) {
+      this.label = label;
+    }
+
+    private static Outcome of(TestResult<?, ?, ?> result) {
+      if (result.isFailure()) {
+        return FAILED;
+      }
+      if (result.isError()) {
+        return ERROR;
+      }
+      if (result.isDisabled()) {
+        return DISABLED;
+      }
+      return PASSED;
+    }
+  }
+
+  private static final class Histogram {
+
+    private final long[] buckets = new long[BUCKETS.length];
+    private long count;
+    private double sum;
+
+    private void observe(double seconds) {
+      for (int i = 0; i < BUCKETS.length; i++) {
+        if (seconds <= BUCKETS[i]) {
+          buckets[i]++;
+        }
+      }
+      count++;
+      sum += seconds;
+    }
+
+    private void write(StringBuilder output, String name, String labels) {
+      for (int i = 0; i < BUCKETS.length; i++) {
+        sample(output, name + "_bucket", labels + ",le=\"" + format(BUCKETS[i]) + "\"", buckets[i]);
+      }
+      sample(output, name + "_bucket", labels + ",le=\"+Inf\"", count);
+      sample(output, name + "_count", labels, count);
+      sample(output, name + "_sum", labels, format(sum));
+    }
+  }
+}
@@ -7,6 +7,10 @@ package com.github.tonivade.purecheck;
 import static com.github.tonivade.purefun.core.Precondition.checkNonEmpty;
 import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
 import static com.github.tonivade.purefun.core.Unit.unit;
+
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.nio.file.Path;
 import java.time.Duration;
 
 import com.github.tonivade.purecheck.spec.IOPerfCase;
@@ -14,6 +18,7 @@ import com.github.tonivade.purecheck.spec.TaskPerfCase;
 import com.github.tonivade.purecheck.spec.UIOPerfCase;
 import com.github.tonivade.purefun.Kind;
 
+import com.github.tonivade.purefun.core.Function1;
 import com.github.tonivade.purefun.core.Producer;
 import com.github.tonivade.purefun.core.Tuple;
 import com.github.tonivade.purefun.core.Tuple2;
@@ -24,34 +29,133 @@ import com.github.tonivade.purefun.data.Sequence;
 import com.github.tonivade.purefun.effect.Task;
 import com.github.tonivade.purefun.effect.UIO;
 import com.github.tonivade.purefun.monad.IO;
+import com.github.tonivade.purefun.type.Option;
 import com.github.tonivade.purefun.typeclasses.MonadDefer;
 import com.github.tonivade.purefun.typeclasses.Schedule;
 
 public final class PerfCase<F extends Kind<F, ?>, T> {
 
+  private static final String RECORDING_PROPERTY = "purecheck.perf.recording";
+  private static final String PROFILE_PROPERTY = "purecheck.perf.profile";
+  private static final int TOP_FRAMES = 20;
+
   private final String name;
   private final MonadDefer<F> monad;
   private final Kind<F, T> task;
   private final Kind<F, Unit> warmup;
+  private final Option<Path> recording;
+  private final Option<Profiler> profiler;
 
   public PerfCase(String name, MonadDefer<F> monad, Kind<F, T> task, Kind<F, Unit> warmup) {
+    this(name, monad, task, warmup,
+        Option.of(System.getProperty(RECORDING_PROPERTY)).map(Path::of),
+        Option.of(System.getProperty(PROFILE_PROPERTY)).map(directory -> new Profiler(Path.of(directory), TOP_FRAMES)));
+  }
+
+  private PerfCase(String name, MonadDefer<F> monad, Kind<F, T> task, Kind<F, Unit> warmup,
+      Option<Path> recording, Option<Profiler> profiler) {
     this.name = checkNonEmpty(name);
     this.monad = checkNonNull(monad);
     this.task = checkNonNull(task);
     this.warmup = checkNonNull(warmup);
+    this.recording = checkNonNull(recording);
+    this.profiler = checkNonNull(profiler);
   }
 
   public PerfCase<F, T> warmup(int times) {
-    return new PerfCase<>(name, monad, task, monad.repeat(task, this.<T>recurs(times).unit()));
+    return new PerfCase<>(name, monad, task, monad.repeat(task, this.<T>recurs(times).unit()), recording, profiler);
+  }
+
+  /**
+   * It starts a JDK Flight Recorder recording around each execution of the perf case, the recording
+   * is stored in the given directory and the path of the file is available in {@link Stats#recording()}.
+   * It can be enabled for all the perf cases with the system property {@code purecheck.perf.recording}.
+   *
+   * @param directory directory where the recordings are going to be stored
+   * @return the perf case with the recording enabled
+   */
+  public PerfCase<F, T> recording(Path directory) {
+    return new PerfCase<>(name, monad, task, warmup, Option.some(directory), profiler);
   }
 
+  /**
+   * It samples the stacks of the running threads during the measured executions of the perf case, and
+   * attaches the hottest methods to {@link Stats#profile()}. The recording with the samples and the
+   * collapsed stacks, ready to generate a flame graph, are stored in the given directory. It can be
+   * enabled for all the perf cases with the system property {@code purecheck.perf.profile}.
+   *
+   * @param directory directory where the profile is going to be stored
+   * @return the perf case with the profiler enabled
+   */
+  public PerfCase<F, T> profile(Path directory) {
+    return profile(directory, TOP_FRAMES);
+  }
+
+  /**
+   * Same as {@link #profile(Path)} but with the number of hottest methods to report
+   *
+   * @param directory directory where the profile is going to be stored
+   * @param top number of methods to report
+   * @return the perf case with the profiler enabled
+   */
+  public PerfCase<F, T> profile(Path directory, int top) {
+    return new PerfCase<>(name, monad, task, warmup, recording, Option.some(new Profiler(directory, top)));
+  }
+
+  /**
+   * It runs the task the given number of times after the warmup and collects the statistics. The
+   * allocation per operation, see {@link Stats#allocation()}, is the difference between the bytes
+   * allocated per execution of the task and the bytes allocated per execution of an empty task, so
+   * it only includes the allocations of the task itself, and it's close to zero for allocation-free tasks.
+   *
+   * @param times number of executions to measure
+   * @return the statistics
+   */
   public Kind<F, Stats> run(int times) {
-    var timed = monad.map(monad.timed(task), Tuple2::get1);
-    var repeat = monad.repeat(timed, recursAndCollect(times));
-    return monad.andThen(warmup, () -> monad.map(repeat, this::stats));
+    if (recording.isPresent()) {
+      FlightEvents.initialize();
+    }
+    // the harness allocates too, so it's measured with an empty task and subtracted
+    var baseline = monad.map(measure(monad.pure(unit()), times), Tuple2::get2);
+    Function1<Option<Long>, Kind<F, Stats>> measured = empty -> {
+      var stats = monad.map(measure(task, times), results -> stats(results.get1(), net(results.get2(), empty)));
+      return profiler.fold(() -> stats, value -> value.profile(monad, name, stats));
+    };
+    var measure = monad.andThen(FlightEvents.warmup(monad, name, warmup),
+        () -> monad.flatMap(baseline, empty -> FlightEvents.measure(monad, name, times, measured.apply(empty))));
+    return recording.fold(() -> measure, directory -> FlightEvents.recording(monad, name, directory, measure));
   }
 
-  private Stats stats(Sequence<Duration> results) {
+  private <A> Kind<F, Tuple2<Sequence<Duration>, Option<Long>>> measure(Kind<F, A> value, int times) {
+    var repeat = monad.repeat(monad.map(monad.timed(value), Tuple2::get1), recursAndCollect(times));
+    return monad.flatMap(monad.later(Allocation::start), allocation -> monad.map(repeat,
+        results -> Tuple.of(results, allocation.perOperation(results.size()))));
+  }
+
+  private static Option<Long> net(Option<Long> allocation, Option<Long> baseline) {
+    return allocation.flatMap(value -> baseline.map(empty -> Math.max(0, value - empty)));
+  }
+
+  /**
+   * It measures the heap retained by the values returned by the task. The task is executed the given
+   * number of times after the warmup, keeping all the values reachable, and the difference of the used
+   * heap after a full garbage collection is divided by the number of instances.
+   *
+   * @param instances number of values to retain during the measure
+   * @return the footprint of the values
+   */
+  public Kind<F, Footprint> footprint(int instances) {
+    if (instances < 1) {
+      throw new IllegalArgumentException("at least one instance is required: " + instances);
+    }
+    var prepare = monad.andThen(monad.andThen(warmup, () -> task), () -> monad.later(() -> new Retained(instances)));
+    return monad.flatMap(prepare, retained -> {
+      var build = monad.repeat(monad.map(task, retained::add), this.<Unit>recurs(instances - 1).unit());
+      return monad.map(build, ignore -> retained.footprint(name));
+    });
+  }
+
+  private Stats stats(Sequence<Duration> results, Option<Long> allocation) {
     ImmutableArray<Duration> array = results.asArray().sort(Duration::compareTo);
     Duration total = array.foldLeft(Duration.ZERO, Duration::plus);
     Duration mean = mean(array, total);
@@ -69,7 +173,11 @@ public final class PerfCase<F extends Kind<F, ?>, T> {
             percentile(99, array)),
         ImmutableMap.of(
             requestPer(mean, Duration.ofSeconds(1)),
-            requestPer(mean, Duration.ofMinutes(1)))
+            requestPer(mean, Duration.ofMinutes(1))),
+        Option.none(),
+        Option.none(),
+        Distribution.of(results),
+        allocation
         );
   }
 
@@ -109,6 +217,63 @@ public final class PerfCase<F extends Kind<F, ?>, T> {
     return Tuple.of(percentile, array.get((int) Math.round(percentile / 100.0 * (array.size() - 1))));
   }
 
+  /**
+   * Values built by the task, reachable until the heap is measured again.
+   */
+  private static final class Retained {
+
+    private final Object[] values;
+    private final long baseline;
+    private int size;
+
+    private Retained(int instances) {
+      this.values = new Object[instances];
+      this.baseline = Footprint.usedHeap();
+    }
+
+    private Unit add(Object value) {
+      if (size < values.length) {
+        values[size++] = value;
+      }
+      return unit();
+    }
+
+    private Footprint footprint(String name) {
+      long used = Footprint.usedHeap();
+      Reference.reachabilityFence(values);
+      return new Footprint(name, Math.max(1, size), Math.max(0, used - baseline));
+    }
+  }
+
+  /**
+   * Bytes allocated by the thread that executes the perf case, it only works for effects that
+   * are executed in the same thread and if the JVM supports it. The value includes the allocations
+   * of the harness that times and collects each execution, see {@link PerfCase#run(int)}.
+   */
+  private record Allocation(long thread, long bytes) {
+
+    private static Allocation start() {
+      Thread thread = Thread.currentThread();
+      return new Allocation(thread.threadId(), allocated(thread));
+    }
+
+    private Option<Long> perOperation(int operations) {
+      Thread thread = Thread.currentThread();
+      if (bytes < 0 || operations < 1 || thread.threadId() != this.thread) {
+        return Option.none();
+      }
+      return Option.some((allocated(thread) - bytes) / operations);
+    }
+
+    private static long allocated(Thread thread) {
+      if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+          && threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+        return threads.getThreadAllocatedBytes(thread.threadId());
+      }
+      return -1;
+    }
+  }
+
   public static <T> IOPerfCase<T> ioPerfCase(String name, Producer<T> task) {
     return new IOPerfCase<>(name, IO.task(task));
   }
@@ -141,6 +306,21 @@ public final class PerfCase<F extends Kind<F, ?>, T> {
     return new PerfCase<>(name, monad, task, monad.pure(unit()));
   }
 
+  /**
+   * It creates a sweep that runs a perf case for each size, the task is created by the given function
+   * for each size, so the input can be generated before the measurement
+   *
+   * @param name name of the perf case
+   * @param monad the monad instance
+   * @param sizes sizes of the input, at least two different sizes
+   * @param task function that creates the task for the given size
+   * @return the sweep
+   */
+  public static <F extends Kind<F, ?>, T> PerfSweep<F, T> sweep(
+      String name, MonadDefer<F> monad, Sequence<Integer> sizes, Function1<Integer, ? extends Kind<F, T>> task) {
+    return new PerfSweep<>(name, monad, sizes, task, 0);
+  }
+
   public record Stats(
     String name,
     Duration total,
@@ -149,7 +329,11 @@ public final class PerfCase<F extends Kind<F, ?>, T> {
     Duration mean,
     Duration median,
     ImmutableMap<Double, Duration> percentiles,
-    ImmutableMap<Duration, Long> requestPer) {
+    ImmutableMap<Duration, Long> requestPer,
+    Option<Path> recording,
+    Option<Profile> profile,
+    Distribution distribution,
+    Option<Long> allocation) {
 
     public Stats {
       checkNonEmpty(name);
@@ -159,10 +343,41 @@ public final class PerfCase<F extends Kind<F, ?>, T> {
       checkNonNull(mean);
       checkNonNull(median);
       checkNonNull(percentiles);
+      checkNonNull(recording);
+      checkNonNull(profile);
+      checkNonNull(distribution);
+      checkNonNull(allocation);
     }
 
+    public Stats(String name, Duration total, Duration min, Duration max, Duration mean, Duration median,
+        ImmutableMap<Double, Duration> percentiles, ImmutableMap<Duration, Long> requestPer) {
+      this(name, total, min, max, mean, median, percentiles, requestPer,
+          Option.none(), Option.none(), Distribution.empty(), Option.none());
+    }
+
+    public Stats withRecording(Path file) {
+      return new Stats(name, total, min, max, mean, median, percentiles, requestPer,
+          Option.some(file), profile, distribution, allocation);
+    }
+
+    public Stats withProfile(Profile profile) {
+      return new Stats(name, total, min, max, mean, median, percentiles, requestPer,
+          recording, Option.some(profile), distribution, allocation);
+    }
+
+    /**
+     * It returns any percentile, for example {@code 99.9}, calculated from the distribution
+     * of the samples if it was not calculated before
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the duration
+     */
     public Duration getPercentile(double percentile) {
-      return percentiles.get(percentile).getOrElseThrow();
+      return percentiles.get(percentile).getOrElse(() -> distribution.percentile(percentile));
+    }
+
+    public Duration getJitter() {
+      return distribution.jitter();
     }
 
     public Long getRequestsPerSeconds() {
@@ -175,10 +390,12 @@ public final class PerfCase<F extends Kind<F, ?>, T> {
 
     @Override
     public String toString() {
-      return String.format("Stats[name=%s,total=%s,min=%s,max=%s,mean=%s,median=%s/%s/%s]",
+      return String.format("Stats[name=%s,total=%s,min=%s,max=%s,mean=%s,median=%s/%s/%s%s]%s",
           name, total, min, max, mean, median,
           percentiles.entries().map(t -> String.format("p%s=%s", t.get1(), t.get2())).join(","),
-          requestPer.entries().map(t -> String.format("p%s=%s", t.get1(), t.get2())).join(",")
+          requestPer.entries().map(t -> String.format("p%s=%s", t.get1(), t.get2())).join(","),
+          recording.fold(() -> "", file -> ",recording=" + file),
+          profile.fold(() -> "", value -> "\n" + value)
           );
     }
   }
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonEmpty;
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+
+import com.github.tonivade.purecheck.PerfCase.Stats;
+import com.github.tonivade.purefun.Kind;
+import com.github.tonivade.purefun.core.Function1;
+import com.github.tonivade.purefun.core.Validator;
+import com.github.tonivade.purefun.data.Sequence;
+import com.github.tonivade.purefun.data.SequenceOf;
+import com.github.tonivade.purefun.type.Validation;
+import com.github.tonivade.purefun.typeclasses.Instances;
+import com.github.tonivade.purefun.typeclasses.MonadDefer;
+
+/**
+ * <p>It runs a perf case for each one of the given input sizes, and it fits the growth of the median
+ * duration to a {@link Complexity} class, so it's possible to check that an operation keeps the
+ * expected complexity:</p>
+ *
+ * <pre>
+ * it.should("insert in linear time")
+ *   .given(100)
+ *   .whenK(PerfCase.sweep("insert", monad, listOf(1_000, 10_000, 100_000), size -&gt; insert(size))::run)
+ *   .then(PerfSweep.atMost(Complexity.LINEAR));
+ * </pre>
+ *
+ * <p>The sizes are executed one by one from the first to the last, the bigger the difference between
+ * the sizes the more reliable is the result.</p>
+ *
+ * @author tonivade
+ *
+ * @param <F> type of the kind
+ * @param <T> type of the value returned by the task
+ */
+public final class PerfSweep<F extends Kind<F, ?>, T> {
+
+  private final String name;
+  private final MonadDefer<F> monad;
+  private final Sequence<Integer> sizes;
+  private final Function1<Integer, ? extends Kind<F, T>> task;
+  private final int warmup;
+
+  PerfSweep(String name, MonadDefer<F> monad, Sequence<Integer> sizes,
+      Function1<Integer, ? extends Kind<F, T>> task, int warmup) {
+    this.name = checkNonEmpty(name);
+    this.monad = checkNonNull(monad);
+    this.sizes = checkNonNull(sizes);
+    this.task = checkNonNull(task);
+    this.warmup = warmup;
+    if (sizes.stream().distinct().count() < 2) {
+      throw new IllegalArgumentException("at least two different sizes are required: " + sizes);
+    }
+  }
+
+  public PerfSweep<F, T> warmup(int times) {
+    return new PerfSweep<>(name, monad, sizes, task, times);
+  }
+
+  /**
+   * It runs the perf case the given number of times for each size
+   *
+   * @param times number of executions for each size
+   * @return the result of the sweep
+   */
+  public Kind<F, Result> run(int times) {
+    Sequence<Kind<F, Stats>> runs = sizes.map(size -> perfCase(size).run(times));
+
+    var sequence = Instances.<Sequence<?>>traverse().sequence(monad, runs);
+
+    return monad.map(monad.map(sequence, SequenceOf::toSequence), this::result);
+  }
+
+  private PerfCase<F, T> perfCase(int size) {
+    PerfCase<F, T> perfCase = PerfCase.perfCase(name + "[n=" + size + "]", monad, monad.defer(() -> task.apply(size)));
+    return warmup > 0 ? perfCase.warmup(warmup) : perfCase;
+  }
+
+  private Result result(Sequence<Stats> stats) {
+    long[] values = sizes.stream().mapToLong(Integer::longValue).toArray();
+    double[] times = stats.stream().mapToDouble(s -> s.getPercentile(50).toNanos()).toArray();
+    Complexity.Fit fit = Complexity.fit(values, times);
+    return new Result(name, sizes, stats, fit.complexity(), fit.intercept(), fit.coefficient(), fit.error());
+  }
+
+  /**
+   * The complexity should be the given one or better
+   *
+   * @param max worst complexity expected
+   * @return the validator
+   */
+  public static Validator<String, Result> atMost(Complexity max) {
+    checkNonNull(max);
+    return result -> result.complexity().isWorseThan(max)
+        ? Validation.invalid("expected at most " + max + " but was " + result.complexity() + "\n" + result)
+        : Validation.valid(result);
+  }
+
+  /**
+   * The complexity should be exactly the given one
+   *
+   * @param expected complexity expected
+   * @return the validator
+   */
+  public static Validator<String, Result> exactly(Complexity expected) {
+    checkNonNull(expected);
+    return result -> result.complexity() != expected
+        ? Validation.invalid("expected " + expected + " but was " + result.complexity() + "\n" + result)
+        : Validation.valid(result);
+  }
+
+  /**
+   * Result of a sweep
+   *
+   * @param name name of the perf case
+   * @param sizes sizes of the input
+   * @param stats stats of the perf case for each size
+   * @param complexity complexity class fitted
+   * @param intercept fixed cost of each call of the curve fitted, in nanoseconds
+   * @param coefficient coefficient of the curve fitted, in nanoseconds
+   * @param error root mean square error of the fitting relative to the mean duration
+   */
+  public record Result(String name, Sequence<Integer> sizes, Sequence<Stats> stats,
+      Complexity complexity, double intercept, double coefficient, double error) {
+
+    public Result {
+      checkNonEmpty(name);
+      checkNonNull(sizes);
+      checkNonNull(stats);
+      checkNonNull(complexity);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder output = new StringBuilder(String.format(Locale.ROOT,
+          "Sweep[name=%s,complexity=%s,intercept=%.3fns,coefficient=%.3fns,error=%.1f%%]",
+          name, complexity, intercept, coefficient, error * 100));
+      List<Integer> list = sizes.stream().toList();
+      List<Stats> values = stats.stream().toList();
+      for (int i = 0; i < list.size(); i++) {
+        Duration median = values.get(i).getPercentile(50);
+        output.append(String.format(Locale.ROOT, "%n  n=%-10d median=%s", list.get(i), median));
+      }
+      return output.toString();
+    }
+  }
+}
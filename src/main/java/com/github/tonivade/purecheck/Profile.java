@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonEmpty;
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+import com.github.tonivade.purefun.data.Sequence;
+
+/**
+ * <p>CPU profile of the measured executions of a perf case, see {@link PerfCase#profile(Path)}.</p>
+ *
+ * <p>It contains the hottest methods, ordered by the number of samples where the method was at the
+ * top of the stack, the recording with the samples and a file with the collapsed stacks, one line
+ * per distinct stack with the frames separated by {@code ;} and the number of samples, the format
+ * expected by flame graph tools.</p>
+ *
+ * @param samples total number of samples
+ * @param hottest methods with more samples
+ * @param recording the JFR file with the samples
+ * @param collapsed the file with the collapsed stacks
+ *
+ * @author tonivade
+ */
+public record Profile(long samples, Sequence<Frame> hottest, Path recording, Path collapsed) {
+
+  public Profile {
+    checkNonNull(hottest);
+    checkNonNull(recording);
+    checkNonNull(collapsed);
+  }
+
+  @Override
+  public String toString() {
+    return hottest.map(frame -> frame.toString(samples))
+        .join("\n  ", "Profile[samples=" + samples + ",collapsed=" + collapsed + "]\n  ", "");
+  }
+
+  /**
+   * A method and the number of samples where it was at the top of the stack
+   *
+   * @param method name of the method, including the class
+   * @param samples number of samples
+   */
+  public record Frame(String method, long samples) {
+
+    public Frame {
+      checkNonEmpty(method);
+    }
+
+    private String toString(long total) {
+      return String.format(Locale.ROOT, "%5.1f%% %6d %s", total > 0 ? samples * 100.0 / total : 0.0, samples, method);
+    }
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.github.tonivade.purefun.Kind;
+import com.github.tonivade.purefun.data.ImmutableList;
+import com.github.tonivade.purefun.typeclasses.MonadDefer;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedMethod;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Sampling profiler based on the {@code jdk.ExecutionSample} events of the JDK Flight Recorder.
+ * Only the measured executions of the perf case are profiled, the warmup is excluded.
+ *
+ * @author tonivade
+ */
+final class Profiler {
+
+  private static final String EXECUTION_SAMPLE = "jdk.ExecutionSample";
+  private static final Duration PERIOD = Duration.ofMillis(1);
+
+  private final Path directory;
+  private final int top;
+
+  Profiler(Path directory, int top) {
+    if (top < 1) {
+      throw new IllegalArgumentException("top should be greater than 0: " + top);
+    }
+    this.directory = checkNonNull(directory);
+    this.top = top;
+  }
+
+  <F extends Kind<F, ?>> Kind<F, PerfCase.Stats> profile(MonadDefer<F> monad, String name, Kind<F, PerfCase.Stats> measure) {
+    return FlightEvents.recorded(monad, () -> start(name), measure, (recording, stats) -> {
+      Path file = FlightEvents.stop(recording, directory.resolve(FlightEvents.fileName(name, ".jfr")));
+      Path collapsed = file.resolveSibling(file.getFileName().toString().replace(".jfr", ".collapsed"));
+      return stats.withProfile(analyze(file, collapsed));
+    });
+  }
+
+  private static Recording start(String name) {
+    Recording recording = new Recording();
+    recording.setName("purecheck profile " + name);
+    recording.enable(EXECUTION_SAMPLE).withPeriod(PERIOD).withStackTrace();
+    recording.start();
+    return recording;
+  }
+
+  private Profile analyze(Path file, Path collapsed) {
+    Map<String, Long> stacks = new HashMap<>();
+    Map<String, Long> methods = new HashMap<>();
+    long samples = 0;
+    try (RecordingFile recording = new RecordingFile(file)) {
+      while (recording.hasMoreEvents()) {
+        RecordedEvent event = recording.readEvent();
+        if (!event.getEventType().getName().equals(EXECUTION_SAMPLE)) {
+          continue;
+        }
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+          continue;
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        methods.merge(method(frames.get(0)), 1L, Long::sum);
+        stacks.merge(collapse(frames), 1L, Long::sum);
+        samples++;
+      }
+      write(collapsed, stacks);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    var hottest = methods.entrySet().stream()
+        .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+        .limit(top)
+        .map(entry -> new Profile.Frame(entry.getKey(), entry.getValue()))
+        .toList();
+    return new Profile(samples, ImmutableList.from(hottest), file, collapsed);
+  }
+
+  private static void write(Path file, Map<String, Long> stacks) throws IOException {
+    try (Writer writer = Files.newBufferedWriter(file, UTF_8)) {
+      for (var entry : stacks.entrySet().stream().sorted(Map.Entry.comparingByValue(Comparator.reverseOrder())).toList()) {
+        writer.write(entry.getKey() + " " + entry.getValue() + "\n");
+      }
+    }
+  }
+
+  /**
+   * The frames of the stack are ordered from the top to the bottom, the collapsed stack is
+   * ordered from the bottom (the root) to the top (the leaf).
+   */
+  private static String collapse(List<RecordedFrame> frames) {
+    StringBuilder stack = new StringBuilder();
+    for (int i = frames.size() - 1; i >= 0; i--) {
+      stack.append(method(frames.get(i)));
+      if (i > 0) {
+        stack.append(';');
+      }
+    }
+    return stack.toString();
+  }
+
+  private static String method(RecordedFrame frame) {
+    RecordedMethod method = frame.getMethod();
+    return method.getType().getName() + "." + method.getName();
+  }
+}
@@ -10,8 +10,11 @@ import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
 import static com.github.tonivade.purefun.data.Sequence.listOf;
 import com.github.tonivade.purefun.Kind;
 
+import com.github.tonivade.purefun.core.Consumer1;
+import com.github.tonivade.purefun.core.Producer;
 import com.github.tonivade.purefun.data.Sequence;
 import com.github.tonivade.purefun.typeclasses.Monad;
+import com.github.tonivade.purefun.typeclasses.MonadDefer;
 
 public sealed interface PropertyTestCase<F extends Kind<F, ?>, E, T, R> permits PropertyTestCaseImpl {
 
@@ -41,11 +44,41 @@ final class PropertyTestCaseImpl<F extends Kind<F, ?>, E, T, R> implements Prope
 
   @Override
   public Kind<F, TestSuite.Report<E>> run() {
-    return monad.map(test, xs -> new TestSuite.Report<>(name, xs.map(identity())));
+    return run(ignore -> { });
+  }
+
+  /**
+   * It runs the property, the observer receives every result before the report is created, because
+   * a compact report only retains the results that are not successful, see {@link TestSuite.CompactReport}.
+   *
+   * @param observer consumer of the results of the property
+   * @return the report of the property
+   */
+  Kind<F, TestSuite.Report<E>> run(Consumer1<? super Sequence<TestResult<E, ?, ?>>> observer) {
+    return FlightEvents.property(monad, name, monad.map(test, xs -> {
+      Sequence<TestResult<E, ?, ?>> results = xs.map(identity());
+      observer.accept(results);
+      return TestSuite.Report.of(name, results);
+    }));
   }
 
   @Override
   public PropertyTestCase<F, E, T, R> disable(String reason) {
     return new PropertyTestCaseImpl<>(monad, name, monad.pure(listOf(TestResult.disabled(name, reason))));
   }
+
+  /**
+   * It creates a property that is only built when it's executed
+   *
+   * @param monad monad instance for the type F
+   * @param name name of the property
+   * @param property builder of the property
+   * @return the property
+   */
+  static <F extends Kind<F, ?>, E, T, R> PropertyTestCase<F, E, T, R> lazy(
+      MonadDefer<F> monad, String name, Producer<PropertyTestCase<F, E, T, R>> property) {
+    return new PropertyTestCaseImpl<>(monad, name, monad.defer(() -> switch (property.get()) {
+      case PropertyTestCaseImpl<F, E, T, R> impl -> impl.test;
+    }));
+  }
 }
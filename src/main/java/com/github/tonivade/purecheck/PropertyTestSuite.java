@@ -6,6 +6,8 @@ package com.github.tonivade.purecheck;
 
 import static com.github.tonivade.purefun.core.Precondition.checkNonEmpty;
 import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
 
 import com.github.tonivade.purefun.Kind;
@@ -13,8 +15,11 @@ import com.github.tonivade.purefun.concurrent.Future;
 import com.github.tonivade.purefun.data.NonEmptyList;
 import com.github.tonivade.purefun.data.Sequence;
 import com.github.tonivade.purefun.data.SequenceOf;
+import com.github.tonivade.purefun.type.Option;
 import com.github.tonivade.purefun.typeclasses.Instances;
+import com.github.tonivade.purefun.typeclasses.MonadDefer;
 import com.github.tonivade.purefun.typeclasses.Parallel;
+import com.github.tonivade.purefun.typeclasses.Runtime;
 
 /**
  * It defines a property test suite that is composed by a non-empty collection of test cases
@@ -31,6 +36,8 @@ public abstract class PropertyTestSuite<F extends Kind<F, ?>, E> {
   private final Parallel<F, F> parallel;
   private final String name;
   private final Sequence<PropertyTestCase<F, E, ?, ?>> tests;
+  private final Fixture.Scope<F> fixtures;
+  private final Option<Runtime<F>> runtime;
 
   /**
    * It will throw {@code NullPointerException} if the tests is null
@@ -40,31 +47,127 @@ public abstract class PropertyTestSuite<F extends Kind<F, ?>, E> {
    * @param tests list of tests
    */
   protected PropertyTestSuite(Parallel<F, F> parallel, String name, NonEmptyList<PropertyTestCase<F, E, ?, ?>> tests) {
+    this(parallel, Option.none(), name, Fixture.Scope.empty(), tests);
+  }
+
+  /**
+   * It will throw {@code NullPointerException} if the tests or the fixtures are null
+   *
+   * @param parallel parallel instance for type F
+   * @param monad monad instance for type F, used to release the fixtures
+   * @param name name of the suite
+   * @param fixtures resources shared by the tests, they will be released when the suite finishes
+   * @param tests list of tests
+   */
+  protected PropertyTestSuite(Parallel<F, F> parallel, MonadDefer<F> monad, String name,
+      Sequence<? extends Fixture<?>> fixtures, NonEmptyList<PropertyTestCase<F, E, ?, ?>> tests) {
+    this(parallel, Option.none(), name, Fixture.Scope.of(monad, fixtures), tests);
+  }
+
+  /**
+   * It will throw {@code NullPointerException} if the runtime, the tests or the fixtures are null
+   *
+   * @param parallel parallel instance for type F
+   * @param runtime runtime for type F, used to run the properties one by one, see {@link #run(PropertyTestCase)}
+   * @param monad monad instance for type F, used to release the fixtures
+   * @param name name of the suite
+   * @param fixtures resources shared by the tests, they will be released when the suite finishes
+   * @param tests list of tests
+   */
+  protected PropertyTestSuite(Parallel<F, F> parallel, Runtime<F> runtime, MonadDefer<F> monad, String name,
+      Sequence<? extends Fixture<?>> fixtures, NonEmptyList<PropertyTestCase<F, E, ?, ?>> tests) {
+    this(parallel, Option.some(checkNonNull(runtime)), name, Fixture.Scope.of(monad, fixtures), tests);
+  }
+
+  private PropertyTestSuite(Parallel<F, F> parallel, Option<Runtime<F>> runtime, String name,
+      Fixture.Scope<F> fixtures, NonEmptyList<PropertyTestCase<F, E, ?, ?>> tests) {
     this.parallel = checkNonNull(parallel);
+    this.runtime = checkNonNull(runtime);
     this.name = checkNonEmpty(name);
+    this.fixtures = checkNonNull(fixtures);
     this.tests = checkNonNull(tests);
   }
 
+  public String name() {
+    return name;
+  }
+
+  public Sequence<PropertyTestCase<F, E, ?, ?>> tests() {
+    return tests;
+  }
+
+  /**
+   * It releases the fixtures of the suite. It's called automatically at the end of the execution of
+   * the suite, it only needs to be called when the tests are executed one by one with {@link #run(PropertyTestCase)}.
+   */
+  public void releaseFixtures() {
+    fixtures.release();
+  }
+
   /**
-   * It runs the suite in the given effect of the test and creates a test results
+   * It runs the tests selected by the current filter, see {@link TestFilter#current()}
    *
    * @return the result of the suite
    */
   public Kind<F, Report<E>> runK() {
-    var sequence = Instances.<Sequence<?>>traverse().sequence(parallel.monad(), tests.map(PropertyTestCase::run));
+    return runK(TestFilter.current());
+  }
 
-    var results = parallel.monad().map(sequence, SequenceOf::toSequence);
+  /**
+   * It runs the suite in the given effect of the test and creates a test results. Only the names of
+   * the tests are used to select them, the tags are ignored.
+   *
+   * @param filter filter to select the tests
+   * @return the result of the suite
+   */
+  public Kind<F, Report<E>> runK(TestFilter filter) {
+    return TestEvents.observe(parallel.monad(), () -> {
+      var sequence = Instances.<Sequence<?>>traverse().sequence(parallel.monad(), select(filter).map(this::observe));
 
-    return parallel.monad().map(results, xs -> new Report<>(name, xs));
+      var results = parallel.monad().map(sequence, SequenceOf::toSequence);
 
+      return release(parallel.monad().map(results, xs -> new Report<>(name, xs)));
+    }, Report::summary);
   }
 
   public Kind<F, Report<E>> runParK() {
-    var sequence = parallel.parSequence(Instances.traverse(), tests.map(PropertyTestCase::run));
+    return runParK(TestFilter.current());
+  }
 
-    var results = parallel.monad().map(sequence, SequenceOf::toSequence);
+  public Kind<F, Report<E>> runParK(TestFilter filter) {
+    return TestEvents.observe(parallel.monad(), () -> {
+      var sequence = parallel.parSequence(Instances.traverse(), select(filter).map(this::observe));
 
-    return parallel.monad().map(results, xs -> new Report<>(name, xs));
+      var results = parallel.monad().map(sequence, SequenceOf::toSequence);
+
+      return release(parallel.monad().map(results, xs -> new Report<>(name, xs)));
+    }, Report::summary);
+  }
+
+  /**
+   * It runs a single property of the suite in the given effect, the events of the property are published
+   * like when the suite is executed, see {@link TestEvents}. The fixtures are not released.
+   *
+   * @param test the property to run
+   * @return the result of the property
+   */
+  public Kind<F, TestSuite.Report<E>> runK(PropertyTestCase<F, E, ?, ?> test) {
+    return observe(test);
+  }
+
+  private Kind<F, TestSuite.Report<E>> observe(PropertyTestCase<F, E, ?, ?> test) {
+    return TestEvents.observe(parallel.monad(), name, test);
+  }
+
+  private Sequence<PropertyTestCase<F, E, ?, ?>> select(TestFilter filter) {
+    if (filter.isAll()) {
+      return tests;
+    }
+    return tests.filter(test -> filter.matchesName(name, test.name()));
+  }
+
+  private Kind<F, Report<E>> release(Kind<F, Report<E>> report) {
+    return fixtures.use(report);
   }
 
   /**
@@ -74,6 +177,40 @@ public abstract class PropertyTestSuite<F extends Kind<F, ?>, E> {
    */
   public abstract Report<E> run();
 
+  /**
+   * It runs a single property of the suite using the runtime given in the constructor, the fixtures
+   * are not released. It will throw {@code UnsupportedOperationException} if the suite was created
+   * without a runtime, in that case the subclass should override this method.
+   *
+   * @param test the property to run
+   * @return the result of the property
+   */
+  public TestSuite.Report<E> run(PropertyTestCase<F, E, ?, ?> test) {
+    return runtime.fold(() -> {
+      throw new UnsupportedOperationException("suite " + name + " was created without a runtime");
+    }, current -> current.run(runK(test)));
+  }
+
+  /**
+   * It runs the suite one by one using the default executor, without blocking the calling thread
+   *
+   * @return a completion stage with the result of the suite
+   */
+  public CompletionStage<Report<E>> runAsync() {
+    return runAsync(Future.DEFAULT_EXECUTOR);
+  }
+
+  /**
+   * It runs the suite one by one using the given {@code Executor}, without blocking the calling thread.
+   * By default it runs {@link #run()} in a thread of the executor.
+   *
+   * @param executor executor on which the suite is going to be executed
+   * @return a completion stage with the result of the suite
+   */
+  public CompletionStage<Report<E>> runAsync(Executor executor) {
+    return CompletableFuture.supplyAsync(this::run, executor);
+  }
+
   /**
    * It runs the suite in parallel using the default executor
    *
@@ -108,6 +245,19 @@ public abstract class PropertyTestSuite<F extends Kind<F, ?>, E> {
       this.reports = checkNonNull(reports);
     }
 
+    /**
+     * It summarizes the results of all the properties in a single report of a test suite
+     * with the same name, the summary is compact if the report of any property is compact
+     *
+     * @return the summary
+     */
+    public TestSuite.Report<E> summary() {
+      if (reports.stream().anyMatch(TestSuite.CompactReport.class::isInstance)) {
+        return TestSuite.CompactReport.concat(name, reports);
+      }
+      return TestSuite.Report.of(name, reports.flatMap(TestSuite.Report::results));
+    }
+
     public void assertion() {
       try {
         reports.forEach(TestSuite.Report::assertion);
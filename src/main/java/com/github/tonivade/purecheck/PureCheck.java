@@ -6,10 +6,16 @@ package com.github.tonivade.purecheck;
 
 import static com.github.tonivade.purefun.core.Precondition.checkNonEmpty;
 import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
 
 import com.github.tonivade.purefun.Kind;
 import com.github.tonivade.purefun.concurrent.Future;
+import com.github.tonivade.purefun.data.ImmutableList;
 import com.github.tonivade.purefun.data.NonEmptyList;
 import com.github.tonivade.purefun.data.Sequence;
 import com.github.tonivade.purefun.data.SequenceOf;
@@ -28,6 +34,14 @@ public abstract class PureCheck<F extends Kind<F, ?>, E> {
     this.suites = checkNonNull(suites);
   }
 
+  public String name() {
+    return name;
+  }
+
+  public Sequence<TestSuite<F, E>> suites() {
+    return suites;
+  }
+
   public Kind<F, Report<E>> runK() {
     var sequence = Instances.<Sequence<?>>traverse().sequence(parallel.monad(), suites.map(TestSuite::runK));
 
@@ -44,14 +58,81 @@ public abstract class PureCheck<F extends Kind<F, ?>, E> {
     return parallel.monad().map(results, xs -> new PureCheck.Report<>(name, xs));
   }
 
+  /**
+   * It runs only the test cases of the suites that belong to the given shard. Only the tests selected
+   * by the current filter are distributed between the shards, see {@link TestFilter#current()}.
+   *
+   * @param shard the shard to run
+   * @return the result of the shard
+   */
+  public Kind<F, Report<E>> runK(Shard shard) {
+    TestFilter filter = TestFilter.current();
+    List<Kind<F, TestSuite.Report<E>>> selected = select(shard, filter).stream()
+        .map(selection -> selection.suite().runK(selection.tests()::get, shard.durations(), filter)).toList();
+
+    var sequence = Instances.<Sequence<?>>traverse().sequence(parallel.monad(), ImmutableList.from(selected));
+
+    Kind<F, Sequence<TestSuite.Report<E>>> results = parallel.monad().map(sequence, SequenceOf::toSequence);
+
+    return parallel.monad().map(results, xs -> new PureCheck.Report<>(name, xs));
+  }
+
   public abstract Report<E> run();
 
+  /**
+   * It runs only the test cases of the suites that belong to the given shard, one by one, using the
+   * runtime of each suite, see {@link TestSuite#run(TestCase)}.
+   *
+   * @param shard the shard to run
+   * @return the result of the shard
+   */
+  public Report<E> run(Shard shard) {
+    TestFilter filter = TestFilter.current();
+    List<TestSuite.Report<E>> reports = select(shard, filter).stream()
+        .map(selection -> selection.suite().run(selection.tests()::get, shard.durations(), filter)).toList();
+    return new PureCheck.Report<>(name, ImmutableList.from(reports));
+  }
+
+  private List<Selection<F, E>> select(Shard shard, TestFilter filter) {
+    List<TestSuite<F, E>> list = suites.stream().toList();
+    List<BitSet> selection = shard.select(list.stream().map(suite -> suite.describe(filter)).toList());
+
+    List<Selection<F, E>> selected = new ArrayList<>();
+    for (int i = 0; i < list.size(); i++) {
+      BitSet tests = selection.get(i);
+      if (!tests.isEmpty()) {
+        selected.add(new Selection<>(list.get(i), tests));
+      }
+    }
+    return selected;
+  }
+
   public abstract Future<Report<E>> parRun(Executor executor);
 
   public Future<Report<E>> parRun() {
     return parRun(Future.DEFAULT_EXECUTOR);
   }
 
+  /**
+   * It runs the suites one by one using the default executor, without blocking the calling thread
+   *
+   * @return a completion stage with the result
+   */
+  public CompletionStage<Report<E>> runAsync() {
+    return runAsync(Future.DEFAULT_EXECUTOR);
+  }
+
+  /**
+   * It runs the suites one by one using the given {@code Executor}, without blocking the calling thread.
+   * By default it runs {@link #run()} in a thread of the executor.
+   *
+   * @param executor executor on which the suites are going to be executed
+   * @return a completion stage with the result
+   */
+  public CompletionStage<Report<E>> runAsync(Executor executor) {
+    return CompletableFuture.supplyAsync(this::run, executor);
+  }
+
   public static class Report<E> {
 
     private final String name;
@@ -62,6 +143,14 @@ public abstract class PureCheck<F extends Kind<F, ?>, E> {
       this.reports = checkNonNull(reports);
     }
 
+    public String name() {
+      return name;
+    }
+
+    public Sequence<TestSuite.Report<E>> reports() {
+      return reports;
+    }
+
     public void assertion() {
       try {
         reports.forEach(TestSuite.Report::assertion);
@@ -75,4 +164,6 @@ public abstract class PureCheck<F extends Kind<F, ?>, E> {
       return reports.join("\n\n", "# " + name + "\n\n", "\n");
     }
   }
+
+  private record Selection<F extends Kind<F, ?>, E>(TestSuite<F, E> suite, BitSet tests) { }
 }
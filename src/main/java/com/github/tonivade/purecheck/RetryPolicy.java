@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.github.tonivade.purefun.Kind;
+import com.github.tonivade.purefun.typeclasses.MonadDefer;
+
+/**
+ * <p>It defines how many times a failed test is going to be executed again, and how long to wait between
+ * attempts.</p>
+ *
+ * <p>The delay between attempts grows using the given factor, until the max delay, and it can be randomized
+ * with a jitter. Optionally, a {@link Budget} can be shared by all the tests of a suite to limit the
+ * total number of retries.</p>
+ *
+ * @author tonivade
+ */
+public final class RetryPolicy {
+
+  private static final Duration UNBOUNDED = Duration.ofNanos(Long.MAX_VALUE);
+
+  private final int times;
+  private final Duration delay;
+  private final double factor;
+  private final Duration maxDelay;
+  private final double jitter;
+  private final Budget budget;
+
+  private RetryPolicy(int times, Duration delay, double factor, Duration maxDelay, double jitter, Budget budget) {
+    this.times = times;
+    this.delay = checkNonNull(delay);
+    this.factor = factor;
+    this.maxDelay = checkNonNull(maxDelay);
+    this.jitter = jitter;
+    this.budget = checkNonNull(budget);
+  }
+
+  /**
+   * It creates a policy that retries the given number of times without delay between attempts
+   *
+   * @param times number of retries
+   * @return a new policy
+   */
+  public static RetryPolicy recurs(int times) {
+    return new RetryPolicy(Math.max(times, 0), Duration.ZERO, 1.0, UNBOUNDED, 0.0, Budget.UNLIMITED);
+  }
+
+  public int times() {
+    return times;
+  }
+
+  /**
+   * It waits the same delay between attempts
+   *
+   * @param delay duration to wait
+   * @return a new policy
+   */
+  public RetryPolicy spaced(Duration delay) {
+    return backoff(delay, 1.0);
+  }
+
+  /**
+   * It waits between attempts a delay that grows exponentially by the given factor
+   *
+   * @param delay duration to wait before the first retry
+   * @param factor factor to apply to the delay after each attempt
+   * @return a new policy
+   */
+  public RetryPolicy backoff(Duration delay, double factor) {
+    if (factor < 1.0) {
+      throw new IllegalArgumentException("factor should be greater or equal than 1: " + factor);
+    }
+    return new RetryPolicy(times, delay, factor, maxDelay, jitter, budget);
+  }
+
+  /**
+   * It limits the delay between attempts
+   *
+   * @param maxDelay max duration to wait
+   * @return a new policy
+   */
+  public RetryPolicy maxDelay(Duration maxDelay) {
+    return new RetryPolicy(times, delay, factor, maxDelay, jitter, budget);
+  }
+
+  /**
+   * It randomizes the delay between attempts, a jitter of 0.1 means the delay is going to be
+   * a random value between 90% and 110% of the calculated delay
+   *
+   * @param jitter value between 0 and 1
+   * @return a new policy
+   */
+  public RetryPolicy jitter(double jitter) {
+    if (jitter < 0.0 || jitter > 1.0) {
+      throw new IllegalArgumentException("jitter should be a value between 0 and 1: " + jitter);
+    }
+    return new RetryPolicy(times, delay, factor, maxDelay, jitter, budget);
+  }
+
+  /**
+   * It limits the retries using a budget that can be shared by other tests
+   *
+   * @param budget the shared budget
+   * @return a new policy
+   */
+  public RetryPolicy budget(Budget budget) {
+    return new RetryPolicy(times, delay, factor, maxDelay, jitter, budget);
+  }
+
+  Duration delay(int attempt) {
+    if (delay.isZero()) {
+      return Duration.ZERO;
+    }
+    double nanos = Math.min(delay.toNanos() * Math.pow(factor, attempt - 1.0), maxDelay.toNanos());
+    if (jitter > 0.0) {
+      nanos = nanos * (1.0 + jitter * ThreadLocalRandom.current().nextDouble(-1.0, 1.0));
+    }
+    return Duration.ofNanos((long) nanos);
+  }
+
+  /**
+   * It executes the test again while the result is a failure, one attempt after another,
+   * without nesting the effect of each attempt.
+   *
+   * @return the last result, with the number of attempts if it was retried
+   */
+  <F extends Kind<F, ?>, E, T, R> Kind<F, TestResult<E, T, R>> retryOnFailure(
+      MonadDefer<F> monad, Kind<F, TestResult<E, T, R>> test) {
+    return loop(monad, test, 1);
+  }
+
+  private <F extends Kind<F, ?>, E, T, R> Kind<F, TestResult<E, T, R>> loop(
+      MonadDefer<F> monad, Kind<F, TestResult<E, T, R>> test, int attempt) {
+    return monad.flatMap(test, result -> {
+      if (result.isFailure() && attempt <= times && budget.tryAcquire()) {
+        Duration wait = delay(attempt);
+        if (wait.isZero()) {
+          return loop(monad, test, attempt + 1);
+        }
+        return monad.andThen(monad.sleep(wait), () -> loop(monad, test, attempt + 1));
+      }
+      return monad.pure(attempt > 1 ? TestResult.retried(result, attempt) : result);
+    });
+  }
+
+  /**
+   * It limits the number of retries allowed, it's thread-safe so it can be shared by all the tests
+   * of a suite even if they are executed in parallel.
+   *
+   * @author tonivade
+   */
+  public static final class Budget {
+
+    private static final Budget UNLIMITED = new Budget(Integer.MAX_VALUE);
+
+    private final AtomicInteger remaining;
+
+    private Budget(int retries) {
+      this.remaining = new AtomicInteger(retries);
+    }
+
+    public static Budget of(int retries) {
+      if (retries < 0) {
+        throw new IllegalArgumentException("retries should be a positive value: " + retries);
+      }
+      return new Budget(retries);
+    }
+
+    public int remaining() {
+      return remaining.get();
+    }
+
+    boolean tryAcquire() {
+      if (this == UNLIMITED) {
+        return true;
+      }
+      int current;
+      do {
+        current = remaining.get();
+        if (current <= 0) {
+          return false;
+        }
+      } while (!remaining.compareAndSet(current, current - 1));
+      return true;
+    }
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.github.tonivade.purefun.core.Function1;
+
+/**
+ * <p>It converts a row read by a {@link DataSource} into a value.</p>
+ *
+ * <p>The buffer received is a read-only view of the mapped file, positioned at the beginning of the row
+ * and limited to the end of the row. It should not be kept after the call.</p>
+ *
+ * @author tonivade
+ *
+ * @param <T> type of the decoded value
+ */
+@FunctionalInterface
+public interface RowDecoder<T> {
+
+  T decode(ByteBuffer row);
+
+  default <R> RowDecoder<R> map(Function1<? super T, ? extends R> mapper) {
+    return row -> mapper.apply(decode(row));
+  }
+
+  /**
+   * It decodes the row as an UTF-8 string
+   *
+   * @return the decoder
+   */
+  static RowDecoder<String> utf8() {
+    return row -> UTF_8.decode(row).toString();
+  }
+
+  /**
+   * It decodes the row as a comma separated list of UTF-8 values
+   *
+   * @return the decoder
+   */
+  static RowDecoder<List<String>> csv() {
+    return csv(',');
+  }
+
+  /**
+   * It decodes the row as a list of UTF-8 values separated by the given character. Values can be quoted
+   * with {@code "}, and quotes inside a quoted value are escaped with another quote.
+   *
+   * @param separator separator of the values
+   * @return the decoder
+   */
+  static RowDecoder<List<String>> csv(char separator) {
+    return utf8().map(line -> parseCsv(line, separator));
+  }
+
+  private static List<String> parseCsv(String line, char separator) {
+    List<String> values = new ArrayList<>();
+    StringBuilder current = new StringBuilder();
+    boolean quoted = false;
+    for (int i = 0; i < line.length(); i++) {
+      char c = line.charAt(i);
+      if (quoted) {
+        if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+          current.append('"');
+          i++;
+        } else if (c == '"') {
+          quoted = false;
+        } else {
+          current.append(c);
+        }
+      } else if (c == '"') {
+        quoted = true;
+      } else if (c == separator) {
+        values.add(current.toString());
+        current.setLength(0);
+      } else {
+        current.append(c);
+      }
+    }
+    values.add(current.toString());
+    return List.copyOf(values);
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+
+import com.github.tonivade.purefun.type.Option;
+
+/**
+ * <p>It defines a subset of the test cases of a {@link PureCheck}, to be able to split the execution in several
+ * processes, all of them with the same total number of shards and a different index.</p>
+ *
+ * <p>The distribution is deterministic: given the same tests and the same historical durations, every process
+ * computes the same assignment. Test cases are assigned, longest first, to the shard with less accumulated time.
+ * Test cases without historical duration are estimated with the mean of the known durations.</p>
+ *
+ * @param index index of the shard, from 0 to total - 1
+ * @param total number of shards
+ * @param durations historical durations used to balance the shards, the durations of the executed
+ *        tests will be recorded here
+ *
+ * @author tonivade
+ */
+public record Shard(int index, int total, Durations durations) {
+
+  private static final String SHARD_PROPERTY = "purecheck.shard";
+
+  public Shard {
+    if (total < 1) {
+      throw new IllegalArgumentException("total should be greater than 0: " + total);
+    }
+    if (index < 0 || index >= total) {
+      throw new IllegalArgumentException("index should be between 0 and " + (total - 1) + ": " + index);
+    }
+    checkNonNull(durations);
+  }
+
+  public static Shard of(int index, int total) {
+    return new Shard(index, total, Durations.empty());
+  }
+
+  /**
+   * It reads the shard from the system property {@code purecheck.shard} with the format {@code index/total},
+   * for example {@code -Dpurecheck.shard=0/4}
+   *
+   * @return the shard if the property is defined
+   */
+  public static Option<Shard> fromSystemProperty() {
+    return Option.of(System.getProperty(SHARD_PROPERTY)).map(Shard::parse);
+  }
+
+  public Shard balancedBy(Durations durations) {
+    return new Shard(index, total, durations);
+  }
+
+  /**
+   * It selects the test cases of each suite that belong to this shard
+   *
+   * @param suites name of the suite and names of the test cases of each suite
+   * @return the selected test cases of each suite
+   */
+  List<BitSet> select(List<Suite> suites) {
+    List<Case> cases = new ArrayList<>();
+    for (int i = 0; i < suites.size(); i++) {
+      Suite suite = suites.get(i);
+      for (int j = 0; j < suite.tests().size(); j++) {
+        Option<Duration> duration = durations.get(suite.name(), suite.tests().get(j));
+        cases.add(new Case(i, j, suite.name() + "/" + suite.tests().get(j), duration.map(Duration::toNanos).getOrElse(-1L)));
+      }
+    }
+
+    long estimation = Math.max(1L, (long) cases.stream().mapToLong(Case::nanos).filter(x -> x >= 0).average().orElse(1.0));
+
+    cases.sort(Comparator.comparingLong((Case c) -> c.nanos() < 0 ? estimation : c.nanos()).reversed()
+        .thenComparing(Case::key).thenComparingInt(Case::suite).thenComparingInt(Case::test));
+
+    long[] load = new long[total];
+    List<BitSet> selection = new ArrayList<>(suites.size());
+    for (int i = 0; i < suites.size(); i++) {
+      selection.add(new BitSet());
+    }
+    for (Case current : cases) {
+      int shard = 0;
+      for (int i = 1; i < total; i++) {
+        if (load[i] < load[shard]) {
+          shard = i;
+        }
+      }
+      load[shard] += current.nanos() < 0 ? estimation : current.nanos();
+      if (shard == index) {
+        selection.get(current.suite()).set(current.test());
+      }
+    }
+    return selection;
+  }
+
+  private static Shard parse(String value) {
+    String[] parts = value.split("/");
+    if (parts.length != 2) {
+      throw new IllegalArgumentException("invalid shard, expected index/total: " + value);
+    }
+    return of(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+  }
+
+  @Override
+  public String toString() {
+    return "shard " + index + "/" + total;
+  }
+
+  record Suite(String name, List<String> tests) { }
+
+  private record Case(int suite, int test, String key, long nanos) { }
+}
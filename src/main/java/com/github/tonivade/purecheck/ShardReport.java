@@ -0,0 +1,314 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.github.tonivade.purefun.data.ImmutableList;
+import com.github.tonivade.purefun.data.Sequence;
+import com.github.tonivade.purefun.type.Either;
+import com.github.tonivade.purefun.type.Validation.Result;
+
+/**
+ * <p>It stores the report generated by a shard in a file, with the durations of the tests, and it allows
+ * to merge the files generated by all the shards in a single report.</p>
+ *
+ * <p>The input and output values of the tests are stored as strings, and the errors are stored with its
+ * description and stack trace, so the values don't need to be serializable. The outcomes of a
+ * {@link TestSuite.CompactReport} are stored as well, so the successful tests are not lost. The files are
+ * read with a filter that only accepts those strings, stack traces and errors.</p>
+ *
+ * <p>It can be used from the command line to merge the reports:</p>
+ *
+ * <pre>
+ *   java -Dpurecheck.durations=durations.properties com.github.tonivade.purecheck.ShardReport shard-0.bin shard-1.bin
+ * </pre>
+ *
+ * @author tonivade
+ *
+ * @param <E> type of the error generated by the tests
+ */
+public final class ShardReport<E> {
+
+  private static final int VERSION = 2;
+  private static final String DURATIONS_PROPERTY = "purecheck.durations";
+  private static final ObjectInputFilter FILTER = ObjectInputFilter.Config.createFilter(
+      "maxdepth=16;maxarray=100000;maxbytes=100000000;java.lang.String;java.lang.StackTraceElement;"
+      + "java.lang.RuntimeException;java.lang.Exception;java.lang.Throwable;java.util.Collections$EmptyList;!*");
+
+  private static final byte SUCCESS = 0;
+  private static final byte FAILURE = 1;
+  private static final byte ERROR = 2;
+  private static final byte DISABLED = 3;
+  private static final byte RETRIED = 4;
+
+  private final PureCheck.Report<E> report;
+  private final Durations durations;
+
+  public ShardReport(PureCheck.Report<E> report, Durations durations) {
+    this.report = checkNonNull(report);
+    this.durations = checkNonNull(durations);
+  }
+
+  public PureCheck.Report<E> report() {
+    return report;
+  }
+
+  public Durations durations() {
+    return durations;
+  }
+
+  /**
+   * It writes the report and the durations to the given file
+   *
+   * @param file destination file
+   */
+  public void write(Path file) {
+    try (var output = new ObjectOutputStream(Files.newOutputStream(file))) {
+      output.writeInt(VERSION);
+      output.writeObject(report.name());
+      output.writeInt(report.reports().size());
+      for (TestSuite.Report<E> suite : report.reports()) {
+        output.writeObject(suite.name());
+        writeOutcomes(output, suite);
+        output.writeInt(suite.results().size());
+        for (TestResult<E, ?, ?> result : suite.results()) {
+          writeResult(output, result);
+        }
+      }
+      Map<String, Long> nanos = durations.asMap();
+      output.writeInt(nanos.size());
+      for (var entry : nanos.entrySet()) {
+        output.writeObject(entry.getKey());
+        output.writeLong(entry.getValue());
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * It reads a report from the given file
+   *
+   * @param file the file generated by {@link #write(Path)}
+   * @param <E> type of the error generated by the tests
+   * @return the report
+   */
+  public static <E> ShardReport<E> read(Path file) {
+    try (var input = new ObjectInputStream(Files.newInputStream(file))) {
+      input.setObjectInputFilter(FILTER);
+      int version = input.readInt();
+      if (version != VERSION) {
+        throw new IllegalArgumentException("unsupported version " + version + " in file " + file);
+      }
+      String name = (String) input.readObject();
+      int suites = input.readInt();
+      List<TestSuite.Report<E>> reports = new ArrayList<>(suites);
+      for (int i = 0; i < suites; i++) {
+        String suite = (String) input.readObject();
+        boolean compact = input.readBoolean();
+        int total = compact ? input.readInt() : 0;
+        long[] outcomes = compact ? readOutcomes(input) : new long[0];
+        int size = input.readInt();
+        List<TestResult<E, ?, ?>> results = new ArrayList<>(size);
+        for (int j = 0; j < size; j++) {
+          results.add(ShardReport.<E>readResult(input));
+        }
+        reports.add(compact
+            ? new TestSuite.CompactReport<>(suite, ImmutableList.from(results), total, outcomes)
+            : new TestSuite.Report<>(suite, ImmutableList.from(results)));
+      }
+      int size = input.readInt();
+      Map<String, Long> nanos = new HashMap<>(size);
+      for (int i = 0; i < size; i++) {
+        nanos.put((String) input.readObject(), input.readLong());
+      }
+      return new ShardReport<>(new PureCheck.Report<>(name, ImmutableList.from(reports)), Durations.from(nanos));
+    } catch (InvalidClassException | ClassNotFoundException e) {
+      throw new IllegalArgumentException("invalid file " + file, e);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * It merges the reports generated by several shards, the results of the suites with the same name are
+   * combined in a single suite. If any of the shards generated a {@link TestSuite.CompactReport} for a suite,
+   * the combined suite is a compact report too.
+   *
+   * @param shards reports of each shard
+   * @param <E> type of the error generated by the tests
+   * @return the merged report
+   */
+  public static <E> ShardReport<E> merge(Sequence<ShardReport<E>> shards) {
+    if (shards.isEmpty()) {
+      throw new IllegalArgumentException("nothing to merge");
+    }
+    String name = shards.stream().findFirst().orElseThrow().report().name();
+    Map<String, List<TestSuite.Report<E>>> suites = new LinkedHashMap<>();
+    Durations durations = Durations.empty();
+    for (ShardReport<E> shard : shards) {
+      for (TestSuite.Report<E> suite : shard.report().reports()) {
+        suites.computeIfAbsent(suite.name(), ignore -> new ArrayList<>()).add(suite);
+      }
+      durations = durations.merge(shard.durations());
+    }
+    List<TestSuite.Report<E>> reports = new ArrayList<>(suites.size());
+    suites.forEach((suite, parts) -> reports.add(combine(suite, ImmutableList.from(parts))));
+    return new ShardReport<>(new PureCheck.Report<>(name, ImmutableList.from(reports)), durations);
+  }
+
+  /**
+   * It merges the files given as arguments and prints the merged report. If the system property
+   * {@code purecheck.durations} is defined, the merged durations are stored in that file to be used
+   * in the next execution. It exits with 1 if any test fails.
+   *
+   * @param args the files to merge
+   */
+  public static void main(String[] args) {
+    if (args.length == 0) {
+      System.err.println("usage: ShardReport <file>...");
+      System.exit(2);
+    }
+    List<ShardReport<Object>> shards = new ArrayList<>(args.length);
+    for (String arg : args) {
+      shards.add(read(Path.of(arg)));
+    }
+    ShardReport<Object> merged = merge(ImmutableList.from(shards));
+    String durations = System.getProperty(DURATIONS_PROPERTY);
+    if (durations != null) {
+      merged.durations().save(Path.of(durations));
+    }
+    System.out.println(merged.report());
+    if (merged.report().reports().stream().anyMatch(suite -> suite.failures() > 0 || suite.errors() > 0)) {
+      System.exit(1);
+    }
+  }
+
+  private static <E> TestSuite.Report<E> combine(String name, Sequence<TestSuite.Report<E>> parts) {
+    if (parts.stream().anyMatch(TestSuite.CompactReport.class::isInstance)) {
+      return TestSuite.CompactReport.concat(name, parts);
+    }
+    List<TestResult<E, ?, ?>> results = new ArrayList<>();
+    parts.forEach(part -> part.results().forEach(results::add));
+    return new TestSuite.Report<>(name, ImmutableList.from(results));
+  }
+
+  private static void writeOutcomes(ObjectOutputStream output, TestSuite.Report<?> suite) throws IOException {
+    if (suite instanceof TestSuite.CompactReport<?> compact) {
+      output.writeBoolean(true);
+      output.writeInt((int) compact.total());
+      long[] outcomes = compact.outcomes();
+      output.writeInt(outcomes.length);
+      for (long word : outcomes) {
+        output.writeLong(word);
+      }
+    } else {
+      output.writeBoolean(false);
+    }
+  }
+
+  private static long[] readOutcomes(ObjectInputStream input) throws IOException {
+    long[] outcomes = new long[input.readInt()];
+    for (int i = 0; i < outcomes.length; i++) {
+      outcomes[i] = input.readLong();
+    }
+    return outcomes;
+  }
+
+  private static void writeResult(ObjectOutputStream output, TestResult<?, ?, ?> result) throws IOException {
+    switch (result) {
+      case TestResult.Success<?, ?, ?> success -> {
+        output.writeByte(SUCCESS);
+        output.writeObject(success.name());
+        output.writeObject(String.valueOf(success.input()));
+        writeValue(output, success.value());
+      }
+      case TestResult.Failure<?, ?, ?> failure -> {
+        output.writeByte(FAILURE);
+        output.writeObject(failure.name());
+        output.writeObject(String.valueOf(failure.input()));
+        output.writeObject(failure.caller());
+        writeValue(output, failure.value());
+        output.writeObject(failure.result().join(","));
+      }
+      case TestResult.Error<?, ?, ?> error -> {
+        output.writeByte(ERROR);
+        output.writeObject(error.name());
+        output.writeObject(String.valueOf(error.input()));
+        output.writeObject(error.caller());
+        writeValue(output, error.error().swap());
+      }
+      case TestResult.Disabled<?, ?, ?> disabled -> {
+        output.writeByte(DISABLED);
+        output.writeObject(disabled.name());
+        output.writeObject(disabled.reason());
+      }
+      case TestResult.Retried<?, ?, ?> retried -> {
+        output.writeByte(RETRIED);
+        output.writeInt(retried.attempts());
+        writeResult(output, retried.result());
+      }
+    }
+  }
+
+  private static void writeValue(ObjectOutputStream output, Either<Throwable, ?> value) throws IOException {
+    output.writeBoolean(value.isLeft());
+    if (value.isLeft()) {
+      output.writeObject(detach(value.getLeft()));
+    } else {
+      output.writeObject(String.valueOf(value.getRight()));
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <E> TestResult<E, ?, ?> readResult(ObjectInputStream input) throws IOException, ClassNotFoundException {
+    byte type = input.readByte();
+    return switch (type) {
+      case SUCCESS -> new TestResult.Success<E, String, String>(
+          (String) input.readObject(), (String) input.readObject(), readValue(input));
+      case FAILURE -> new TestResult.Failure<E, String, String>(
+          (String) input.readObject(), (String) input.readObject(), (StackTraceElement) input.readObject(),
+          readValue(input), (Result<E>) Result.of(input.readObject()));
+      case ERROR -> new TestResult.Error<E, String, String>(
+          (String) input.readObject(), (String) input.readObject(), (StackTraceElement) input.readObject(),
+          readValue(input).swap());
+      case DISABLED -> new TestResult.Disabled<E, String, String>(
+          (String) input.readObject(), (String) input.readObject());
+      case RETRIED -> {
+        int attempts = input.readInt();
+        yield new TestResult.Retried<>((TestResult<E, Object, Object>) readResult(input), attempts);
+      }
+      default -> throw new IllegalArgumentException("invalid result type: " + type);
+    };
+  }
+
+  private static Either<Throwable, String> readValue(ObjectInputStream input) throws IOException, ClassNotFoundException {
+    if (input.readBoolean()) {
+      return Either.left((Throwable) input.readObject());
+    }
+    return Either.right((String) input.readObject());
+  }
+
+  private static Throwable detach(Throwable error) {
+    var detached = new RuntimeException(error.toString());
+    detached.setStackTrace(error.getStackTrace());
+    return detached;
+  }
+}
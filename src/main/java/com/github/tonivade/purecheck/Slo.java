@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import com.github.tonivade.purecheck.PerfCase.Stats;
+import com.github.tonivade.purefun.core.Function1;
+import com.github.tonivade.purefun.core.Producer;
+import com.github.tonivade.purefun.core.Validator;
+import com.github.tonivade.purefun.type.Option;
+import com.github.tonivade.purefun.type.Validation;
+
+/**
+ * <p>Validators of the {@link Stats} generated by a perf case, to express the service level objectives
+ * of the operation under test:</p>
+ *
+ * <pre>
+ * it.should("be fast enough")
+ *   .given(1000)
+ *   .whenK(perfCase::run)
+ *   .then(Slo.all(Slo.percentile(99.9, Duration.ofMillis(2)), Slo.throughput(10_000)));
+ * </pre>
+ *
+ * <p>When a validation fails, the message includes the whole distribution of the samples.</p>
+ *
+ * @author tonivade
+ */
+public final class Slo {
+
+  private Slo() { }
+
+  /**
+   * The given percentile should be lower or equal than the given duration
+   *
+   * @param percentile the percentile, between 0 and 100, for example {@code 99.99}
+   * @param max max duration
+   * @return the validator
+   */
+  public static Validator<String, Stats> percentile(double percentile, Duration max) {
+    checkNonNull(max);
+    return check(stats -> {
+      Duration value = stats.getPercentile(percentile);
+      return error(value.compareTo(max) > 0,
+          () -> String.format(Locale.ROOT, "p%s was %s, expected at most %s", percentile, value, max));
+    });
+  }
+
+  public static Validator<String, Stats> p99(Duration max) {
+    return percentile(99, max);
+  }
+
+  public static Validator<String, Stats> p999(Duration max) {
+    return percentile(99.9, max);
+  }
+
+  public static Validator<String, Stats> p9999(Duration max) {
+    return percentile(99.99, max);
+  }
+
+  /**
+   * The operations executed by second, calculated using the mean duration, should be greater or
+   * equal than the given value
+   *
+   * @param min minimum number of operations per second
+   * @return the validator
+   */
+  public static Validator<String, Stats> throughput(long min) {
+    return check(stats -> {
+      long value = stats.getRequestsPerSeconds();
+      return error(value < min, () -> "throughput was " + value + " ops/s, expected at least " + min + " ops/s");
+    });
+  }
+
+  /**
+   * The standard deviation of the durations should be lower or equal than the given duration
+   *
+   * @param max max jitter
+   * @return the validator
+   */
+  public static Validator<String, Stats> jitter(Duration max) {
+    checkNonNull(max);
+    return check(stats -> {
+      Duration value = stats.getJitter();
+      return error(value.compareTo(max) > 0, () -> "jitter was " + value + ", expected at most " + max);
+    });
+  }
+
+  /**
+   * The bytes allocated by each execution should be lower or equal than the given value. It fails if
+   * the allocation could not be measured, because the effect was executed in a different thread or the
+   * JVM doesn't support it.
+   *
+   * @param max max number of bytes allocated by operation
+   * @return the validator
+   */
+  public static Validator<String, Stats> allocation(long max) {
+    return check(stats -> stats.allocation().fold(
+        () -> Option.some("allocation per operation not available"),
+        value -> error(value > max, () -> "allocation was " + value + " bytes/op, expected at most " + max + " bytes/op")));
+  }
+
+  /**
+   * It combines all the validators, the message contains all the errors found and the distribution
+   * of the samples only once
+   *
+   * @param validators validators to combine
+   * @return the validator
+   */
+  @SafeVarargs
+  public static Validator<String, Stats> all(Validator<String, Stats>... validators) {
+    return stats -> {
+      String distribution = distribution(stats);
+      List<String> errors = new ArrayList<>();
+      for (Validator<String, Stats> validator : validators) {
+        Validation<String, Stats> result = validator.validate(stats);
+        if (result.isInvalid()) {
+          String error = result.getError();
+          errors.add(error.endsWith(distribution) ? error.substring(0, error.length() - distribution.length()) : error);
+        }
+      }
+      return errors.isEmpty() ? Validation.valid(stats) : Validation.invalid(String.join("\n", errors) + distribution);
+    };
+  }
+
+  private static Validator<String, Stats> check(Function1<Stats, Option<String>> check) {
+    return stats -> check.apply(stats).fold(
+        () -> Validation.valid(stats),
+        error -> Validation.invalid(error + distribution(stats)));
+  }
+
+  private static Option<String> error(boolean failed, Producer<String> message) {
+    return failed ? Option.some(message.get()) : Option.none();
+  }
+
+  private static String distribution(Stats stats) {
+    return "\n" + stats.distribution();
+  }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonEmpty;
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+import com.github.tonivade.purefun.core.Validator;
+import com.github.tonivade.purefun.type.Validation;
+
+/**
+ * <p>Golden-file assertions. The value generated by the test is compared with the snapshot stored in
+ * a file with the given name. If the file doesn't exist the validation fails, unless the snapshots are
+ * being updated, so a missing snapshot is never accepted silently, for example in a CI build.</p>
+ *
+ * <p>The values are compared by size and by a hash of the file, calculated reading the file by blocks,
+ * so the expected value is never loaded in memory if it matches. Only when it doesn't match a diff is
+ * generated, limited to the first lines that are different.</p>
+ *
+ * <p>Byte arrays and {@code ByteBuffer} values are stored as is, any other value is stored as the UTF-8
+ * representation of its {@code toString()}.</p>
+ *
+ * <p>The snapshots are stored by default in {@code src/test/resources/snapshots}, it can be changed with
+ * the system property {@code purecheck.snapshots}. The snapshots can be regenerated with the system
+ * property {@code purecheck.snapshots.update=true}, that is also needed to create new snapshots.</p>
+ *
+ * <p>The name of the file is the name of the snapshot with any character not allowed replaced by
+ * {@code _}, followed by a short hash of the original name, so different names never share a file.</p>
+ *
+ * @author tonivade
+ */
+public final class Snapshot {
+
+  private static final String DIRECTORY_PROPERTY = "purecheck.snapshots";
+  private static final String UPDATE_PROPERTY = "purecheck.snapshots.update";
+  private static final String DEFAULT_DIRECTORY = "src/test/resources/snapshots";
+  private static final String EXTENSION = ".snap";
+
+  private static final int NAME_HASH_LENGTH = 4;
+  private static final int BLOCK_SIZE = 64 * 1024;
+  private static final int MAX_DIFF_LINES = 10;
+  private static final int MAX_LINE_LENGTH = 120;
+
+  private final Path directory;
+  private final String name;
+  private final boolean update;
+
+  private Snapshot(Path directory, String name, boolean update) {
+    this.directory = checkNonNull(directory);
+    this.name = checkNonEmpty(name);
+    this.update = update;
+  }
+
+  /**
+   * It validates that the value matches the snapshot with the given name, stored in the default directory
+   *
+   * @param name name of the snapshot
+   * @param <T> type of the value
+   * @return the validator
+   */
+  public static <T> Validator<String, T> matchesSnapshot(String name) {
+    return matchesSnapshot(Path.of(System.getProperty(DIRECTORY_PROPERTY, DEFAULT_DIRECTORY)), name);
+  }
+
+  public static <T> Validator<String, T> matchesSnapshot(Path directory, String name) {
+    return matchesSnapshot(directory, name, Boolean.getBoolean(UPDATE_PROPERTY));
+  }
+
+  static <T> Validator<String, T> matchesSnapshot(Path directory, String name, boolean update) {
+    var snapshot = new Snapshot(directory, name, update);
+    return snapshot::validate;
+  }
+
+  private <T> Validation<String, T> validate(T value) {
+    byte[] actual = toBytes(value);
+    Path file = directory.resolve(fileName(name));
+    try {
+      if (update) {
+        write(directory, file, actual);
+        return Validation.valid(value);
+      }
+      if (!Files.exists(file)) {
+        return Validation.invalid("snapshot '" + name + "' not found in " + file
+            + ", run with -D" + UPDATE_PROPERTY + "=true to create it");
+      }
+      if (Files.size(file) == actual.length && Arrays.equals(hash(file), sha256().digest(actual))) {
+        return Validation.valid(value);
+      }
+      return Validation.invalid(diff(file, value, actual));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private String diff(Path file, Object value, byte[] actual) throws IOException {
+    String header = "snapshot '" + name + "' does not match " + file
+        + " (expected " + Files.size(file) + " bytes, actual " + actual.length + " bytes)";
+    if (value instanceof byte[] || value instanceof ByteBuffer) {
+      return header + ", first difference at byte " + firstDifference(file, actual);
+    }
+    StringBuilder diff = new StringBuilder(header).append(':');
+    int differences = 0;
+    try (BufferedReader expected = Files.newBufferedReader(file, UTF_8);
+        BufferedReader current = new BufferedReader(new StringReader(new String(actual, UTF_8)))) {
+      int line = 1;
+      String left = expected.readLine();
+      String right = current.readLine();
+      while ((left != null || right != null) && differences < MAX_DIFF_LINES) {
+        if (left == null || !left.equals(right)) {
+          diff.append("\n@@ line ").append(line)
+            .append("\n- ").append(left != null ? abbreviate(left) : "<missing>")
+            .append("\n+ ").append(right != null ? abbreviate(right) : "<missing>");
+          differences++;
+        }
+        left = expected.readLine();
+        right = current.readLine();
+        line++;
+      }
+      if (left != null || right != null) {
+        diff.append("\n...");
+      }
+    }
+    return diff.toString();
+  }
+
+  private static long firstDifference(Path file, byte[] actual) throws IOException {
+    try (InputStream input = Files.newInputStream(file)) {
+      byte[] block = new byte[BLOCK_SIZE];
+      long offset = 0;
+      int read;
+      while ((read = input.read(block)) > 0) {
+        for (int i = 0; i < read; i++) {
+          if (offset + i >= actual.length || block[i] != actual[(int) offset + i]) {
+            return offset + i;
+          }
+        }
+        offset += read;
+      }
+      return offset;
+    }
+  }
+
+  private static byte[] hash(Path file) throws IOException {
+    MessageDigest digest = sha256();
+    try (InputStream input = Files.newInputStream(file)) {
+      byte[] block = new byte[BLOCK_SIZE];
+      int read;
+      while ((read = input.read(block)) > 0) {
+        digest.update(block, 0, read);
+      }
+    }
+    return digest.digest();
+  }
+
+  private static void write(Path directory, Path file, byte[] value) throws IOException {
+    Files.createDirectories(directory);
+    Path temp = Files.createTempFile(directory, "snapshot", ".tmp");
+    Files.write(temp, value);
+    Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  private static byte[] toBytes(Object value) {
+    if (value instanceof byte[] bytes) {
+      return bytes;
+    }
+    if (value instanceof ByteBuffer buffer) {
+      byte[] bytes = new byte[buffer.remaining()];
+      buffer.duplicate().get(bytes);
+      return bytes;
+    }
+    return String.valueOf(value).getBytes(UTF_8);
+  }
+
+  private static String fileName(String name) {
+    byte[] hash = Arrays.copyOf(sha256().digest(name.getBytes(UTF_8)), NAME_HASH_LENGTH);
+    return name.replaceAll("[^A-Za-z0-9._-]", "_") + "-" + HexFormat.of().formatHex(hash) + EXTENSION;
+  }
+
+  private static String abbreviate(String line) {
+    if (line.length() <= MAX_LINE_LENGTH) {
+      return line;
+    }
+    return line.substring(0, MAX_LINE_LENGTH) + "... (" + (line.length() - MAX_LINE_LENGTH) + " more)";
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "Snapshot(" + name + ")";
+  }
+}
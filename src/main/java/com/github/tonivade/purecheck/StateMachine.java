@@ -0,0 +1,443 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonEmpty;
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.github.tonivade.purecheck.Linearizability.History;
+import com.github.tonivade.purecheck.Linearizability.Operation;
+import com.github.tonivade.purefun.Kind;
+import com.github.tonivade.purefun.core.Function1;
+import com.github.tonivade.purefun.core.Function2;
+import com.github.tonivade.purefun.core.Producer;
+import com.github.tonivade.purefun.core.Validator;
+import com.github.tonivade.purefun.data.ImmutableList;
+import com.github.tonivade.purefun.type.Option;
+import com.github.tonivade.purefun.type.Validation;
+import com.github.tonivade.purefun.typeclasses.MonadDefer;
+
+/**
+ * <p>Stateful model based testing. A program, a random sequence of commands, is generated using a
+ * model of the system under test, and then it's executed against the real system, checking after each
+ * command that the result is the expected by the model:</p>
+ *
+ * <pre>
+ * var cache = StateMachine.stateMachine("cache", monad, Map.of(), Cache::new)
+ *   .commands(model -&gt; model.isEmpty() ? new Put(randomKey()) : oneOf(new Put(randomKey()), new Get(anyKey(model))))
+ *   .parallel(2, 5);
+ *
+ * it.should("behave like a map")
+ *   .given(cache)
+ *   .whenK(StateMachine::run)
+ *   .then(StateMachine.holds())
+ *   .repeat(100);
+ * </pre>
+ *
+ * <p>In parallel mode, a sequential prefix is executed first, and then some branches of commands are
+ * executed at the same time, each one in its own thread, and the results are checked to be
+ * linearizable with respect to the model, see {@link Linearizability}, so the model state should
+ * implement {@code equals} and {@code hashCode}. The branches are generated so the preconditions of
+ * the commands hold in every possible interleaving of the branches, otherwise a valid execution could
+ * be reported as not linearizable.</p>
+ *
+ * <p>When a program fails, it's shrunk removing commands while it keeps failing and the preconditions
+ * hold, and the shortest program found is reported.</p>
+ *
+ * @author tonivade
+ *
+ * @param <F> type of the kind
+ * @param <M> type of the model state
+ * @param <T> type of the system under test
+ */
+public final class StateMachine<F extends Kind<F, ?>, M, T> {
+
+  private static final int DEFAULT_SIZE = 20;
+  private static final int MAX_TRIES = 100;
+  private static final int PARALLEL_REPLAYS = 10;
+
+  private final String name;
+  private final MonadDefer<F> monad;
+  private final M initial;
+  private final Producer<T> system;
+  private final Option<Function1<M, Command<M, T, ?>>> commands;
+  private final int size;
+  private final int threads;
+  private final int branch;
+
+  private StateMachine(String name, MonadDefer<F> monad, M initial, Producer<T> system,
+      Option<Function1<M, Command<M, T, ?>>> commands, int size, int threads, int branch) {
+    this.name = checkNonEmpty(name);
+    this.monad = checkNonNull(monad);
+    this.initial = checkNonNull(initial);
+    this.system = checkNonNull(system);
+    this.commands = checkNonNull(commands);
+    this.size = size;
+    this.threads = threads;
+    this.branch = branch;
+    if (size < 0 || threads < 0 || branch < 0) {
+      throw new IllegalArgumentException("size, threads and branch should be positive");
+    }
+  }
+
+  /**
+   * It creates a new state machine, sequential and with programs of twenty commands by default
+   *
+   * @param name name of the state machine
+   * @param monad monad instance
+   * @param initial initial state of the model
+   * @param system creates a new system under test for each program
+   * @return the state machine
+   */
+  public static <F extends Kind<F, ?>, M, T> StateMachine<F, M, T> stateMachine(
+      String name, MonadDefer<F> monad, M initial, Producer<T> system) {
+    return new StateMachine<>(name, monad, initial, system, Option.none(), DEFAULT_SIZE, 0, 0);
+  }
+
+  /**
+   * Generator of the next command given the current state of the model, commands whose
+   * preconditions don't hold are discarded
+   *
+   * @param generator the generator of commands
+   * @return the state machine
+   */
+  public StateMachine<F, M, T> commands(Function1<M, Command<M, T, ?>> generator) {
+    return new StateMachine<>(name, monad, initial, system, Option.some(checkNonNull(generator)), size, threads, branch);
+  }
+
+  /**
+   * Number of commands of the program, or of the sequential prefix in parallel mode
+   *
+   * @param size number of commands
+   * @return the state machine
+   */
+  public StateMachine<F, M, T> size(int size) {
+    return new StateMachine<>(name, monad, initial, system, commands, size, threads, branch);
+  }
+
+  /**
+   * It enables the parallel mode, after the sequential prefix, the given number of threads execute
+   * each one a branch of commands at the same time
+   *
+   * @param threads number of threads
+   * @param commands number of commands by thread
+   * @return the state machine
+   */
+  public StateMachine<F, M, T> parallel(int threads, int commands) {
+    if (threads < 2 || commands < 1) {
+      throw new IllegalArgumentException("at least two threads with one command are required");
+    }
+    return new StateMachine<>(name, monad, initial, system, this.commands, size, threads, commands);
+  }
+
+  /**
+   * It generates a new program and executes it, if it fails, the program is shrunk
+   *
+   * @return the result of the execution
+   */
+  public Kind<F, Result> run() {
+    if (commands.isEmpty()) {
+      throw new IllegalStateException("commands generator is required: " + name);
+    }
+    return monad.later(this::execute);
+  }
+
+  /**
+   * It validates that the program has been executed without errors, if not, the error contains
+   * the shortest program found that fails
+   *
+   * @return the validator
+   */
+  public static Validator<String, Result> holds() {
+    return result -> result.failure().fold(
+        () -> Validation.valid(result),
+        failure -> Validation.invalid(failure + "\n" + result));
+  }
+
+  private Result execute() {
+    Program<M, T> program = generate();
+    Option<String> failure = fails(program);
+    if (failure.isEmpty()) {
+      return new Result(name, program.toString(), Option.none());
+    }
+    int shrinks = 0;
+    boolean changed = true;
+    while (changed) {
+      changed = false;
+      for (Program<M, T> candidate : program.shrinks()) {
+        if (isValid(candidate)) {
+          Option<String> error = fails(candidate);
+          if (error.isPresent()) {
+            program = candidate;
+            failure = error;
+            shrinks++;
+            changed = true;
+            break;
+          }
+        }
+      }
+    }
+    return new Result(name, program.toString(), Option.some("failed after " + shrinks + " shrinks: " + failure.getOrElseThrow()));
+  }
+
+  private Program<M, T> generate() {
+    Function1<M, Command<M, T, ?>> generator = commands.getOrElseThrow();
+    List<Command<M, T, ?>> prefix = new ArrayList<>(size);
+    M model = generate(generator, initial, size, prefix);
+    List<List<Command<M, T, ?>>> branches = new ArrayList<>(threads);
+    List<M> states = new ArrayList<>(threads);
+    for (int i = 0; i < threads; i++) {
+      branches.add(new ArrayList<>(branch));
+      states.add(model);
+    }
+    for (int step = 0; step < branch; step++) {
+      for (int i = 0; i < threads; i++) {
+        List<Command<M, T, ?>> commands = branches.get(i);
+        for (int tries = 0; tries < MAX_TRIES; tries++) {
+          Command<M, T, ?> command = generator.apply(states.get(i));
+          commands.add(command);
+          if (command.precondition(states.get(i)) && interleavings(model, branches)) {
+            states.set(i, command.nextState(states.get(i)));
+            break;
+          }
+          commands.remove(commands.size() - 1);
+        }
+      }
+    }
+    return new Program<>(prefix, branches);
+  }
+
+  private M generate(Function1<M, Command<M, T, ?>> generator, M model, int size, List<Command<M, T, ?>> output) {
+    M current = model;
+    for (int i = 0, tries = 0; i < size && tries < size * MAX_TRIES; tries++) {
+      Command<M, T, ?> command = generator.apply(current);
+      if (command.precondition(current)) {
+        output.add(command);
+        current = command.nextState(current);
+        i++;
+      }
+    }
+    return current;
+  }
+
+  private boolean isValid(Program<M, T> program) {
+    Option<M> model = valid(initial, program.prefix());
+    return model.isPresent() && interleavings(model.getOrElseThrow(), program.branches());
+  }
+
+  private Option<M> valid(M model, List<Command<M, T, ?>> commands) {
+    M current = model;
+    for (Command<M, T, ?> command : commands) {
+      if (!command.precondition(current)) {
+        return Option.none();
+      }
+      current = command.nextState(current);
+    }
+    return Option.some(current);
+  }
+
+  /**
+   * It checks that the preconditions hold in all the interleavings of the branches, the states
+   * already visited, the position of each branch and the state of the model, are not explored again
+   */
+  private boolean interleavings(M model, List<List<Command<M, T, ?>>> branches) {
+    return interleavings(model, branches, new int[branches.size()], new HashSet<>());
+  }
+
+  private boolean interleavings(M model, List<List<Command<M, T, ?>>> branches, int[] positions, Set<List<Object>> visited) {
+    List<Object> state = new ArrayList<>(positions.length + 1);
+    for (int position : positions) {
+      state.add(position);
+    }
+    state.add(model);
+    if (!visited.add(state)) {
+      return true;
+    }
+    for (int i = 0; i < positions.length; i++) {
+      List<Command<M, T, ?>> commands = branches.get(i);
+      if (positions[i] < commands.size()) {
+        Command<M, T, ?> command = commands.get(positions[i]);
+        if (!command.precondition(model)) {
+          return false;
+        }
+        positions[i]++;
+        boolean valid = interleavings(command.nextState(model), branches, positions, visited);
+        positions[i]--;
+        if (!valid) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  private Option<String> fails(Program<M, T> program) {
+    int replays = program.branches().isEmpty() ? 1 : PARALLEL_REPLAYS;
+    for (int i = 0; i < replays; i++) {
+      Option<String> failure = execute(program);
+      if (failure.isPresent()) {
+        return failure;
+      }
+    }
+    return Option.none();
+  }
+
+  private Option<String> execute(Program<M, T> program) {
+    T target = system.get();
+    M model = initial;
+    for (int i = 0; i < program.prefix().size(); i++) {
+      Command<M, T, ?> command = program.prefix().get(i);
+      try {
+        if (!check(command, model, command.run(target))) {
+          return Option.some("postcondition failed at command " + (i + 1) + ": " + command);
+        }
+      } catch (RuntimeException e) {
+        return Option.some("command " + (i + 1) + " failed: " + command + " with " + e);
+      }
+      model = command.nextState(model);
+    }
+    if (program.branches().isEmpty()) {
+      return Option.none();
+    }
+    try {
+      Function2<T, Command<M, T, ?>, Object> run = (system, command) -> command.run(system);
+      List<Operation<Command<M, T, ?>, Object>> history =
+          Linearizability.execute(name, target, program.branches(), run);
+      return Linearizability.counterexample(model, this::transition, new History<>(ImmutableList.from(history)))
+          .map(prefix -> "parallel branches are not linearizable:\n" + prefix);
+    } catch (Throwable e) {
+      return Option.some("parallel branches failed with " + e);
+    }
+  }
+
+  private Option<M> transition(M model, Operation<Command<M, T, ?>, Object> operation) {
+    Command<M, T, ?> command = operation.operation();
+    if (!command.precondition(model)) {
+      return Option.none();
+    }
+    if (operation.isPending() || check(command, model, operation.result())) {
+      return Option.some(command.nextState(model));
+    }
+    return Option.none();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <M, T, R> boolean check(Command<M, T, R> command, M model, Object result) {
+    return command.postcondition(model, (R) result);
+  }
+
+  /**
+   * A command executed against the system under test
+   *
+   * @param <M> type of the model state
+   * @param <T> type of the system under test
+   * @param <R> type of the result of the command
+   */
+  public interface Command<M, T, R> {
+
+    /**
+     * If the command can be executed in the given state, by default it returns true
+     *
+     * @param model state of the model
+     * @return true if the command can be executed
+     */
+    default boolean precondition(M model) {
+      return true;
+    }
+
+    R run(T system);
+
+    /**
+     * Next state of the model after executing the command
+     *
+     * @param model state of the model before the command
+     * @return the new state
+     */
+    M nextState(M model);
+
+    /**
+     * It checks the result of the command, by default it returns true
+     *
+     * @param model state of the model before the command
+     * @param result the result returned by the system
+     * @return true if the result is valid
+     */
+    default boolean postcondition(M model, R result) {
+      return true;
+    }
+  }
+
+  /**
+   * Result of the execution of a program
+   *
+   * @param name name of the state machine
+   * @param program the program executed, the shortest failing program if it failed
+   * @param failure the error found, if any
+   */
+  public record Result(String name, String program, Option<String> failure) {
+
+    public Result {
+      checkNonEmpty(name);
+      checkNonNull(program);
+      checkNonNull(failure);
+    }
+
+    public boolean isSuccess() {
+      return failure.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+      return "StateMachine[name=" + name + "]\n" + program;
+    }
+  }
+
+  private record Program<M, T>(List<Command<M, T, ?>> prefix, List<List<Command<M, T, ?>>> branches) {
+
+    /**
+     * Candidates with one command less, from the end of the program to the beginning
+     */
+    private List<Program<M, T>> shrinks() {
+      List<Program<M, T>> candidates = new ArrayList<>();
+      for (int b = branches.size() - 1; b >= 0; b--) {
+        List<Command<M, T, ?>> commands = branches.get(b);
+        for (int i = commands.size() - 1; i >= 0; i--) {
+          List<List<Command<M, T, ?>>> shrunk = new ArrayList<>(branches);
+          shrunk.set(b, without(commands, i));
+          candidates.add(new Program<>(prefix, shrunk));
+        }
+      }
+      for (int i = prefix.size() - 1; i >= 0; i--) {
+        candidates.add(new Program<>(without(prefix, i), branches));
+      }
+      return candidates;
+    }
+
+    private static <C> List<C> without(List<C> commands, int index) {
+      List<C> result = new ArrayList<>(commands);
+      result.remove(index);
+      return result;
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder output = new StringBuilder("  prefix: ").append(join(prefix));
+      for (int i = 0; i < branches.size(); i++) {
+        output.append("\n  thread-").append(i).append(": ").append(join(branches.get(i)));
+      }
+      return output.toString();
+    }
+
+    private static String join(List<? extends Command<?, ?, ?>> commands) {
+      return commands.stream().map(String::valueOf).collect(Collectors.joining(", ", "[", "]"));
+    }
+  }
+}
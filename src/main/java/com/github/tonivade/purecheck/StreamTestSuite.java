@@ -0,0 +1,306 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonEmpty;
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+import static com.github.tonivade.purefun.core.Unit.unit;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+
+import com.github.tonivade.purefun.Kind;
+import com.github.tonivade.purefun.concurrent.Future;
+import com.github.tonivade.purefun.core.Consumer1;
+import com.github.tonivade.purefun.core.Producer;
+import com.github.tonivade.purefun.core.Unit;
+import com.github.tonivade.purefun.data.ImmutableList;
+import com.github.tonivade.purefun.data.Sequence;
+import com.github.tonivade.purefun.type.Option;
+import com.github.tonivade.purefun.typeclasses.Instances;
+import com.github.tonivade.purefun.typeclasses.MonadDefer;
+import com.github.tonivade.purefun.typeclasses.Parallel;
+
+/**
+ * <p>It defines a test suite backed by a lazy stream of test cases, useful for data-driven suites with
+ * a huge number of test cases, for example generated from the rows of a file.</p>
+ *
+ * <p>The test cases are pulled from the stream by as many workers as the given parallelism, each worker
+ * pulls the next test as soon as the previous one finishes, and the results are aggregated as they are
+ * completed, so the memory used doesn't depend on the size of the suite. The report only keeps the
+ * counters and the results that are not successful, up to a limit.</p>
+ *
+ * <p>The stream is created again every time the suite is executed, and it's always closed at the end,
+ * even if the execution fails or it's cancelled.</p>
+ *
+ * @author tonivade
+ *
+ * @param <F> type of the kind
+ * @param <E> type of the error
+ */
+public abstract class StreamTestSuite<F extends Kind<F, ?>, E> {
+
+  private static final int MAX_RETAINED = 1000;
+
+  private final Parallel<F, F> parallel;
+  private final MonadDefer<F> monad;
+  private final String name;
+  private final int parallelism;
+  private final int maxRetained;
+  private final Producer<? extends Stream<? extends TestCase<F, E, ?, ?>>> tests;
+
+  /**
+   * It will throw {@code NullPointerException} if the tests is null
+   *
+   * @param parallel parallel instance for type F
+   * @param monad monad instance for type F, used to close the stream
+   * @param name name of the suite
+   * @param parallelism max number of tests executed at the same time by {@code #parRun()}
+   * @param tests generator of the stream of tests
+   */
+  protected StreamTestSuite(Parallel<F, F> parallel, MonadDefer<F> monad, String name, int parallelism,
+      Producer<? extends Stream<? extends TestCase<F, E, ?, ?>>> tests) {
+    this(parallel, monad, name, parallelism, MAX_RETAINED, tests);
+  }
+
+  /**
+   * It will throw {@code NullPointerException} if the tests is null
+   *
+   * @param parallel parallel instance for type F
+   * @param monad monad instance for type F, used to close the stream
+   * @param name name of the suite
+   * @param parallelism max number of tests executed at the same time by {@code #parRun()}
+   * @param maxRetained max number of not successful results kept in the report
+   * @param tests generator of the stream of tests
+   */
+  protected StreamTestSuite(Parallel<F, F> parallel, MonadDefer<F> monad, String name, int parallelism, int maxRetained,
+      Producer<? extends Stream<? extends TestCase<F, E, ?, ?>>> tests) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("parallelism should be greater than 0: " + parallelism);
+    }
+    if (maxRetained < 0) {
+      throw new IllegalArgumentException("maxRetained should not be negative: " + maxRetained);
+    }
+    this.parallel = checkNonNull(parallel);
+    this.monad = checkNonNull(monad);
+    this.name = checkNonEmpty(name);
+    this.parallelism = parallelism;
+    this.maxRetained = maxRetained;
+    this.tests = checkNonNull(tests);
+  }
+
+  public String name() {
+    return name;
+  }
+
+  /**
+   * It runs the tests selected by the current filter one by one, see {@link TestFilter#current()}
+   *
+   * @return the result of the suite
+   */
+  public Kind<F, Report<E>> runK() {
+    return runK(TestFilter.current());
+  }
+
+  public Kind<F, Report<E>> runK(TestFilter filter) {
+    return run(filter, 1);
+  }
+
+  /**
+   * It runs the tests selected by the current filter, up to {@code parallelism} tests at the same time
+   *
+   * @return the result of the suite
+   */
+  public Kind<F, Report<E>> runParK() {
+    return runParK(TestFilter.current());
+  }
+
+  public Kind<F, Report<E>> runParK(TestFilter filter) {
+    return run(filter, parallelism);
+  }
+
+  private Kind<F, Report<E>> run(TestFilter filter, int workers) {
+    Kind<F, Stream<? extends TestCase<F, E, ?, ?>>> acquire = monad.later(tests::get);
+    Consumer1<Stream<? extends TestCase<F, E, ?, ?>>> close = Stream::close;
+    return TestEvents.observe(monad, () -> monad.bracket(acquire, stream -> {
+      Pending<F, E> pending = new Pending<>(stream.filter(test -> filter.matches(name, test.name(), test.tags())).iterator());
+      Summary<E> summary = new Summary<>(maxRetained);
+      if (workers == 1) {
+        return monad.map(worker(pending, summary), done -> summary.report(name));
+      }
+      List<Kind<F, Unit>> all = new ArrayList<>(workers);
+      for (int i = 0; i < workers; i++) {
+        all.add(worker(pending, summary));
+      }
+      var sequence = parallel.parSequence(Instances.traverse(), ImmutableList.from(all));
+      return monad.map(sequence, done -> summary.report(name));
+    }, close));
+  }
+
+  private Kind<F, Unit> worker(Pending<F, E> pending, Summary<E> summary) {
+    return monad.flatMap(monad.later(pending::next), next -> next.fold(
+        () -> monad.pure(unit()),
+        test -> monad.flatMap(TestEvents.observe(monad, name, test), result -> {
+          summary.add(result);
+          return worker(pending, summary);
+        })));
+  }
+
+  /**
+   * It runs the suite one by one
+   *
+   * @return the result of the suite
+   */
+  public abstract Report<E> run();
+
+  /**
+   * It runs the suite one by one using the default executor, without blocking the calling thread
+   *
+   * @return a completion stage with the result of the suite
+   */
+  public CompletionStage<Report<E>> runAsync() {
+    return runAsync(Future.DEFAULT_EXECUTOR);
+  }
+
+  /**
+   * It runs the suite one by one using the given {@code Executor}, without blocking the calling thread.
+   * By default it runs {@link #run()} in a thread of the executor.
+   *
+   * @param executor executor on which the suite is going to be executed
+   * @return a completion stage with the result of the suite
+   */
+  public CompletionStage<Report<E>> runAsync(Executor executor) {
+    return CompletableFuture.supplyAsync(this::run, executor);
+  }
+
+  /**
+   * It runs the suite in parallel using the default executor
+   *
+   * @return a future with the result of the suite
+   */
+  public Future<Report<E>> parRun() {
+    return parRun(Future.DEFAULT_EXECUTOR);
+  }
+
+  /**
+   * It runs the suite in parallel using the given {@code Executor}
+   *
+   * @param executor executor on which the suite is going to be executed
+   * @return a future with the result of the suite
+   */
+  public abstract Future<Report<E>> parRun(Executor executor);
+
+  /**
+   * It describes the report generated by a stream test suite. It only keeps the results that are not
+   * successful, the rest of the results are only counted.
+   *
+   * @author tonivade
+   *
+   * @param <E> type of the error generated by the tests
+   */
+  public static class Report<E> extends TestSuite.Report<E> {
+
+    private final TestSuite.Counters counters;
+
+    public Report(String name, long total, long failures, long errors, long disabled,
+        Sequence<TestResult<E, ?, ?>> results) {
+      this(name, TestSuite.Counters.of(total, failures, errors, disabled), results);
+    }
+
+    private Report(String name, TestSuite.Counters counters, Sequence<TestResult<E, ?, ?>> results) {
+      super(name, results);
+      this.counters = checkNonNull(counters);
+    }
+
+    @Override
+    public long total() {
+      return counters.total();
+    }
+
+    public long successes() {
+      return counters.successes();
+    }
+
+    @Override
+    public long failures() {
+      return counters.failures();
+    }
+
+    @Override
+    public long errors() {
+      return counters.errors();
+    }
+
+    public long disabled() {
+      return counters.disabled();
+    }
+
+    /**
+     * It will throw an {@code AssertionError} if any test has failed, even if the result
+     * was not retained in the report
+     */
+    @Override
+    public void assertion() {
+      super.assertion();
+      if (failures() > 0 || errors() > 0) {
+        throw new AssertionError(this);
+      }
+    }
+
+    @Override
+    public String toString() {
+      long omitted = failures() + errors() + disabled() - results().size();
+      return "## " + name() + "\n\n" + counters + "\n"
+          + results().join("\n- ", "\n- ", "\n")
+          + (omitted > 0 ? "\n... " + omitted + " more results omitted\n" : "");
+    }
+  }
+
+  /**
+   * The tests not executed yet, shared by all the workers
+   */
+  private static final class Pending<F extends Kind<F, ?>, E> {
+
+    private final Iterator<? extends TestCase<F, E, ?, ?>> iterator;
+
+    private Pending(Iterator<? extends TestCase<F, E, ?, ?>> iterator) {
+      this.iterator = iterator;
+    }
+
+    private synchronized Option<TestCase<F, E, ?, ?>> next() {
+      if (iterator.hasNext()) {
+        return Option.some(iterator.next());
+      }
+      return Option.none();
+    }
+  }
+
+  private static final class Summary<E> {
+
+    private final int maxRetained;
+    private final TestSuite.Counters counters = new TestSuite.Counters();
+    private final List<TestResult<E, ?, ?>> retained = new ArrayList<>();
+
+    private Summary(int maxRetained) {
+      this.maxRetained = maxRetained;
+    }
+
+    private synchronized void add(TestResult<E, ?, ?> result) {
+      counters.add(result);
+      if (!result.isSuccess() && retained.size() < maxRetained) {
+        retained.add(result);
+      }
+    }
+
+    private synchronized Report<E> report(String name) {
+      return new Report<>(name, counters, ImmutableList.from(retained));
+    }
+  }
+}
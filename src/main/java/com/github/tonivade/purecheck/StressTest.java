@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonEmpty;
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import com.github.tonivade.purefun.Kind;
+import com.github.tonivade.purefun.core.Function1;
+import com.github.tonivade.purefun.core.Producer;
+import com.github.tonivade.purefun.core.Validator;
+import com.github.tonivade.purefun.data.ImmutableList;
+import com.github.tonivade.purefun.data.ImmutableMap;
+import com.github.tonivade.purefun.type.Option;
+import com.github.tonivade.purefun.type.Validation;
+import com.github.tonivade.purefun.typeclasses.MonadDefer;
+
+/**
+ * <p>Concurrency stress test, in the style of jcstress. Several actors are executed at the same time,
+ * each one in its own thread, against a fresh shared state for each trial. The values returned by the
+ * actors, and the value returned by the arbiter once all the actors have finished, are the outcome of
+ * the trial, and all the outcomes are aggregated in a histogram:</p>
+ *
+ * <pre>
+ * var stress = StressTest.stress("counter", monad, Counter::new)
+ *   .actor(Counter::increment)
+ *   .actor(Counter::increment)
+ *   .arbiter(Counter::get);
+ *
+ * it.should("never lose an increment")
+ *   .given(1_000_000)
+ *   .whenK(stress::run)
+ *   .then(StressTest.acceptable("1, 2, 2", "2, 1, 2"));
+ * </pre>
+ *
+ * <p>The outcome is represented by the values joined with {@code ", "}. The trials are executed in
+ * batches, a new state is created for each trial of the batch, and then all the actors start at the
+ * same time and iterate over the states of the batch in a tight loop, so the actors of the same trial
+ * are executed concurrently with high probability.</p>
+ *
+ * @author tonivade
+ *
+ * @param <F> type of the kind
+ * @param <S> type of the shared state
+ */
+public final class StressTest<F extends Kind<F, ?>, S> {
+
+  private static final int DEFAULT_BATCH = 1024;
+  private static final String SEPARATOR = ", ";
+
+  private final String name;
+  private final MonadDefer<F> monad;
+  private final Producer<S> state;
+  private final ImmutableList<Function1<? super S, ?>> actors;
+  private final Option<Function1<? super S, ?>> arbiter;
+  private final int batch;
+
+  private StressTest(String name, MonadDefer<F> monad, Producer<S> state,
+      ImmutableList<Function1<? super S, ?>> actors, Option<Function1<? super S, ?>> arbiter, int batch) {
+    this.name = checkNonEmpty(name);
+    this.monad = checkNonNull(monad);
+    this.state = checkNonNull(state);
+    this.actors = checkNonNull(actors);
+    this.arbiter = checkNonNull(arbiter);
+    this.batch = batch;
+    if (batch < 1) {
+      throw new IllegalArgumentException("batch should be greater than zero: " + batch);
+    }
+  }
+
+  /**
+   * It creates a new stress test without actors
+   *
+   * @param name name of the stress test
+   * @param monad monad instance
+   * @param state creates a fresh shared state for each trial
+   * @return the stress test
+   */
+  public static <F extends Kind<F, ?>, S> StressTest<F, S> stress(String name, MonadDefer<F> monad, Producer<S> state) {
+    return new StressTest<>(name, monad, state, ImmutableList.empty(), Option.none(), DEFAULT_BATCH);
+  }
+
+  /**
+   * It adds an actor, the value returned is part of the outcome of the trial
+   *
+   * @param actor the action to execute
+   * @return the stress test
+   */
+  public StressTest<F, S> actor(Function1<? super S, ?> actor) {
+    return new StressTest<>(name, monad, state, actors.append(checkNonNull(actor)), arbiter, batch);
+  }
+
+  /**
+   * It defines the arbiter, executed after all the actors have finished, the value returned is the
+   * last element of the outcome of the trial
+   *
+   * @param arbiter the action to execute
+   * @return the stress test
+   */
+  public StressTest<F, S> arbiter(Function1<? super S, ?> arbiter) {
+    return new StressTest<>(name, monad, state, actors, Option.some(checkNonNull(arbiter)), batch);
+  }
+
+  /**
+   * Number of states created before the actors are started
+   *
+   * @param size number of trials for each batch
+   * @return the stress test
+   */
+  public StressTest<F, S> batch(int size) {
+    return new StressTest<>(name, monad, state, actors, arbiter, size);
+  }
+
+  /**
+   * It runs the given number of trials, if any actor or the arbiter throws an exception, the
+   * execution fails with it.
+   *
+   * @param trials number of trials
+   * @return the histogram of the outcomes
+   */
+  public Kind<F, Outcomes> run(int trials) {
+    if (actors.size() < 2) {
+      throw new IllegalArgumentException("at least two actors are required: " + name);
+    }
+    if (trials < 1) {
+      throw new IllegalArgumentException("trials should be greater than zero: " + trials);
+    }
+    return monad.later(() -> execute(trials));
+  }
+
+  private Outcomes execute(int trials) throws Throwable {
+    List<Function1<? super S, ?>> list = actors.stream().toList();
+    Map<String, Long> histogram = new HashMap<>();
+    AtomicInteger counter = new AtomicInteger();
+    ExecutorService executor = Executors.newFixedThreadPool(list.size(), runnable -> {
+      Thread thread = new Thread(runnable, "purecheck-stress-" + name + "-" + counter.getAndIncrement());
+      thread.setDaemon(true);
+      return thread;
+    });
+    try {
+      for (int done = 0; done < trials; done += batch) {
+        runBatch(executor, list, Math.min(batch, trials - done), histogram);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    return new Outcomes(name, trials, ImmutableMap.from(histogram));
+  }
+
+  private void runBatch(ExecutorService executor, List<Function1<? super S, ?>> list, int size,
+      Map<String, Long> histogram) throws Throwable {
+    List<S> states = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      states.add(state.get());
+    }
+    Object[][] results = new Object[list.size()][size];
+    CyclicBarrier start = new CyclicBarrier(list.size());
+    List<Future<?>> futures = new ArrayList<>(list.size());
+    for (int a = 0; a < list.size(); a++) {
+      Function1<? super S, ?> actor = list.get(a);
+      Object[] values = results[a];
+      futures.add(executor.submit(() -> {
+        start.await();
+        for (int i = 0; i < size; i++) {
+          values[i] = actor.apply(states.get(i));
+        }
+        return values;
+      }));
+    }
+    for (Future<?> future : futures) {
+      try {
+        future.get();
+      } catch (ExecutionException e) {
+        throw Option.<Throwable>of(e.getCause()).getOrElse(e);
+      }
+    }
+    for (int i = 0; i < size; i++) {
+      String[] outcome = new String[list.size() + (arbiter.isPresent() ? 1 : 0)];
+      for (int a = 0; a < list.size(); a++) {
+        outcome[a] = String.valueOf(results[a][i]);
+      }
+      if (arbiter.isPresent()) {
+        outcome[list.size()] = String.valueOf(arbiter.getOrElseThrow().apply(states.get(i)));
+      }
+      histogram.merge(String.join(SEPARATOR, outcome), 1L, Long::sum);
+    }
+  }
+
+  /**
+   * All the outcomes observed should be one of the given outcomes
+   *
+   * @param outcomes acceptable outcomes
+   * @return the validator
+   */
+  public static Validator<String, Outcomes> acceptable(String... outcomes) {
+    Set<String> acceptable = Set.of(outcomes);
+    return result -> check(result, result.observed().stream().filter(o -> !acceptable.contains(o)).toList(),
+        "unexpected outcomes ");
+  }
+
+  /**
+   * None of the given outcomes should be observed
+   *
+   * @param outcomes forbidden outcomes
+   * @return the validator
+   */
+  public static Validator<String, Outcomes> forbidden(String... outcomes) {
+    return result -> check(result, Arrays.stream(outcomes).filter(result.observed()::contains).toList(),
+        "forbidden outcomes ");
+  }
+
+  private static Validation<String, Outcomes> check(Outcomes result, List<String> errors, String message) {
+    return errors.isEmpty()
+        ? Validation.valid(result)
+        : Validation.invalid(errors.stream().collect(Collectors.joining("], [", message + "[", "]")) + "\n" + result);
+  }
+
+  /**
+   * Histogram of the outcomes observed in a stress test
+   *
+   * @param name name of the stress test
+   * @param trials number of trials executed
+   * @param histogram number of times each outcome has been observed
+   */
+  public record Outcomes(String name, long trials, ImmutableMap<String, Long> histogram) {
+
+    public Outcomes {
+      checkNonEmpty(name);
+      checkNonNull(histogram);
+    }
+
+    public Set<String> observed() {
+      return histogram.toMap().keySet();
+    }
+
+    public long count(String outcome) {
+      return histogram.get(outcome).getOrElse(0L);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder output = new StringBuilder("Outcomes[name=" + name + ",trials=" + trials + "]");
+      histogram.toMap().entrySet().stream()
+          .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+          .forEach(entry -> output.append(String.format(Locale.ROOT, "%n  %12d %6.2f%% %s",
+              entry.getValue(), entry.getValue() * 100.0 / trials, entry.getKey())));
+      return output.toString();
+    }
+  }
+}
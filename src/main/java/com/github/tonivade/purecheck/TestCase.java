@@ -13,10 +13,15 @@ import static com.github.tonivade.purefun.core.Precondition.checkNonEmpty;
 import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
 import static com.github.tonivade.purefun.core.Producer.cons;
 
-import java.lang.StackWalker.Option;
 import java.lang.StackWalker.StackFrame;
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
+import com.github.tonivade.purefun.core.Consumer1;
 import com.github.tonivade.purefun.core.Function1;
 import com.github.tonivade.purefun.Kind;
 import com.github.tonivade.purefun.core.Matcher1;
@@ -27,12 +32,14 @@ import com.github.tonivade.purefun.core.Tuple2;
 import com.github.tonivade.purefun.core.Validator;
 
 import com.github.tonivade.purefun.data.Sequence;
+import com.github.tonivade.purefun.data.SequenceOf;
 import com.github.tonivade.purefun.type.Either;
+import com.github.tonivade.purefun.type.Option;
 import com.github.tonivade.purefun.type.Validation;
 import com.github.tonivade.purefun.type.Validation.Result;
-import com.github.tonivade.purefun.typeclasses.For;
-import com.github.tonivade.purefun.typeclasses.Monad;
+import com.github.tonivade.purefun.typeclasses.Instances;
 import com.github.tonivade.purefun.typeclasses.MonadDefer;
+import com.github.tonivade.purefun.typeclasses.Runtime;
 
 /**
  * It defines a test case, given an operation that eventually returns a value, then
@@ -49,8 +56,29 @@ public sealed interface TestCase<F extends Kind<F, ?>, E, T, R> {
 
   String name();
 
+  Set<String> tags();
+
   Kind<F, TestResult<E, T, R>> run();
 
+  /**
+   * It runs the test case using the given runtime and executor, without blocking the calling thread.
+   * The stage is completed when the effect finishes.
+   *
+   * @param runtime runtime used to execute the effect
+   * @param executor executor on which the test is going to be executed
+   * @return a completion stage with the result of the test
+   */
+  CompletionStage<TestResult<E, T, R>> runAsync(Runtime<F> runtime, Executor executor);
+
+  /**
+   * It adds some tags to the test case, they can be used to select the tests to execute,
+   * see {@link TestFilter}
+   *
+   * @param tags tags to add
+   * @return the tagged test case
+   */
+  TestCase<F, E, T, R> tag(String... tags);
+
   TestCase<F, E, T, R> disable(String reason);
 
   TestCase<F, E, T, Tuple2<Duration, R>> timed();
@@ -59,8 +87,24 @@ public sealed interface TestCase<F extends Kind<F, ?>, E, T, R> {
 
   TestCase<F, E, T, R> retryOnFailure(int times);
 
+  TestCase<F, E, T, R> retryOnFailure(RetryPolicy policy);
+
   PropertyTestCase<F, E, T, R> repeat(int times);
 
+  /**
+   * Same as {@link #repeat(int)}, but the inputs stored in the corpus for this test are replayed
+   * first, and the inputs that fail are stored in the corpus, see {@link FailureCorpus}. By
+   * default, {@link #repeat(int)} uses the corpus defined by the system property
+   * {@code purecheck.corpus}, if any.
+   *
+   * @param times number of random inputs to test
+   * @param corpus the corpus of failing inputs
+   * @return the property test case
+   */
+  PropertyTestCase<F, E, T, R> repeat(int times, FailureCorpus corpus);
+
+  TestCase<F, E, T, R> cached(TestResultCache cache);
+
   /**
    * It returns a builder to create a new test case
    *
@@ -91,6 +135,10 @@ public sealed interface TestCase<F extends Kind<F, ?>, E, T, R> {
       return new WhenStep<>(monad, name, given);
     }
 
+    public <T> WhenStep<F, T> given(Fixture<T> given) {
+      return given(given::get);
+    }
+
     @SuppressWarnings("NullAway")
     public <T> WhenStep<F, T> givenNull() {
       return given((T) null);
@@ -180,12 +228,16 @@ public sealed interface TestCase<F extends Kind<F, ?>, E, T, R> {
     }
 
     private <E> TestCase<F, E, T, R> validate(Either<Validator<Result<E>, Throwable>, Validator<Result<E>, Tuple2<T, R>>> then) {
-      var caller = getCaller();
-      return new TestCaseImpl<>(monad, name, caller, given, when, then);
+      if (!TestFilter.current().mayMatch(name)) {
+        // the stack is only walked if the excluded test is executed anyway, so the caller
+        // is the frame that runs the test instead of the frame that declares it
+        return new TestCaseExcluded<>(monad, name, Set.of(), () -> new TestCaseImpl<>(monad, name, Set.of(), getCaller(), given, when, then));
+      }
+      return new TestCaseImpl<>(monad, name, Set.of(), getCaller(), given, when, then);
     }
 
     private StackFrame getCaller() {
-      return StackWalker.getInstance(Option.RETAIN_CLASS_REFERENCE)
+      return StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE)
         .walk(stream -> stream.dropWhile(frame -> frame.getDeclaringClass() == this.getClass()).findFirst()).orElseThrow();
     }
   }
@@ -204,6 +256,7 @@ final class TestCaseImpl<F extends Kind<F, ?>, E, T, R> implements TestCase<F, E
 
   private final MonadDefer<F> monad;
   private final String name;
+  private final Set<String> tags;
   private final StackFrame caller;
 
   private final Producer<T> given;
@@ -215,6 +268,7 @@ final class TestCaseImpl<F extends Kind<F, ?>, E, T, R> implements TestCase<F, E
    *
    * @param monad monad instance for the type F
    * @param name name of the test case
+   * @param tags tags of the test case
    * @param caller stack frame of the caller
    * @param given generator of the input value {@code T} to execute the test
    * @param when operation under test thar returns a value {@code R}
@@ -223,12 +277,14 @@ final class TestCaseImpl<F extends Kind<F, ?>, E, T, R> implements TestCase<F, E
   TestCaseImpl(
       MonadDefer<F> monad,
       String name,
+      Set<String> tags,
       StackFrame caller,
       Producer<T> given,
       Function1<T, ? extends Kind<F, R>> when,
       Either<Validator<Result<E>, Throwable>, Validator<Result<E>, Tuple2<T, R>>> then) {
     this.monad = checkNonNull(monad);
     this.name = checkNonEmpty(name);
+    this.tags = Set.copyOf(tags);
     this.caller = checkNonNull(caller);
     this.given = checkNonNull(given);
     this.when = checkNonNull(when);
@@ -240,6 +296,16 @@ final class TestCaseImpl<F extends Kind<F, ?>, E, T, R> implements TestCase<F, E
     return name;
   }
 
+  @Override
+  public Set<String> tags() {
+    return tags;
+  }
+
+  @Override
+  public TestCase<F, E, T, R> tag(String... tags) {
+    return new TestCaseImpl<>(monad, name, TestCaseEnd.union(this.tags, tags), caller, given, when, then);
+  }
+
   /**
    * It describes the execution of the operation and the validation without executing it yet
    *
@@ -247,20 +313,22 @@ final class TestCaseImpl<F extends Kind<F, ?>, E, T, R> implements TestCase<F, E
    */
   @Override
   public Kind<F, TestResult<E, T, R>> run() {
-    return For.with(monad)
-      .then(monad.later(given.liftOption()))
-      .flatMap(input -> monad.attempt(when.apply(input.getOrElseNull())))
-      .apply((input, result) -> fold(name, input.getOrElseNull(), caller, result, then));
+    return FlightEvents.testCase(monad, name, monad.flatMap(monad.later(given.liftOption()), this::execute));
+  }
+
+  @Override
+  public CompletionStage<TestResult<E, T, R>> runAsync(Runtime<F> runtime, Executor executor) {
+    return Async.run(runtime, monad, run(), executor);
   }
 
   @Override
   public TestCase<F, E, T, R> disable(String reason) {
-    return new TestCaseEnd<>(monad, name, monad.pure(disabled(name, reason)));
+    return new TestCaseEnd<>(monad, name, tags, monad.pure(disabled(name, reason)));
   }
 
   @Override
   public TestCase<F, E, T, Tuple2<Duration, R>> timed() {
-    return new TestCaseImpl<>(monad, name, caller, given, when.andThen(monad::timed), then.map(validator -> value -> {
+    return new TestCaseImpl<>(monad, name, tags, caller, given, when.andThen(monad::timed), then.map(validator -> value -> {
       Tuple2<T, R> tuple = Tuple.of(value.get1(), value.get2().get2());
       Validation<Result<E>, Tuple2<T, R>> result = validator.validate(tuple);
       return result.map(Function1.cons(value));
@@ -271,28 +339,78 @@ final class TestCaseImpl<F extends Kind<F, ?>, E, T, R> implements TestCase<F, E
   public TestCase<F, E, T, R> retryOnError(int times) {
     if (times > 0) {
       var retry = when.andThen(test -> monad.retry(test, monad.scheduleOf().recurs(times)));
-      return new TestCaseImpl<>(monad, name, caller, given, retry, then);
+      return new TestCaseImpl<>(monad, name, tags, caller, given, retry, then);
     }
     return this;
   }
 
   @Override
   public TestCase<F, E, T, R> retryOnFailure(int times) {
-    if (times > 0) {
-      Kind<F, TestResult<E, T, R>> test = run();
-      var retry = monad.flatMap(test, result -> result.isFailure() ? test : monad.pure(result));
-      return new TestCaseEnd<>(monad, name, retry).retryOnFailure(times - 1);
+    return retryOnFailure(RetryPolicy.recurs(times));
+  }
+
+  @Override
+  public TestCase<F, E, T, R> retryOnFailure(RetryPolicy policy) {
+    if (policy.times() > 0) {
+      return end().retryOnFailure(policy);
     }
     return this;
   }
 
   @Override
   public PropertyTestCase<F, E, T, R> repeat(int times) {
-    if (times > 1) {
-      Kind<F, Sequence<TestResult<E, T, R>>> repeat = monad.repeat(run(), monad.scheduleOf().<TestResult<E, T, R>>recurs(times - 1).zipRight(monad.scheduleOf().identity()).collectAll());
-      return new PropertyTestCaseImpl<>(monad, name, repeat);
+    return FailureCorpus.fromSystemProperty().fold(
+        () -> new PropertyTestCaseImpl<>(monad, name, repeat(times, identity())),
+        corpus -> repeat(times, corpus));
+  }
+
+  @Override
+  public PropertyTestCase<F, E, T, R> repeat(int times, FailureCorpus corpus) {
+    Class<?> owner = caller.getDeclaringClass();
+    String key = corpus.key(name, owner);
+    Kind<F, Sequence<TestResult<E, T, R>>> replay =
+        corpus.replay(monad, key, owner, input -> FlightEvents.testCase(monad, name, execute(Option.of(input))));
+    Kind<F, Sequence<TestResult<E, T, R>>> random = repeat(times, result -> corpus.record(key, result));
+    return new PropertyTestCaseImpl<>(monad, name, monad.flatMap(replay,
+        replayed -> monad.map(random, results -> replayed.appendAll(results))));
+  }
+
+  private Kind<F, Sequence<TestResult<E, T, R>>> repeat(int times, Function1<TestResult<E, T, R>, TestResult<E, T, R>> record) {
+    if (given instanceof FiniteGenerator<T> finite && finite.size() <= times) {
+      // the domain is small enough to test each value once instead of sampling with duplicates,
+      // the values are only enumerated when the property is executed
+      return monad.defer(() -> execute(finite.values(), record));
     }
-    return new PropertyTestCaseImpl<>(monad, name, monad.map(run(), Sequence::listOf));
+    Kind<F, TestResult<E, T, R>> test = monad.map(run(), record);
+    Kind<F, Sequence<TestResult<E, T, R>>> results = times > 1
+        ? monad.repeat(test, monad.scheduleOf().<TestResult<E, T, R>>recurs(times - 1).zipRight(monad.scheduleOf().identity()).collectAll())
+        : monad.map(test, Sequence::listOf);
+    if (given instanceof GuidedGenerator<T> guided) {
+      // the coverage is only recorded while the iterations are executed
+      Consumer1<GuidedGenerator<T>> finish = GuidedGenerator::finish;
+      return monad.bracket(monad.pure(guided), ignore -> results, finish);
+    }
+    return results;
+  }
+
+  private Kind<F, Sequence<TestResult<E, T, R>>> execute(Sequence<T> inputs, Function1<TestResult<E, T, R>, TestResult<E, T, R>> record) {
+    var results = inputs.map(input -> monad.map(FlightEvents.testCase(monad, name, execute(Option.of(input))), record));
+    return monad.map(Instances.<Sequence<?>>traverse().sequence(monad, results), SequenceOf::toSequence);
+  }
+
+  @Override
+  public TestCase<F, E, T, R> cached(TestResultCache cache) {
+    return end().cached(cache);
+  }
+
+  private TestCaseEnd<F, E, T, R> end() {
+    return new TestCaseEnd<>(monad, name, tags, caller.getDeclaringClass(), given.liftOption(),
+        input -> FlightEvents.testCase(monad, name, execute(input)));
+  }
+
+  private Kind<F, TestResult<E, T, R>> execute(Option<T> input) {
+    return monad.map(monad.attempt(when.apply(input.getOrElseNull())),
+        result -> fold(name, input.getOrElseNull(), caller, result, then));
   }
 
   private static <E, T, R> TestResult<E, T, R> fold(String name, T input, StackFrame caller,
@@ -311,15 +429,40 @@ final class TestCaseImpl<F extends Kind<F, ?>, E, T, R> implements TestCase<F, E
   }
 }
 
+/**
+ * Test case that cannot be modified anymore, only decorated. The input is generated by {@code given}
+ * before executing the test, so the decorations like the cache or the retries can use it.
+ *
+ * @author tonivade
+ */
 final class TestCaseEnd<F extends Kind<F, ?>, E, T, R> implements TestCase<F, E, T, R> {
 
-  private final Monad<F> monad;
+  private final MonadDefer<F> monad;
   private final String name;
-  private final Kind<F, TestResult<E, T, R>> test;
+  private final Set<String> tags;
+  private final Class<?> owner;
+  private final Producer<Option<T>> given;
+  private final Function1<Option<T>, ? extends Kind<F, TestResult<E, T, R>>> test;
+
+  public TestCaseEnd(MonadDefer<F> monad, String name, Set<String> tags, Kind<F, TestResult<E, T, R>> test) {
+    this(monad, name, tags, TestCaseEnd.class, Option::none, input -> test);
+  }
 
-  public TestCaseEnd(Monad<F> monad, String name, Kind<F, TestResult<E, T, R>> test) {
+  /**
+   * @param monad monad instance for the type F
+   * @param name name of the test case
+   * @param tags tags of the test case
+   * @param owner class where the test case was defined
+   * @param given generator of the input value
+   * @param test execution of the test for the given input value
+   */
+  public TestCaseEnd(MonadDefer<F> monad, String name, Set<String> tags, Class<?> owner,
+      Producer<Option<T>> given, Function1<Option<T>, ? extends Kind<F, TestResult<E, T, R>>> test) {
     this.monad = checkNonNull(monad);
     this.name = checkNonEmpty(name);
+    this.tags = Set.copyOf(tags);
+    this.owner = checkNonNull(owner);
+    this.given = checkNonNull(given);
     this.test = checkNonNull(test);
   }
 
@@ -328,14 +471,29 @@ final class TestCaseEnd<F extends Kind<F, ?>, E, T, R> implements TestCase<F, E,
     return name;
   }
 
+  @Override
+  public Set<String> tags() {
+    return tags;
+  }
+
+  @Override
+  public TestCase<F, E, T, R> tag(String... tags) {
+    return new TestCaseEnd<>(monad, name, union(this.tags, tags), owner, given, test);
+  }
+
   @Override
   public Kind<F, TestResult<E, T, R>> run() {
-    return test;
+    return monad.flatMap(monad.later(given), test);
+  }
+
+  @Override
+  public CompletionStage<TestResult<E, T, R>> runAsync(Runtime<F> runtime, Executor executor) {
+    return Async.run(runtime, monad, run(), executor);
   }
 
   @Override
   public TestCase<F, E, T, R> disable(String reason) {
-    return new TestCaseEnd<>(monad, name, monad.pure(disabled(name, reason)));
+    return new TestCaseEnd<>(monad, name, tags, monad.pure(disabled(name, reason)));
   }
 
   @Override
@@ -350,15 +508,151 @@ final class TestCaseEnd<F extends Kind<F, ?>, E, T, R> implements TestCase<F, E,
 
   @Override
   public TestCase<F, E, T, R> retryOnFailure(int times) {
-    if (times > 0) {
-      var retry = monad.flatMap(test, result -> result.isFailure() ? test : monad.pure(result));
-      return new TestCaseEnd<>(monad, name, retry).retryOnFailure(times - 1);
+    return retryOnFailure(RetryPolicy.recurs(times));
+  }
+
+  @Override
+  public TestCase<F, E, T, R> retryOnFailure(RetryPolicy policy) {
+    if (policy.times() > 0) {
+      return new TestCaseEnd<>(monad, name, tags, owner, given, input -> policy.retryOnFailure(monad, test.apply(input)));
     }
     return this;
   }
 
   @Override
   public PropertyTestCase<F, E, T, R> repeat(int times) {
-    throw new UnsupportedOperationException();
+    return FailureCorpus.fromSystemProperty().fold(
+        () -> new PropertyTestCaseImpl<>(monad, name, repeat(times, identity())),
+        corpus -> repeat(times, corpus));
+  }
+
+  @Override
+  public PropertyTestCase<F, E, T, R> repeat(int times, FailureCorpus corpus) {
+    String key = corpus.key(name, owner);
+    Kind<F, Sequence<TestResult<E, T, R>>> replay =
+        corpus.replay(monad, key, owner, input -> test.apply(Option.of(input)));
+    Kind<F, Sequence<TestResult<E, T, R>>> random = repeat(times, result -> corpus.record(key, result));
+    return new PropertyTestCaseImpl<>(monad, name, monad.flatMap(replay,
+        replayed -> monad.map(random, results -> replayed.appendAll(results))));
   }
-}
\ No newline at end of file
+
+  private Kind<F, Sequence<TestResult<E, T, R>>> repeat(int times, Function1<TestResult<E, T, R>, TestResult<E, T, R>> record) {
+    Kind<F, TestResult<E, T, R>> run = monad.map(run(), record);
+    if (times > 1) {
+      return monad.repeat(run, monad.scheduleOf().<TestResult<E, T, R>>recurs(times - 1).zipRight(monad.scheduleOf().identity()).collectAll());
+    }
+    return monad.map(run, Sequence::listOf);
+  }
+
+  /**
+   * It skips the execution of the test if the cache has a success recorded for the same
+   * name, class bytecode and input value, see {@link TestResultCache}.
+   *
+   * @param cache cache of the results
+   * @return the cached test case
+   */
+  @Override
+  public TestCase<F, E, T, R> cached(TestResultCache cache) {
+    return new TestCaseEnd<>(monad, name, tags, owner, given, input -> {
+      String key = cache.key(name, owner, input.getOrElseNull());
+      Option<TestResult<E, T, R>> result = cache.get(key, owner);
+      if (result.isPresent()) {
+        return monad.pure(result.getOrElseThrow());
+      }
+      return monad.map(test.apply(input), value -> cache.put(key, value));
+    });
+  }
+
+  static Set<String> union(Set<String> current, String... tags) {
+    Set<String> union = new LinkedHashSet<>(current);
+    union.addAll(Arrays.asList(tags));
+    return union;
+  }
+}
+
+/**
+ * Test case excluded by the current {@link TestFilter}, it's created instead of the real test case
+ * and the real test case is only built if it's executed anyway, for example when the suite is
+ * executed with {@code runK(TestFilter.all())}.
+ *
+ * @author tonivade
+ */
+final class TestCaseExcluded<F extends Kind<F, ?>, E, T, R> implements TestCase<F, E, T, R> {
+
+  private final MonadDefer<F> monad;
+  private final String name;
+  private final Set<String> tags;
+  private final Producer<TestCase<F, E, T, R>> test;
+
+  TestCaseExcluded(MonadDefer<F> monad, String name, Set<String> tags, Producer<TestCase<F, E, T, R>> test) {
+    this.monad = checkNonNull(monad);
+    this.name = checkNonEmpty(name);
+    this.tags = Set.copyOf(tags);
+    this.test = checkNonNull(test);
+  }
+
+  @Override
+  public String name() {
+    return name;
+  }
+
+  @Override
+  public Set<String> tags() {
+    return tags;
+  }
+
+  @Override
+  public TestCase<F, E, T, R> tag(String... tags) {
+    return new TestCaseExcluded<>(monad, name, TestCaseEnd.union(this.tags, tags), () -> test.get().tag(tags));
+  }
+
+  @Override
+  public Kind<F, TestResult<E, T, R>> run() {
+    return monad.defer(() -> test.get().run());
+  }
+
+  @Override
+  public CompletionStage<TestResult<E, T, R>> runAsync(Runtime<F> runtime, Executor executor) {
+    return Async.run(runtime, monad, run(), executor);
+  }
+
+  @Override
+  public TestCase<F, E, T, R> disable(String reason) {
+    return new TestCaseEnd<>(monad, name, tags, monad.pure(disabled(name, reason)));
+  }
+
+  @Override
+  public TestCase<F, E, T, Tuple2<Duration, R>> timed() {
+    return new TestCaseExcluded<>(monad, name, tags, () -> test.get().timed());
+  }
+
+  @Override
+  public TestCase<F, E, T, R> retryOnError(int times) {
+    return new TestCaseExcluded<>(monad, name, tags, () -> test.get().retryOnError(times));
+  }
+
+  @Override
+  public TestCase<F, E, T, R> retryOnFailure(int times) {
+    return new TestCaseExcluded<>(monad, name, tags, () -> test.get().retryOnFailure(times));
+  }
+
+  @Override
+  public TestCase<F, E, T, R> retryOnFailure(RetryPolicy policy) {
+    return new TestCaseExcluded<>(monad, name, tags, () -> test.get().retryOnFailure(policy));
+  }
+
+  @Override
+  public PropertyTestCase<F, E, T, R> repeat(int times) {
+    return PropertyTestCaseImpl.lazy(monad, name, () -> test.get().repeat(times));
+  }
+
+  @Override
+  public PropertyTestCase<F, E, T, R> repeat(int times, FailureCorpus corpus) {
+    return PropertyTestCaseImpl.lazy(monad, name, () -> test.get().repeat(times, corpus));
+  }
+
+  @Override
+  public TestCase<F, E, T, R> cached(TestResultCache cache) {
+    return new TestCaseExcluded<>(monad, name, tags, () -> test.get().cached(cache));
+  }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+import static com.github.tonivade.purefun.core.Unit.unit;
+
+import java.lang.System.Logger.Level;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+import com.github.tonivade.purefun.Kind;
+import com.github.tonivade.purefun.core.Function1;
+import com.github.tonivade.purefun.core.Producer;
+import com.github.tonivade.purefun.typeclasses.Monad;
+
+/**
+ * <p>Event bus that delivers the progress of the suites to the registered {@link TestListener}s.</p>
+ *
+ * <p>The threads that execute the tests only append the events to a lock-free queue, a single daemon
+ * thread drains the queue and calls the listeners, so the tests never wait for a listener, and the
+ * listeners are always called from the same thread and in the same order the events were published.
+ * If there are no listeners registered the tests are not instrumented at all.</p>
+ *
+ * <p>The listeners are loaded using the {@code ServiceLoader} mechanism, and if the system property
+ * {@code purecheck.progress=true} is defined, a {@link ConsoleProgress} is registered too. If the system
+ * property {@code purecheck.metrics} is defined, an {@link OpenMetricsExporter} is registered to write the
+ * metrics to the given file.</p>
+ *
+ * <p>The errors thrown by the listeners are logged using {@link System.Logger}, and they don't stop the
+ * delivery of the event to the rest of the listeners.</p>
+ *
+ * @author tonivade
+ */
+public final class TestEvents {
+
+  private static final String PROGRESS_PROPERTY = "purecheck.progress";
+  private static final String METRICS_PROPERTY = "purecheck.metrics";
+
+  private static final System.Logger LOGGER = System.getLogger(TestEvents.class.getName());
+
+  private static final List<TestListener> LISTENERS = new CopyOnWriteArrayList<>(load());
+  private static final Queue<Event> QUEUE = new ConcurrentLinkedQueue<>();
+
+  private TestEvents() { }
+
+  public static void subscribe(TestListener listener) {
+    LISTENERS.add(checkNonNull(listener));
+  }
+
+  public static void unsubscribe(TestListener listener) {
+    LISTENERS.remove(listener);
+  }
+
+  /**
+   * It waits until all the events published before are delivered to the listeners
+   */
+  public static void flush() {
+    if (LISTENERS.isEmpty() && QUEUE.isEmpty()) {
+      return;
+    }
+    CountDownLatch latch = new CountDownLatch(1);
+    publish(new Flush(latch));
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  static <F extends Kind<F, ?>, E, T, R> Kind<F, TestResult<E, T, R>> observe(
+      Monad<F> monad, String suite, TestCase<F, E, T, R> test) {
+    if (LISTENERS.isEmpty()) {
+      return test.run();
+    }
+    return monad.flatMap(monad.pure(unit()), ignore -> {
+      publish(new TestStarted(suite, test.name()));
+      long start = System.nanoTime();
+      return monad.map(test.run(), result -> {
+        publish(new TestFinished(suite, result, System.nanoTime() - start));
+        return result;
+      });
+    });
+  }
+
+  /**
+   * The repetitions of a property are not timed one by one, so the duration of every repetition is
+   * the mean of the duration of the property. The events are published before the report is created,
+   * so the successful repetitions are published even if the report is compact.
+   */
+  static <F extends Kind<F, ?>, E> Kind<F, TestSuite.Report<E>> observe(
+      Monad<F> monad, String suite, PropertyTestCase<F, E, ?, ?> property) {
+    if (LISTENERS.isEmpty()) {
+      return property.run();
+    }
+    return monad.flatMap(monad.pure(unit()), ignore -> {
+      publish(new TestStarted(suite, property.name()));
+      long start = System.nanoTime();
+      return switch (property) {
+        case PropertyTestCaseImpl<F, E, ?, ?> impl -> impl.run(results -> {
+          long nanos = (System.nanoTime() - start) / Math.max(1, results.size());
+          results.forEach(result -> publish(new TestFinished(suite, result, nanos)));
+        });
+      };
+    });
+  }
+
+  static <F extends Kind<F, ?>, R extends TestSuite.Report<?>> Kind<F, R> observe(
+      Monad<F> monad, Producer<Kind<F, R>> suite) {
+    return observe(monad, suite, report -> report);
+  }
+
+  static <F extends Kind<F, ?>, R> Kind<F, R> observe(
+      Monad<F> monad, Producer<Kind<F, R>> suite, Function1<? super R, ? extends TestSuite.Report<?>> summary) {
+    if (LISTENERS.isEmpty()) {
+      return suite.get();
+    }
+    return monad.flatMap(monad.pure(unit()), ignore -> {
+      long start = System.nanoTime();
+      return monad.map(suite.get(), report -> {
+        publish(new SuiteFinished(summary.apply(report), System.nanoTime() - start));
+        return report;
+      });
+    });
+  }
+
+  private static void publish(Event event) {
+    QUEUE.offer(event);
+    Dispatcher.wakeUp();
+  }
+
+  private static List<TestListener> load() {
+    List<TestListener> listeners = new ArrayList<>();
+    ServiceLoader.load(TestListener.class).forEach(listeners::add);
+    if (Boolean.getBoolean(PROGRESS_PROPERTY)) {
+      listeners.add(new ConsoleProgress(System.out));
+    }
+    String metrics = System.getProperty(METRICS_PROPERTY);
+    if (metrics != null) {
+      listeners.add(new OpenMetricsExporter(Path.of(metrics)));
+    }
+    return listeners;
+  }
+
+  private static void dispatch(Event event) {
+    if (event instanceof Flush flush) {
+      flush.latch().countDown();
+      return;
+    }
+    for (TestListener listener : LISTENERS) {
+      try {
+        switch (event) {
+          case TestStarted started -> listener.testStarted(started.suite(), started.test());
+          case TestFinished finished ->
+            listener.testFinished(finished.suite(), finished.result(), Duration.ofNanos(finished.nanos()));
+          case SuiteFinished finished -> listener.suiteFinished(finished.report(), Duration.ofNanos(finished.nanos()));
+          case Flush ignore -> { }
+        }
+      } catch (RuntimeException e) {
+        LOGGER.log(Level.WARNING, "error in listener " + listener, e);
+      }
+    }
+  }
+
+  /**
+   * The thread is started the first time an event is published, it's a daemon thread that
+   * is parked while there are no events to deliver. The producers only unpark it if it's parked.
+   */
+  private static final class Dispatcher {
+
+    private static final AtomicBoolean PARKED = new AtomicBoolean();
+    private static final Thread THREAD = Thread.ofPlatform().daemon().name("purecheck-events").start(Dispatcher::loop);
+
+    private static void wakeUp() {
+      if (PARKED.get() && PARKED.compareAndSet(true, false)) {
+        LockSupport.unpark(THREAD);
+      }
+    }
+
+    private static void loop() {
+      while (true) {
+        Event event = QUEUE.poll();
+        if (event != null) {
+          dispatch(event);
+          continue;
+        }
+        PARKED.set(true);
+        if (QUEUE.isEmpty()) {
+          LockSupport.park(Dispatcher.class);
+        }
+        PARKED.set(false);
+      }
+    }
+  }
+
+  private sealed interface Event { }
+
+  private record TestStarted(String suite, String test) implements Event { }
+
+  private record TestFinished(String suite, TestResult<?, ?, ?> result, long nanos) implements Event { }
+
+  private record SuiteFinished(TestSuite.Report<?> report, long nanos) implements Event { }
+
+  private record Flush(CountDownLatch latch) implements Event { }
+}
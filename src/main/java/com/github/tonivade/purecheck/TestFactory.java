@@ -4,7 +4,11 @@
  */
 package com.github.tonivade.purecheck;
 
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
 import com.github.tonivade.purefun.Kind;
+import com.github.tonivade.purefun.core.Function1;
 import com.github.tonivade.purefun.typeclasses.MonadDefer;
 
 public interface TestFactory<F extends Kind<F, ?>> {
@@ -18,4 +22,24 @@ public interface TestFactory<F extends Kind<F, ?>> {
   default TestCase.GivenStep<F> should(String name) {
     return TestCase.test(monad(), name);
   }
-}
\ No newline at end of file
+
+  /**
+   * It creates a lazy stream of test cases, one for each row of the data source. The name of each
+   * test is the given name followed by the number of the row. It's intended to be used with
+   * {@link TestSpec#streamSuite}, so the rows are read and verified one by one.
+   *
+   * @param name name of the tests
+   * @param source source of the rows
+   * @param decoder decoder of each row
+   * @param test function that completes the test case given the row as input
+   * @param <T> type of the decoded row
+   * @param <E> type of the error generated
+   * @param <R> type of the result returned by the operation
+   * @return a lazy stream of test cases, it should be closed after use
+   */
+  default <T, E, R> Stream<TestCase<F, E, T, R>> table(String name, DataSource source, RowDecoder<T> decoder,
+      Function1<TestCase.WhenStep<F, T>, TestCase<F, E, T, R>> test) {
+    AtomicLong row = new AtomicLong();
+    return source.rows(decoder).map(value -> test.apply(should(name + " #" + row.incrementAndGet()).given(value)));
+  }
+}
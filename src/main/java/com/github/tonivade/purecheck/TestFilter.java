@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * <p>It selects the test cases to execute by name and by tags.</p>
+ *
+ * <p>The names are selected using a comma separated list of globs, where {@code *} matches any sequence
+ * of characters and {@code ?} matches any single character. A glob without {@code /} is applied to the
+ * name of the test, and a glob with {@code /} is applied to the name of the suite and the name of the
+ * test separated by {@code /}, for example {@code "user suite/should?say*"}.</p>
+ *
+ * <p>The tags are a comma separated list of tags, a test is selected if it has any of the tags. Tags
+ * starting with {@code !} exclude the tests that have that tag.</p>
+ *
+ * <p>The filter used by default is defined with the system properties {@code purecheck.filter}
+ * and {@code purecheck.tags}, for example {@code -Dpurecheck.filter=*hello* -Dpurecheck.tags=fast,!slow}.
+ * When a test case is created with a name that doesn't match the filter, it's only built if it's
+ * executed anyway, for example with an explicit {@code runK(TestFilter.all())}, so running a single
+ * test of a big spec is cheap. Without these properties, nothing is excluded when the tests are
+ * created, and the filter given to {@code runK(TestFilter)} decides which tests are executed.</p>
+ *
+ * @author tonivade
+ */
+public final class TestFilter {
+
+  private static final String FILTER_PROPERTY = "purecheck.filter";
+  private static final String TAGS_PROPERTY = "purecheck.tags";
+
+  private static final TestFilter ALL = new TestFilter(List.of(), Set.of(), Set.of());
+
+  private static volatile Current current = new Current("", "", ALL);
+
+  private final List<Glob> globs;
+  private final Set<String> included;
+  private final Set<String> excluded;
+
+  private TestFilter(List<Glob> globs, Set<String> included, Set<String> excluded) {
+    this.globs = List.copyOf(globs);
+    this.included = Set.copyOf(included);
+    this.excluded = Set.copyOf(excluded);
+  }
+
+  public static TestFilter all() {
+    return ALL;
+  }
+
+  /**
+   * It creates a filter that selects the tests with a name that matches any of the given globs
+   *
+   * @param globs comma separated list of globs
+   * @return a new filter
+   */
+  public static TestFilter byName(String globs) {
+    return ALL.andName(globs);
+  }
+
+  /**
+   * It creates a filter that selects the tests tagged with any of the given tags
+   *
+   * @param tags tags to include, or to exclude if they start with {@code !}
+   * @return a new filter
+   */
+  public static TestFilter byTags(String... tags) {
+    return ALL.andTags(tags);
+  }
+
+  public TestFilter andName(String globs) {
+    List<Glob> list = new ArrayList<>(this.globs);
+    for (String glob : split(checkNonNull(globs))) {
+      list.add(new Glob(compile(glob), glob.indexOf('/') >= 0));
+    }
+    return new TestFilter(list, included, excluded);
+  }
+
+  public TestFilter andTags(String... tags) {
+    Set<String> include = new LinkedHashSet<>(included);
+    Set<String> exclude = new LinkedHashSet<>(excluded);
+    for (String tag : tags) {
+      for (String value : split(checkNonNull(tag))) {
+        if (value.startsWith("!")) {
+          exclude.add(value.substring(1));
+        } else {
+          include.add(value);
+        }
+      }
+    }
+    return new TestFilter(globs, include, exclude);
+  }
+
+  /**
+   * It returns the filter defined by the system properties {@code purecheck.filter} and
+   * {@code purecheck.tags}. The filter is built again only if the properties change.
+   *
+   * @return the current filter
+   */
+  public static TestFilter current() {
+    String filter = System.getProperty(FILTER_PROPERTY, "");
+    String tags = System.getProperty(TAGS_PROPERTY, "");
+    Current cached = current;
+    if (!cached.filter().equals(filter) || !cached.tags().equals(tags)) {
+      cached = new Current(filter, tags, ALL.andName(filter).andTags(tags));
+      current = cached;
+    }
+    return cached.value();
+  }
+
+  public boolean isAll() {
+    return globs.isEmpty() && included.isEmpty() && excluded.isEmpty();
+  }
+
+  /**
+   * It checks if a test with the given name could be selected, without knowing the suite or the tags
+   * yet. It only returns {@code false} if it's sure that the test is not going to be selected.
+   *
+   * @param test name of the test
+   * @return false if the test is never going to be selected
+   */
+  boolean mayMatch(String test) {
+    if (globs.isEmpty()) {
+      return true;
+    }
+    for (Glob glob : globs) {
+      if (glob.qualified() || glob.pattern().matcher(test).matches()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  public boolean matchesName(String suite, String test) {
+    if (globs.isEmpty()) {
+      return true;
+    }
+    for (Glob glob : globs) {
+      if (glob.pattern().matcher(glob.qualified() ? suite + "/" + test : test).matches()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  public boolean matches(String suite, String test, Set<String> tags) {
+    return matchesName(suite, test) && matchesTags(tags);
+  }
+
+  private boolean matchesTags(Set<String> tags) {
+    for (String tag : tags) {
+      if (excluded.contains(tag)) {
+        return false;
+      }
+    }
+    if (included.isEmpty()) {
+      return true;
+    }
+    for (String tag : tags) {
+      if (included.contains(tag)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static List<String> split(String value) {
+    List<String> result = new ArrayList<>();
+    for (String item : value.split(",")) {
+      if (!item.isBlank()) {
+        result.add(item.trim());
+      }
+    }
+    return result;
+  }
+
+  private static Pattern compile(String glob) {
+    StringBuilder regex = new StringBuilder();
+    StringBuilder literal = new StringBuilder();
+    for (char c : glob.toCharArray()) {
+      if (c == '*' || c == '?') {
+        if (!literal.isEmpty()) {
+          regex.append(Pattern.quote(literal.toString()));
+          literal.setLength(0);
+        }
+        regex.append(c == '*' ? ".*" : ".");
+      } else {
+        literal.append(c);
+      }
+    }
+    if (!literal.isEmpty()) {
+      regex.append(Pattern.quote(literal.toString()));
+    }
+    return Pattern.compile(regex.toString(), Pattern.DOTALL);
+  }
+
+  @Override
+  public String toString() {
+    return "TestFilter(globs=" + globs.stream().map(Glob::pattern).toList()
+        + ", included=" + included + ", excluded=" + excluded + ")";
+  }
+
+  private record Glob(Pattern pattern, boolean qualified) { }
+
+  private record Current(String filter, String tags, TestFilter value) { }
+}
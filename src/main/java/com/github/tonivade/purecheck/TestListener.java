@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck;
+
+import java.time.Duration;
+
+/**
+ * <p>It receives the progress of the execution of the suites.</p>
+ *
+ * <p>The listeners are registered with {@link TestEvents#subscribe(TestListener)} or using the
+ * {@code ServiceLoader} mechanism, declaring the implementation in
+ * {@code META-INF/services/com.github.tonivade.purecheck.TestListener}.</p>
+ *
+ * <p>The events are delivered asynchronously and in order by a single thread, so the implementations
+ * don't need to be thread-safe, but they shouldn't block for a long time, because the events are
+ * kept in memory until they are delivered.</p>
+ *
+ * @author tonivade
+ */
+public interface TestListener {
+
+  /**
+   * A test case is going to be executed
+   *
+   * @param suite name of the suite
+   * @param test name of the test case
+   */
+  default void testStarted(String suite, String test) { }
+
+  /**
+   * A test case has been executed
+   *
+   * @param suite name of the suite
+   * @param result result of the test case
+   * @param duration time spent executing the test case
+   */
+  default void testFinished(String suite, TestResult<?, ?, ?> result, Duration duration) { }
+
+  /**
+   * A suite has been executed
+   *
+   * @param report report of the suite
+   * @param duration time spent executing the suite
+   */
+  default void suiteFinished(TestSuite.Report<?> report, Duration duration) { }
+}
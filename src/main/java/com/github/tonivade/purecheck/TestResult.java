@@ -32,6 +32,13 @@ import com.github.tonivade.purefun.type.Validation.Result;
  */
 public sealed interface TestResult<E, T, R> {
 
+  /**
+   * Name of the test that generated this result
+   *
+   * @return name of the test
+   */
+  String name();
+
   default boolean isSuccess() {
     return false;
   }
@@ -48,6 +55,15 @@ public sealed interface TestResult<E, T, R> {
     return false;
   }
 
+  /**
+   * Number of times the test was executed to obtain this result
+   *
+   * @return number of attempts
+   */
+  default int attempts() {
+    return 1;
+  }
+
   void assertion();
 
   <S> TestResult<E, T, S> map(Function1<R, S> mapper);
@@ -61,25 +77,44 @@ public sealed interface TestResult<E, T, R> {
   }
 
   static <E, T, R> TestResult<E, T, R> failure(String name, T input, StackFrame caller, R value, Result<E> result) {
-    return new Failure<>(name, input, caller, Either.right(value), result);
+    return new Failure<>(name, input, caller.toStackTraceElement(), Either.right(value), result);
   }
 
   static <E, T, R> TestResult<E, T, R> failure(String name, T input, StackFrame caller, Throwable error, Result<E> result) {
-    return new Failure<>(name, input, caller, Either.left(error), result);
+    return new Failure<>(name, input, caller.toStackTraceElement(), Either.left(error), result);
   }
 
   static <E, T, R> TestResult<E, T, R> error(String name, T input, StackFrame caller, Throwable error) {
-    return new Error<>(name, input, caller, Either.right(error));
+    return new Error<>(name, input, caller.toStackTraceElement(), Either.right(error));
   }
 
   static <E, T, R> TestResult<E, T, R> error(String name, T input, StackFrame caller, R error) {
-    return new Error<>(name, input, caller, Either.left(error));
+    return new Error<>(name, input, caller.toStackTraceElement(), Either.left(error));
   }
 
   static <E, T, R> TestResult<E, T, R> disabled(String name, String reason) {
     return new Disabled<>(name, reason);
   }
 
+  static <E, T, R> TestResult<E, T, R> retried(TestResult<E, T, R> result, int attempts) {
+    return new Retried<>(result, attempts);
+  }
+
+  /**
+   * It abbreviates long values to keep the reports readable, only the beginning and the end of
+   * the value are shown.
+   */
+  private static String abbreviate(Object value) {
+    String string = String.valueOf(value);
+    if (string.length() <= 1000) {
+      return string;
+    }
+    int head = 750;
+    int tail = 250;
+    return string.substring(0, head) + "...(" + (string.length() - head - tail) + " chars omitted)..."
+        + string.substring(string.length() - tail);
+  }
+
   record Success<E, T, R>(String name, T input, Either<Throwable, R> value) implements TestResult<E, T, R>, Serializable {
 
     @Serial
@@ -115,11 +150,11 @@ public sealed interface TestResult<E, T, R> {
     @Override
     public String toString() {
       return String.format("it should '%s' with input '%s' SUCCESS: '%s'",
-          name, input, value.fold(Object::toString, Object::toString));
+          name, abbreviate(input), abbreviate(value.fold(Object::toString, Object::toString)));
     }
   }
 
-  record Failure<E, T, R>(String name, T input, StackFrame caller, Either<Throwable, R> value, Result<E> result) implements TestResult<E, T, R>, Serializable {
+  record Failure<E, T, R>(String name, T input, StackTraceElement caller, Either<Throwable, R> value, Result<E> result) implements TestResult<E, T, R>, Serializable {
 
     @Serial
     private static final long serialVersionUID = 4834239536246492448L;
@@ -129,7 +164,7 @@ public sealed interface TestResult<E, T, R> {
      * and {@code IllegalArgumentException} if name is an empty String.
      *
      * @param name name of the test, non-empty value
-     * @param caller stack frame of the caller
+     * @param caller location of the caller
      * @param value result of the operation under test
      * @param result result of the validation applied to the value
      */
@@ -161,11 +196,11 @@ public sealed interface TestResult<E, T, R> {
     @Override
     public String toString() {
       return String.format("test '%s' at '%s' with input '%s' FAILURE: expected '%s' but was '%s'",
-          name, caller, input, result.join(","), value.fold(Object::toString, Object::toString));
+          name, caller, abbreviate(input), result.join(","), abbreviate(value.fold(Object::toString, Object::toString)));
     }
   }
 
-  record Error<E, T, R>(String name, T input, StackFrame caller, Either<R, Throwable> error) implements TestResult<E, T, R>, Recoverable, Serializable {
+  record Error<E, T, R>(String name, T input, StackTraceElement caller, Either<R, Throwable> error) implements TestResult<E, T, R>, Recoverable, Serializable {
 
     @Serial
     private static final long serialVersionUID = 4181923995414226773L;
@@ -175,7 +210,7 @@ public sealed interface TestResult<E, T, R> {
      * and {@code IllegalArgumentException} if name is an empty String.
      *
      * @param name name of the test, non-empty value
-     * @param caller stack frame of the caller
+     * @param caller location of the caller
      * @param error error captured by the test
      */
     public Error {
@@ -202,7 +237,7 @@ public sealed interface TestResult<E, T, R> {
     @Override
     public String toString() {
       return String.format("test '%s' at '%s' with input '%s' ERROR: %s",
-          name, caller, input, error.fold(Object::toString, Error::full));
+          name, caller, abbreviate(input), error.fold(TestResult::abbreviate, Error::full));
     }
 
     private static String full(Throwable error) {
@@ -254,4 +289,60 @@ public sealed interface TestResult<E, T, R> {
       return String.format("test '%s' DISABLED: %s", name, reason);
     }
   }
+
+  record Retried<E, T, R>(TestResult<E, T, R> result, int attempts) implements TestResult<E, T, R>, Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -1735014467102938846L;
+
+    /**
+     * it will throw a {@code NullPointerException} if the result is null.
+     *
+     * @param result result of the last attempt
+     * @param attempts number of times the test was executed
+     */
+    public Retried {
+      checkNonNull(result);
+    }
+
+    @Override
+    public String name() {
+      return result.name();
+    }
+
+    @Override
+    public boolean isSuccess() {
+      return result.isSuccess();
+    }
+
+    @Override
+    public boolean isFailure() {
+      return result.isFailure();
+    }
+
+    @Override
+    public boolean isError() {
+      return result.isError();
+    }
+
+    @Override
+    public boolean isDisabled() {
+      return result.isDisabled();
+    }
+
+    @Override
+    public void assertion() {
+      result.assertion();
+    }
+
+    @Override
+    public <S> TestResult<E, T, S> map(Function1<R, S> mapper) {
+      return new Retried<>(result.map(mapper), attempts);
+    }
+
+    @Override
+    public String toString() {
+      return String.format("%s (after %d attempts)", result, attempts);
+    }
+  }
 }
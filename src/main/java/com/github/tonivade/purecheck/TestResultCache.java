@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.joining;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.github.tonivade.purefun.type.Option;
+
+/**
+ * <p>On-disk cache of successful test results.</p>
+ *
+ * <p>Results are stored using a key composed by the name of the test, a hash of the bytecode of the class
+ * where the test was defined and the input value. If the key has a {@code Success} recorded, the test
+ * is not executed again and the recorded result is returned. Any other result removes the entry, so
+ * the test will be executed again in the next run.</p>
+ *
+ * <p>It only makes sense for deterministic tests with inputs with a stable {@code toString()}.</p>
+ *
+ * <p>The results are deserialized with the same filter used by {@link FailureCorpus}, more patterns can be
+ * added with the system property {@code purecheck.cache.filter}. A result rejected by the filter is removed,
+ * so the test will be executed again.</p>
+ *
+ * <p><b>Important:</b> by default only the class where the test was defined is part of the key, so a change in
+ * the code under test does <b>not</b> invalidate the results recorded, and a test that would fail now can
+ * be reported as a success. Use {@link #dependsOn(Class...)} to add the classes under test to the key:</p>
+ *
+ * <pre>
+ * it.should("say hello")
+ *   .given("Toni")
+ *   .when(Greeter::hello)
+ *   .then(equalsTo("Hello Toni"))
+ *   .cached(cache.dependsOn(Greeter.class));
+ * </pre>
+ *
+ * @author tonivade
+ */
+public final class TestResultCache {
+
+  private static final String CACHE_PROPERTY = "purecheck.cache";
+  private static final String FILTER_PROPERTY = "purecheck.cache.filter";
+
+  private final Path directory;
+  private final Set<Class<?>> dependencies;
+  private final Map<Class<?>, String> bytecode;
+
+  private TestResultCache(Path directory, Set<Class<?>> dependencies, Map<Class<?>, String> bytecode) {
+    this.directory = checkNonNull(directory);
+    this.dependencies = Set.copyOf(dependencies);
+    this.bytecode = checkNonNull(bytecode);
+  }
+
+  /**
+   * It creates a new cache that stores the results in the given directory
+   *
+   * @param directory directory where the results are going to be stored
+   * @return a new cache
+   */
+  public static TestResultCache onDisk(Path directory) {
+    try {
+      return new TestResultCache(Files.createDirectories(directory), Set.of(), new ConcurrentHashMap<>());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * It creates a new cache if the system property {@code purecheck.cache} is defined with the
+   * directory to use.
+   *
+   * @return a cache if it's enabled
+   */
+  public static Option<TestResultCache> fromSystemProperty() {
+    return Option.of(System.getProperty(CACHE_PROPERTY)).map(Path::of).map(TestResultCache::onDisk);
+  }
+
+  /**
+   * It returns a cache where the bytecode of the given classes is part of the key too, so any change
+   * in those classes invalidates the results recorded
+   *
+   * @param classes classes under test
+   * @return the new cache
+   */
+  public TestResultCache dependsOn(Class<?>... classes) {
+    Set<Class<?>> union = new LinkedHashSet<>(dependencies);
+    union.addAll(Arrays.asList(classes));
+    return new TestResultCache(directory, union, bytecode);
+  }
+
+  String key(String name, Class<?> clazz, Object input) {
+    String dependencies = this.dependencies.stream()
+        .map(dependency -> dependency.getName() + '=' + hash(dependency)).sorted().collect(joining(","));
+    return sha256(name + '\0' + hash(clazz) + '\0' + dependencies + '\0' + input);
+  }
+
+  <E, T, R> Option<TestResult<E, T, R>> get(String key, Class<?> owner) {
+    Path file = directory.resolve(key);
+    if (!Files.exists(file)) {
+      return Option.none();
+    }
+    try (var input = new ObjectInputStream(Files.newInputStream(file))) {
+      input.setObjectInputFilter(FailureCorpus.filter(owner, FILTER_PROPERTY));
+      return Option.some(((Entry) input.readObject()).toResult());
+    } catch (IOException | ClassNotFoundException | ClassCastException e) {
+      remove(file);
+      return Option.none();
+    }
+  }
+
+  <E, T, R> TestResult<E, T, R> put(String key, TestResult<E, T, R> result) {
+    Path file = directory.resolve(key);
+    if (success(result) instanceof TestResult.Success<E, T, R> success) {
+      write(file, new Entry(success.name(), success.input(), success.value().isLeft(),
+          success.value().fold(error -> error, value -> value)));
+    } else {
+      remove(file);
+    }
+    return result;
+  }
+
+  private static <E, T, R> TestResult<E, T, R> success(TestResult<E, T, R> result) {
+    // a test that passed after some retries is cached as a success too
+    if (result instanceof TestResult.Retried<E, T, R> retried) {
+      return retried.result();
+    }
+    return result;
+  }
+
+  private void write(Path file, Entry entry) {
+    try {
+      Path temp = Files.createTempFile(directory, "result", ".tmp");
+      try (var output = new ObjectOutputStream(Files.newOutputStream(temp))) {
+        output.writeObject(entry);
+      } catch (IOException e) {
+        // input or value not serializable, it cannot be cached
+        remove(temp);
+        return;
+      }
+      Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      remove(file);
+    }
+  }
+
+  private record Entry(String name, Object input, boolean error, Object value) implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -3021836491093012756L;
+
+    @SuppressWarnings("unchecked")
+    <E, T, R> TestResult<E, T, R> toResult() {
+      if (error) {
+        return TestResult.success(name, (T) input, (Throwable) value);
+      }
+      return TestResult.success(name, (T) input, (R) value);
+    }
+  }
+
+  private static void remove(Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      // nothing to do, it will be ignored next time
+    }
+  }
+
+  private String hash(Class<?> clazz) {
+    return bytecode.computeIfAbsent(clazz, TestResultCache::bytecode);
+  }
+
+  private static String bytecode(Class<?> clazz) {
+    String name = clazz.getName();
+    try (InputStream input = clazz.getResourceAsStream(name.substring(name.lastIndexOf('.') + 1) + ".class")) {
+      if (input == null) {
+        return name;
+      }
+      return sha256(input.readAllBytes());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static String sha256(String value) {
+    return sha256(value.getBytes(UTF_8));
+  }
+
+  private static String sha256(byte[] value) {
+    try {
+      return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(value));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
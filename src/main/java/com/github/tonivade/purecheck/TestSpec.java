@@ -6,15 +6,19 @@ package com.github.tonivade.purecheck;
 
 import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
 
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
+import java.util.stream.Stream;
 
 import com.github.tonivade.purefun.Kind;
 import com.github.tonivade.purefun.concurrent.Future;
+import com.github.tonivade.purefun.core.Consumer1;
+import com.github.tonivade.purefun.core.Producer;
 import com.github.tonivade.purefun.data.NonEmptyList;
+import com.github.tonivade.purefun.data.Sequence;
 import com.github.tonivade.purefun.typeclasses.Applicative;
 import com.github.tonivade.purefun.typeclasses.FunctionK;
 import com.github.tonivade.purefun.typeclasses.Instance;
-import com.github.tonivade.purefun.typeclasses.Monad;
 import com.github.tonivade.purefun.typeclasses.MonadDefer;
 import com.github.tonivade.purefun.typeclasses.Parallel;
 import com.github.tonivade.purefun.typeclasses.Runtime;
@@ -25,7 +29,7 @@ public abstract class TestSpec<F extends Kind<F, ?>, E> {
 
   private final Runtime<F> runtime;
   private final Applicative<F> applicative;
-  private final Monad<F> monad;
+  private final MonadDefer<F> monad;
 
   protected TestSpec(Instance<F> instance) {
     this(instance.runtime(), instance.monadDefer(), instance.applicative());
@@ -41,7 +45,18 @@ public abstract class TestSpec<F extends Kind<F, ?>, E> {
   @SafeVarargs
   protected final TestSuite<F, E> suite(
       String name, TestCase<F, E, ?, ?> test, TestCase<F, E, ?, ?>... tests) {
-    return new TestSuite<>(parallel(), name, NonEmptyList.of(test, tests)) {
+    return suite(name, Sequence.emptyList(), NonEmptyList.of(test, tests));
+  }
+
+  @SafeVarargs
+  protected final TestSuite<F, E> suite(
+      String name, Sequence<? extends Fixture<?>> fixtures, TestCase<F, E, ?, ?> test, TestCase<F, E, ?, ?>... tests) {
+    return suite(name, fixtures, NonEmptyList.of(test, tests));
+  }
+
+  private TestSuite<F, E> suite(
+      String name, Sequence<? extends Fixture<?>> fixtures, NonEmptyList<TestCase<F, E, ?, ?>> tests) {
+    return new TestSuite<>(parallel(), runtime, monad, name, fixtures, tests) {
       @Override
       public TestSuite.Report<E> run() {
         return runtime.run(runK());
@@ -51,13 +66,67 @@ public abstract class TestSpec<F extends Kind<F, ?>, E> {
       public Future<TestSuite.Report<E>> parRun(Executor executor) {
         return runtime.parRun(runParK(), executor);
       }
+
+      @Override
+      public CompletionStage<TestSuite.Report<E>> runAsync(Executor executor) {
+        return async(runK(), executor);
+      }
+
+      @Override
+      public FlakyReport detectFlaky(int runs) {
+        return runtime.run(detectFlakyK(runs));
+      }
+    };
+  }
+
+  /**
+   * It creates a suite backed by a lazy stream of tests, see {@link StreamTestSuite}. The tests
+   * are executed in parallel in chunks of the number of available processors.
+   *
+   * @param name name of the suite
+   * @param tests generator of the stream of tests, it's called every time the suite is executed
+   * @return a new suite
+   */
+  protected final StreamTestSuite<F, E> streamSuite(
+      String name, Producer<? extends Stream<? extends TestCase<F, E, ?, ?>>> tests) {
+    return streamSuite(name, java.lang.Runtime.getRuntime().availableProcessors(), tests);
+  }
+
+  protected final StreamTestSuite<F, E> streamSuite(
+      String name, int parallelism, Producer<? extends Stream<? extends TestCase<F, E, ?, ?>>> tests) {
+    return new StreamTestSuite<>(parallel(), monad, name, parallelism, tests) {
+      @Override
+      public StreamTestSuite.Report<E> run() {
+        return runtime.run(runK());
+      }
+
+      @Override
+      public Future<StreamTestSuite.Report<E>> parRun(Executor executor) {
+        return runtime.parRun(runParK(), executor);
+      }
+
+      @Override
+      public CompletionStage<StreamTestSuite.Report<E>> runAsync(Executor executor) {
+        return async(runK(), executor);
+      }
     };
   }
 
   @SafeVarargs
   protected final PropertyTestSuite<F, E> properties(
       String name, PropertyTestCase<F, E, ?, ?> test, PropertyTestCase<F, E, ?, ?>... tests) {
-    return new PropertyTestSuite<>(parallel(), name, NonEmptyList.of(test, tests)) {
+    return properties(name, Sequence.emptyList(), NonEmptyList.of(test, tests));
+  }
+
+  @SafeVarargs
+  protected final PropertyTestSuite<F, E> properties(
+      String name, Sequence<? extends Fixture<?>> fixtures, PropertyTestCase<F, E, ?, ?> test, PropertyTestCase<F, E, ?, ?>... tests) {
+    return properties(name, fixtures, NonEmptyList.of(test, tests));
+  }
+
+  private PropertyTestSuite<F, E> properties(
+      String name, Sequence<? extends Fixture<?>> fixtures, NonEmptyList<PropertyTestCase<F, E, ?, ?>> tests) {
+    return new PropertyTestSuite<>(parallel(), runtime, monad, name, fixtures, tests) {
       @Override
       public PropertyTestSuite.Report<E> run() {
         return runtime.run(runK());
@@ -67,6 +136,11 @@ public abstract class TestSpec<F extends Kind<F, ?>, E> {
       public Future<PropertyTestSuite.Report<E>> parRun(Executor executor) {
         return runtime.parRun(runParK(), executor);
       }
+
+      @Override
+      public CompletionStage<PropertyTestSuite.Report<E>> runAsync(Executor executor) {
+        return async(runK(), executor);
+      }
     };
   }
 
@@ -83,9 +157,51 @@ public abstract class TestSpec<F extends Kind<F, ?>, E> {
       public Future<PureCheck.Report<E>> parRun(Executor executor) {
         return runtime.parRun(runParK(), executor);
       }
+
+      @Override
+      public CompletionStage<PureCheck.Report<E>> runAsync(Executor executor) {
+        return async(runK(), executor);
+      }
     };
   }
 
+  /**
+   * It creates a resource shared by the tests of a suite, see {@link Fixture}
+   *
+   * @param setup operation that creates the resource
+   * @param release operation that releases the resource when the suite finishes
+   * @param <T> type of the resource
+   * @return a new fixture
+   */
+  protected final <T> Fixture<T> fixture(Producer<T> setup, Consumer1<? super T> release) {
+    return Fixture.of(setup, release);
+  }
+
+  protected final <T> Fixture<T> fixture(Producer<T> setup) {
+    return Fixture.of(setup);
+  }
+
+  /**
+   * It runs a single test case using the given executor, without blocking the calling thread
+   *
+   * @param test the test case
+   * @param executor executor on which the test is going to be executed
+   * @param <T> type of the input value
+   * @param <R> type of the result
+   * @return a completion stage with the result of the test
+   */
+  protected final <T, R> CompletionStage<TestResult<E, T, R>> runAsync(TestCase<F, E, T, R> test, Executor executor) {
+    return test.runAsync(runtime, executor);
+  }
+
+  protected final <T, R> CompletionStage<TestResult<E, T, R>> runAsync(TestCase<F, E, T, R> test) {
+    return runAsync(test, Future.DEFAULT_EXECUTOR);
+  }
+
+  private <T> CompletionStage<T> async(Kind<F, T> value, Executor executor) {
+    return Async.run(runtime, monad, value, executor);
+  }
+
   private Parallel<F, F> parallel() {
     return Parallel.of(monad, applicative, FunctionK.identity(), FunctionK.identity());
   }
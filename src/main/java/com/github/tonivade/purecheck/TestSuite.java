@@ -6,16 +6,35 @@ package com.github.tonivade.purecheck;
 
 import static com.github.tonivade.purefun.core.Precondition.checkNonEmpty;
 import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+import static com.github.tonivade.purefun.core.Unit.unit;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
 import com.github.tonivade.purefun.Kind;
 import com.github.tonivade.purefun.concurrent.Future;
+import com.github.tonivade.purefun.core.Unit;
+import com.github.tonivade.purefun.data.ImmutableList;
 import com.github.tonivade.purefun.data.NonEmptyList;
 import com.github.tonivade.purefun.data.Sequence;
 import com.github.tonivade.purefun.data.SequenceOf;
+import com.github.tonivade.purefun.type.Option;
 import com.github.tonivade.purefun.typeclasses.Instances;
+import com.github.tonivade.purefun.typeclasses.Monad;
+import com.github.tonivade.purefun.typeclasses.MonadDefer;
 import com.github.tonivade.purefun.typeclasses.Parallel;
+import com.github.tonivade.purefun.typeclasses.Runtime;
 
 /**
  * <p>It defines a test suite that is composed by a non-empty collection of test cases
@@ -32,6 +51,8 @@ public abstract class TestSuite<F extends Kind<F, ?>, E> {
   private final Parallel<F, F> parallel;
   private final String name;
   private final Sequence<TestCase<F, E, ?, ?>> tests;
+  private final Fixture.Scope<F> fixtures;
+  private final Option<Runtime<F>> runtime;
 
   /**
    * It will throw {@code NullPointerException} if the tests is null
@@ -41,31 +62,268 @@ public abstract class TestSuite<F extends Kind<F, ?>, E> {
    * @param tests list of tests
    */
   protected TestSuite(Parallel<F, F> parallel, String name, NonEmptyList<TestCase<F, E, ?, ?>> tests) {
+    this(parallel, Option.none(), name, Fixture.Scope.empty(), tests);
+  }
+
+  /**
+   * It will throw {@code NullPointerException} if the tests or the fixtures are null
+   *
+   * @param parallel parallel instance for type F
+   * @param monad monad instance for type F, used to release the fixtures
+   * @param name name of the suite
+   * @param fixtures resources shared by the tests, they will be released when the suite finishes
+   * @param tests list of tests
+   */
+  protected TestSuite(Parallel<F, F> parallel, MonadDefer<F> monad, String name,
+      Sequence<? extends Fixture<?>> fixtures, NonEmptyList<TestCase<F, E, ?, ?>> tests) {
+    this(parallel, Option.none(), name, Fixture.Scope.of(monad, fixtures), tests);
+  }
+
+  /**
+   * It will throw {@code NullPointerException} if the runtime, the tests or the fixtures are null
+   *
+   * @param parallel parallel instance for type F
+   * @param runtime runtime for type F, used to run the tests one by one, see {@link #run(TestCase)}
+   * @param monad monad instance for type F, used to release the fixtures
+   * @param name name of the suite
+   * @param fixtures resources shared by the tests, they will be released when the suite finishes
+   * @param tests list of tests
+   */
+  protected TestSuite(Parallel<F, F> parallel, Runtime<F> runtime, MonadDefer<F> monad, String name,
+      Sequence<? extends Fixture<?>> fixtures, NonEmptyList<TestCase<F, E, ?, ?>> tests) {
+    this(parallel, Option.some(checkNonNull(runtime)), name, Fixture.Scope.of(monad, fixtures), tests);
+  }
+
+  private TestSuite(Parallel<F, F> parallel, Option<Runtime<F>> runtime, String name,
+      Fixture.Scope<F> fixtures, NonEmptyList<TestCase<F, E, ?, ?>> tests) {
     this.parallel = checkNonNull(parallel);
+    this.runtime = checkNonNull(runtime);
     this.name = checkNonEmpty(name);
+    this.fixtures = checkNonNull(fixtures);
     this.tests = checkNonNull(tests);
   }
 
+  public String name() {
+    return name;
+  }
+
+  public Sequence<TestCase<F, E, ?, ?>> tests() {
+    return tests;
+  }
+
+  /**
+   * It releases the fixtures of the suite. It's called automatically at the end of the execution of
+   * the suite, it only needs to be called when the tests are executed one by one with {@link #run(TestCase)}.
+   */
+  public void releaseFixtures() {
+    fixtures.release();
+  }
+
   /**
-   * It runs the suite in the given effect of the test and creates a test results
+   * It runs the tests selected by the current filter, see {@link TestFilter#current()}
    *
    * @return the result of the suite
    */
   public Kind<F, Report<E>> runK() {
-    var sequence = Instances.<Sequence<?>>traverse().sequence(parallel.monad(), tests.map(TestCase::run));
+    return runK(TestFilter.current());
+  }
 
-    Kind<F, Sequence<TestResult<E, ?, ?>>> results = parallel.monad().map(sequence, SequenceOf::toSequence);
+  /**
+   * It runs the suite in the given effect of the test and creates a test results. Only the tests
+   * selected by the filter are executed.
+   *
+   * @param filter filter to select the tests
+   * @return the result of the suite
+   */
+  public Kind<F, Report<E>> runK(TestFilter filter) {
+    return TestEvents.observe(parallel.monad(),
+        () -> FlightEvents.suite(parallel.monad(), name, false, release(collect(select(filter).map(this::observe), false))));
+  }
 
-    return parallel.monad().map(results, xs -> new Report<>(name, xs));
+  public Kind<F, Report<E>> runParK() {
+    return runParK(TestFilter.current());
+  }
 
+  public Kind<F, Report<E>> runParK(TestFilter filter) {
+    return TestEvents.observe(parallel.monad(),
+        () -> FlightEvents.suite(parallel.monad(), name, true, release(collect(select(filter).map(this::observe), true))));
   }
 
-  public Kind<F, Report<E>> runParK() {
-    var sequence = parallel.parSequence(Instances.traverse(), tests.map(TestCase::run));
+  /**
+   * It runs only the selected tests of the suite, one by one, and records the duration of each test.
+   * The indexes of the selector are the positions of the tests selected by the filter, the same
+   * tests returned by {@link #describe(TestFilter)}.
+   *
+   * @param selector index of the tests selected
+   * @param durations where the durations are recorded
+   * @param filter filter to select the tests
+   * @return the result of the suite
+   */
+  Kind<F, Report<E>> runK(IntPredicate selector, Durations durations, TestFilter filter) {
+    List<Kind<F, TestResult<E, ?, ?>>> selected = new ArrayList<>();
+    int index = 0;
+    for (TestCase<F, E, ?, ?> test : select(filter)) {
+      if (selector.test(index)) {
+        selected.add(recordDuration(test, durations));
+      }
+      index++;
+    }
+
+    return TestEvents.observe(parallel.monad(),
+        () -> FlightEvents.suite(parallel.monad(), name, false, release(collect(ImmutableList.from(selected), false))));
+  }
+
+  /**
+   * It runs only the selected tests of the suite using the runtime given in the constructor, see
+   * {@link #runK(IntPredicate, Durations, TestFilter)}
+   *
+   * @param selector index of the tests selected
+   * @param durations where the durations are recorded
+   * @param filter filter to select the tests
+   * @return the result of the suite
+   */
+  Report<E> run(IntPredicate selector, Durations durations, TestFilter filter) {
+    return runtime().run(runK(selector, durations, filter));
+  }
+
+  /**
+   * It runs a single test of the suite in the given effect, the events of the test are published
+   * like when the suite is executed, see {@link TestEvents}. The fixtures are not released.
+   *
+   * @param test the test to run
+   * @param <T> type of the input value
+   * @param <R> type of the result
+   * @return the result of the test
+   */
+  public <T, R> Kind<F, TestResult<E, T, R>> runK(TestCase<F, E, T, R> test) {
+    return observe(test);
+  }
+
+  /**
+   * Each result is added to the report as soon as the test finishes, so if the report is compact
+   * the successful results are not retained until the end of the suite.
+   */
+  private Kind<F, Report<E>> collect(Sequence<? extends Kind<F, ? extends TestResult<E, ?, ?>>> tests, boolean par) {
+    Monad<F> monad = parallel.monad();
+    return monad.flatMap(monad.pure(unit()), ignore -> {
+      var builder = new Report.Builder<E>(name, tests.size());
+      List<Kind<F, Unit>> folded = new ArrayList<>(tests.size());
+      for (var test : tests) {
+        int index = folded.size();
+        folded.add(monad.map(test, result -> builder.add(index, result)));
+      }
+      var sequence = par
+          ? parallel.parSequence(Instances.traverse(), ImmutableList.from(folded))
+          : Instances.<Sequence<?>>traverse().sequence(monad, ImmutableList.from(folded));
+      return monad.map(sequence, done -> builder.build());
+    });
+  }
+
+  private Sequence<TestCase<F, E, ?, ?>> select(TestFilter filter) {
+    if (filter.isAll()) {
+      return tests;
+    }
+    return tests.filter(test -> filter.matches(name, test.name(), test.tags()));
+  }
+
+  private <T, R> Kind<F, TestResult<E, T, R>> observe(TestCase<F, E, T, R> test) {
+    return TestEvents.observe(parallel.monad(), name, test);
+  }
+
+  Shard.Suite describe(TestFilter filter) {
+    return new Shard.Suite(name, select(filter).stream().map(TestCase::name).toList());
+  }
+
+  private Kind<F, TestResult<E, ?, ?>> recordDuration(TestCase<F, E, ?, ?> test, Durations durations) {
+    Monad<F> monad = parallel.monad();
+    return monad.flatMap(monad.pure(unit()), ignore -> {
+      long start = System.nanoTime();
+      return monad.map(observe(test), result -> {
+        durations.record(name, test.name(), System.nanoTime() - start);
+        return result;
+      });
+    });
+  }
+
+  /**
+   * It runs every test of the suite the given number of times, each time in parallel and in a
+   * different random order, and collects the pass rate and the timing variance of each test.
+   *
+   * @param runs number of times each test is executed
+   * @param seed seed used to shuffle the tests, to be able to reproduce the same orders
+   * @return the flakiness report
+   */
+  public Kind<F, FlakyReport> detectFlakyK(int runs, long seed) {
+    List<TestCase<F, E, ?, ?>> cases = tests.stream().toList();
+    List<Kind<F, Sequence<Sample>>> rounds = new ArrayList<>(runs);
+    for (List<Integer> order : orders(runs, seed, cases.size())) {
+      Sequence<Kind<F, Sample>> samples = ImmutableList.from(order).map(index -> sample(index, cases.get(index)));
+      var round = parallel.parSequence(Instances.traverse(), samples);
+      rounds.add(parallel.monad().map(round, SequenceOf::toSequence));
+    }
+
+    var sequence = Instances.<Sequence<?>>traverse().sequence(parallel.monad(), ImmutableList.from(rounds));
+
+    Kind<F, Sequence<Sequence<Sample>>> results = parallel.monad().map(sequence, SequenceOf::toSequence);
+
+    return release(parallel.monad().map(results, xs -> flakyReport(seed, cases, xs)));
+  }
+
+  public Kind<F, FlakyReport> detectFlakyK(int runs) {
+    return detectFlakyK(runs, System.nanoTime());
+  }
+
+  private static List<List<Integer>> orders(int runs, long seed, int size) {
+    if (runs < 1) {
+      throw new IllegalArgumentException("runs should be greater than 0: " + runs);
+    }
+    Random random = new Random(seed);
+    List<List<Integer>> orders = new ArrayList<>(runs);
+    for (int i = 0; i < runs; i++) {
+      List<Integer> order = new ArrayList<>(IntStream.range(0, size).boxed().toList());
+      Collections.shuffle(order, random);
+      orders.add(order);
+    }
+    return orders;
+  }
 
-    Kind<F, Sequence<TestResult<E, ?, ?>>> results = parallel.monad().map(sequence, SequenceOf::toSequence);
+  private Kind<F, Sample> sample(int index, TestCase<F, E, ?, ?> test) {
+    Monad<F> monad = parallel.monad();
+    return monad.flatMap(monad.pure(unit()), ignore -> {
+      long start = System.nanoTime();
+      return monad.map(test.run(), result -> new Sample(index, passed(result), System.nanoTime() - start));
+    });
+  }
 
-    return parallel.monad().map(results, xs -> new Report<>(name, xs));
+  private static boolean passed(TestResult<?, ?, ?> result) {
+    return !result.isFailure() && !result.isError();
+  }
+
+  private FlakyReport flakyReport(long seed, List<TestCase<F, E, ?, ?>> cases, Sequence<Sequence<Sample>> rounds) {
+    long[][] durations = new long[cases.size()][rounds.size()];
+    int[] passes = new int[cases.size()];
+    int round = 0;
+    for (Sequence<Sample> samples : rounds) {
+      for (Sample sample : samples) {
+        durations[sample.index()][round] = sample.nanos();
+        if (sample.passed()) {
+          passes[sample.index()]++;
+        }
+      }
+      round++;
+    }
+    List<FlakyReport.Stats> stats = new ArrayList<>(cases.size());
+    for (int i = 0; i < cases.size(); i++) {
+      double mean = LongStream.of(durations[i]).average().orElse(0);
+      double variance = LongStream.of(durations[i]).mapToDouble(d -> (d - mean) * (d - mean)).average().orElse(0);
+      stats.add(new FlakyReport.Stats(cases.get(i).name(), rounds.size(), passes[i],
+          Duration.ofNanos((long) mean), Duration.ofNanos((long) Math.sqrt(variance))));
+    }
+    return new FlakyReport(name, seed, ImmutableList.from(stats));
+  }
+
+  private <A> Kind<F, A> release(Kind<F, A> value) {
+    return fixtures.use(value);
   }
 
   /**
@@ -75,6 +333,46 @@ public abstract class TestSuite<F extends Kind<F, ?>, E> {
    */
   public abstract Report<E> run();
 
+  /**
+   * It runs a single test of the suite using the runtime given in the constructor, the fixtures are
+   * not released. It will throw {@code UnsupportedOperationException} if the suite was created without
+   * a runtime, in that case the subclass should override this method.
+   *
+   * @param test the test to run
+   * @param <T> type of the input value
+   * @param <R> type of the result
+   * @return the result of the test
+   */
+  public <T, R> TestResult<E, T, R> run(TestCase<F, E, T, R> test) {
+    return runtime().run(runK(test));
+  }
+
+  private Runtime<F> runtime() {
+    return runtime.fold(() -> {
+      throw new UnsupportedOperationException("suite " + name + " was created without a runtime");
+    }, current -> current);
+  }
+
+  /**
+   * It runs the suite one by one using the default executor, without blocking the calling thread
+   *
+   * @return a completion stage with the result of the suite
+   */
+  public CompletionStage<Report<E>> runAsync() {
+    return runAsync(Future.DEFAULT_EXECUTOR);
+  }
+
+  /**
+   * It runs the suite one by one using the given {@code Executor}, without blocking the calling thread.
+   * By default it runs {@link #run()} in a thread of the executor.
+   *
+   * @param executor executor on which the suite is going to be executed
+   * @return a completion stage with the result of the suite
+   */
+  public CompletionStage<Report<E>> runAsync(Executor executor) {
+    return CompletableFuture.supplyAsync(this::run, executor);
+  }
+
   /**
    * It runs the suite in parallel using the default executor
    *
@@ -92,6 +390,34 @@ public abstract class TestSuite<F extends Kind<F, ?>, E> {
    */
   public abstract Future<Report<E>> parRun(Executor executor);
 
+  /**
+   * It runs every test of the suite the given number of times to detect unstable tests. By default,
+   * the tests are executed one by one with {@link #run(TestCase)}, in a different random order each
+   * time, subclasses can override it to execute them in parallel, see {@link #detectFlakyK(int)}.
+   *
+   * @param runs number of times each test is executed
+   * @return the flakiness report
+   */
+  public FlakyReport detectFlaky(int runs) {
+    long seed = System.nanoTime();
+    List<TestCase<F, E, ?, ?>> cases = tests.stream().toList();
+    List<Sequence<Sample>> rounds = new ArrayList<>(runs);
+    try {
+      for (List<Integer> order : orders(runs, seed, cases.size())) {
+        List<Sample> samples = new ArrayList<>(order.size());
+        for (int index : order) {
+          long start = System.nanoTime();
+          TestResult<E, ?, ?> result = run(cases.get(index));
+          samples.add(new Sample(index, passed(result), System.nanoTime() - start));
+        }
+        rounds.add(ImmutableList.from(samples));
+      }
+    } finally {
+      releaseFixtures();
+    }
+    return flakyReport(seed, cases, ImmutableList.from(rounds));
+  }
+
   /**
    * It describes the report generated by a test suite.
    *
@@ -101,6 +427,8 @@ public abstract class TestSuite<F extends Kind<F, ?>, E> {
    */
   public static class Report<E> {
 
+    private static final String COMPACT_PROPERTY = "purecheck.report.compact";
+
     private final String name;
     private final Sequence<TestResult<E, ?, ?>> results;
 
@@ -109,6 +437,42 @@ public abstract class TestSuite<F extends Kind<F, ?>, E> {
       this.results = checkNonNull(results);
     }
 
+    /**
+     * It creates a new report, or a {@link CompactReport} if the system property
+     * {@code purecheck.report.compact} is true
+     *
+     * @param name name of the suite
+     * @param results results of the tests
+     * @param <E> type of the error generated by the tests
+     * @return the report
+     */
+    public static <E> Report<E> of(String name, Sequence<TestResult<E, ?, ?>> results) {
+      if (Boolean.getBoolean(COMPACT_PROPERTY)) {
+        return new CompactReport<>(name, results);
+      }
+      return new Report<>(name, results);
+    }
+
+    public String name() {
+      return name;
+    }
+
+    public Sequence<TestResult<E, ?, ?>> results() {
+      return results;
+    }
+
+    public long total() {
+      return results.size();
+    }
+
+    public long failures() {
+      return results.stream().filter(TestResult::isFailure).count();
+    }
+
+    public long errors() {
+      return results.stream().filter(TestResult::isError).count();
+    }
+
     public void assertion() {
       results.forEach(TestResult::assertion);
     }
@@ -117,5 +481,267 @@ public abstract class TestSuite<F extends Kind<F, ?>, E> {
     public String toString() {
       return results.join("\n- ", "## " + name + "\n\n- ", "\n");
     }
+
+    /**
+     * It creates the report while the tests are running, the results can be added in any order.
+     * If the report is compact only the outcome of the successful results is retained.
+     */
+    static final class Builder<E> {
+
+      private final String name;
+      private final int total;
+      private final boolean compact = Boolean.getBoolean(COMPACT_PROPERTY);
+      private final long[] outcomes;
+      private final Map<Integer, TestResult<E, ?, ?>> results = new TreeMap<>();
+
+      Builder(String name, int total) {
+        this.name = checkNonEmpty(name);
+        this.total = total;
+        this.outcomes = new long[compact ? CompactReport.words(total) : 0];
+      }
+
+      synchronized Unit add(int index, TestResult<E, ?, ?> result) {
+        if (compact) {
+          CompactReport.set(outcomes, index, CompactReport.outcome(result));
+        }
+        if (!compact || !result.isSuccess()) {
+          results.put(index, result);
+        }
+        return unit();
+      }
+
+      synchronized Report<E> build() {
+        Sequence<TestResult<E, ?, ?>> retained = ImmutableList.from(results.values());
+        if (compact) {
+          return new CompactReport<>(name, retained, total, outcomes);
+        }
+        return new Report<>(name, retained);
+      }
+    }
   }
+
+  /**
+   * <p>Report that only keeps the full results of the tests that are not successful. The outcome of
+   * each test is packed in two bits, so a suite with thousands of successful results, like a property
+   * repeated many times, retains a few bytes per result instead of the input, the output and the name
+   * of each one.</p>
+   *
+   * <p>{@link #results()} only returns the results that are not successful.</p>
+   *
+   * <p>The suites add each result to the report as soon as the test finishes, so the successful results
+   * are released during the execution. The repetitions of a property are collected by the effect before
+   * the report is created, so in that case only the report retained at the end is smaller.</p>
+   *
+   * @author tonivade
+   *
+   * @param <E> type of the error generated by the tests
+   */
+  public static class CompactReport<E> extends Report<E> {
+
+    private static final int SUCCESS = 0;
+    private static final int FAILURE = 1;
+    private static final int ERROR = 2;
+    private static final int DISABLED = 3;
+
+    private static final int BITS = 2;
+    private static final int PER_WORD = Long.SIZE / BITS;
+
+    private final int total;
+    private final long[] outcomes;
+    private final Counters counters = new Counters();
+
+    public CompactReport(String name, Sequence<TestResult<E, ?, ?>> results) {
+      this(name, results.filter(result -> !result.isSuccess()), results.size(), pack(results));
+    }
+
+    /**
+     * It rebuilds a report from the outcomes packed by other report, see {@link #outcomes()}
+     *
+     * @param name name of the suite
+     * @param results results retained, only the ones that are not successful
+     * @param total number of tests executed
+     * @param outcomes outcomes of the tests packed in words
+     */
+    CompactReport(String name, Sequence<TestResult<E, ?, ?>> results, int total, long[] outcomes) {
+      super(name, results);
+      if (total < 0 || outcomes.length != words(total)) {
+        throw new IllegalArgumentException("invalid outcomes for " + total + " tests");
+      }
+      this.total = total;
+      this.outcomes = outcomes.clone();
+      for (int index = 0; index < total; index++) {
+        counters.add(outcome(index));
+      }
+    }
+
+    /**
+     * It concatenates the reports given, compact or not, in a single compact report, the tests of each
+     * report are placed after the tests of the previous one
+     *
+     * @param name name of the suite
+     * @param reports reports to concatenate
+     * @param <E> type of the error generated by the tests
+     * @return the compact report
+     */
+    static <E> CompactReport<E> concat(String name, Sequence<Report<E>> reports) {
+      int total = 0;
+      for (Report<E> report : reports) {
+        total = Math.addExact(total, (int) report.total());
+      }
+      long[] outcomes = new long[words(total)];
+      List<TestResult<E, ?, ?>> results = new ArrayList<>();
+      int index = 0;
+      for (Report<E> report : reports) {
+        if (report instanceof CompactReport<E> compact) {
+          for (int i = 0; i < compact.total; i++) {
+            set(outcomes, index++, compact.outcome(i));
+          }
+        } else {
+          for (TestResult<E, ?, ?> result : report.results()) {
+            set(outcomes, index++, outcome(result));
+          }
+        }
+        report.results().filter(result -> !result.isSuccess()).forEach(results::add);
+      }
+      return new CompactReport<>(name, ImmutableList.from(results), total, outcomes);
+    }
+
+    @Override
+    public long total() {
+      return total;
+    }
+
+    public long successes() {
+      return counters.successes();
+    }
+
+    @Override
+    public long failures() {
+      return counters.failures();
+    }
+
+    @Override
+    public long errors() {
+      return counters.errors();
+    }
+
+    public long disabled() {
+      return counters.disabled();
+    }
+
+    /**
+     * It returns true if the test at the given position of the suite was successful
+     *
+     * @param index position of the test
+     * @return true if the test was successful
+     */
+    public boolean isSuccess(int index) {
+      if (index < 0 || index >= total) {
+        throw new IndexOutOfBoundsException(index);
+      }
+      return outcome(index) == SUCCESS;
+    }
+
+    /**
+     * It returns the outcomes of the tests packed in words, two bits per test
+     *
+     * @return a copy of the packed outcomes
+     */
+    long[] outcomes() {
+      return outcomes.clone();
+    }
+
+    @Override
+    public String toString() {
+      return "## " + name() + "\n\n" + counters + "\n"
+          + results().join("\n- ", "\n- ", "\n");
+    }
+
+    private int outcome(int index) {
+      return (int) (outcomes[index / PER_WORD] >>> (index % PER_WORD * BITS) & 0b11);
+    }
+
+    private static long[] pack(Sequence<? extends TestResult<?, ?, ?>> results) {
+      long[] outcomes = new long[words(results.size())];
+      int index = 0;
+      for (TestResult<?, ?, ?> result : results) {
+        set(outcomes, index++, outcome(result));
+      }
+      return outcomes;
+    }
+
+    private static void set(long[] outcomes, int index, int outcome) {
+      outcomes[index / PER_WORD] |= (long) outcome << (index % PER_WORD * BITS);
+    }
+
+    private static int words(int total) {
+      return (total + PER_WORD - 1) / PER_WORD;
+    }
+
+    private static int outcome(TestResult<?, ?, ?> result) {
+      if (result.isSuccess()) {
+        return SUCCESS;
+      }
+      if (result.isFailure()) {
+        return FAILURE;
+      }
+      if (result.isError()) {
+        return ERROR;
+      }
+      return DISABLED;
+    }
+  }
+
+  /**
+   * Number of results of each outcome, used by the reports that don't retain the successful results
+   */
+  static final class Counters {
+
+    private final long[] counters = new long[4];
+
+    static Counters of(long total, long failures, long errors, long disabled) {
+      var result = new Counters();
+      result.counters[CompactReport.SUCCESS] = total - failures - errors - disabled;
+      result.counters[CompactReport.FAILURE] = failures;
+      result.counters[CompactReport.ERROR] = errors;
+      result.counters[CompactReport.DISABLED] = disabled;
+      return result;
+    }
+
+    void add(TestResult<?, ?, ?> result) {
+      add(CompactReport.outcome(result));
+    }
+
+    void add(int outcome) {
+      counters[outcome]++;
+    }
+
+    long total() {
+      return LongStream.of(counters).sum();
+    }
+
+    long successes() {
+      return counters[CompactReport.SUCCESS];
+    }
+
+    long failures() {
+      return counters[CompactReport.FAILURE];
+    }
+
+    long errors() {
+      return counters[CompactReport.ERROR];
+    }
+
+    long disabled() {
+      return counters[CompactReport.DISABLED];
+    }
+
+    @Override
+    public String toString() {
+      return String.format("total=%d success=%d failures=%d errors=%d disabled=%d",
+          total(), successes(), failures(), errors(), disabled());
+    }
+  }
+
+  private record Sample(int index, boolean passed, long nanos) { }
 }
@@ -1,5 +1,8 @@
 package com.github.tonivade.purecheck.spec;
 
+import java.nio.file.Path;
+
+import com.github.tonivade.purecheck.Footprint;
 import com.github.tonivade.purecheck.PerfCase;
 import com.github.tonivade.purecheck.PerfCase.Stats;
 import com.github.tonivade.purefun.monad.IO;
@@ -22,7 +25,23 @@ public final class IOPerfCase<T> {
     return new IOPerfCase<>(perfCase.warmup(times));
   }
 
+  public IOPerfCase<T> recording(Path directory) {
+    return new IOPerfCase<>(perfCase.recording(directory));
+  }
+
+  public IOPerfCase<T> profile(Path directory) {
+    return new IOPerfCase<>(perfCase.profile(directory));
+  }
+
+  public IOPerfCase<T> profile(Path directory, int top) {
+    return new IOPerfCase<>(perfCase.profile(directory, top));
+  }
+
   public IO<Stats> run(int times) {
     return perfCase.run(times).fix(IOOf::toIO);
   }
+
+  public IO<Footprint> footprint(int instances) {
+    return perfCase.footprint(instances).fix(IOOf::toIO);
+  }
 }
@@ -1,5 +1,8 @@
 package com.github.tonivade.purecheck.spec;
 
+import java.nio.file.Path;
+
+import com.github.tonivade.purecheck.Footprint;
 import com.github.tonivade.purecheck.PerfCase;
 import com.github.tonivade.purecheck.PerfCase.Stats;
 import com.github.tonivade.purefun.effect.Task;
@@ -22,7 +25,23 @@ public final class TaskPerfCase<T> {
     return new TaskPerfCase<>(perfCase.warmup(times));
   }
 
+  public TaskPerfCase<T> recording(Path directory) {
+    return new TaskPerfCase<>(perfCase.recording(directory));
+  }
+
+  public TaskPerfCase<T> profile(Path directory) {
+    return new TaskPerfCase<>(perfCase.profile(directory));
+  }
+
+  public TaskPerfCase<T> profile(Path directory, int top) {
+    return new TaskPerfCase<>(perfCase.profile(directory, top));
+  }
+
   public Task<Stats> run(int times) {
     return perfCase.run(times).fix(TaskOf::toTask);
   }
+
+  public Task<Footprint> footprint(int instances) {
+    return perfCase.footprint(instances).fix(TaskOf::toTask);
+  }
 }
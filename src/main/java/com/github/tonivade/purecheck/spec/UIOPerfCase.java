@@ -1,5 +1,8 @@
 package com.github.tonivade.purecheck.spec;
 
+import java.nio.file.Path;
+
+import com.github.tonivade.purecheck.Footprint;
 import com.github.tonivade.purecheck.PerfCase;
 import com.github.tonivade.purecheck.PerfCase.Stats;
 import com.github.tonivade.purefun.effect.UIO;
@@ -22,7 +25,23 @@ public final class UIOPerfCase<T> {
     return new UIOPerfCase<>(perfCase.warmup(times));
   }
 
+  public UIOPerfCase<T> recording(Path directory) {
+    return new UIOPerfCase<>(perfCase.recording(directory));
+  }
+
+  public UIOPerfCase<T> profile(Path directory) {
+    return new UIOPerfCase<>(perfCase.profile(directory));
+  }
+
+  public UIOPerfCase<T> profile(Path directory, int top) {
+    return new UIOPerfCase<>(perfCase.profile(directory, top));
+  }
+
   public UIO<Stats> run(int times) {
     return perfCase.run(times).fix(UIOOf::toUIO);
   }
+
+  public UIO<Footprint> footprint(int instances) {
+    return perfCase.footprint(instances).fix(UIOOf::toUIO);
+  }
 }
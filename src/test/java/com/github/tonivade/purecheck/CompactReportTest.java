@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.tonivade.purecheck.spec.IOTestSpec;
+import com.github.tonivade.purefun.monad.IOOf;
+
+class CompactReportTest extends IOTestSpec<String> {
+
+  @Test
+  void onlyFailuresRetained() {
+    var full = it.should("be less than 90")
+        .given(Generator.range(0, 100))
+        .when(input -> input)
+        .verify((input, output) -> output < 90)
+        .repeat(100).run().fix(IOOf::toIO).unsafeRunSync();
+
+    var report = new TestSuite.CompactReport<>("compact", full.results());
+
+    assertAll(
+        () -> assertEquals(100, report.total()),
+        () -> assertEquals(90, report.successes()),
+        () -> assertEquals(10, report.failures()),
+        () -> assertEquals(0, report.errors()),
+        () -> assertEquals(10, report.results().size()),
+        () -> assertTrue(report.isSuccess(0), "first input"),
+        () -> assertFalse(report.isSuccess(99), "last input"),
+        () -> assertThrows(IndexOutOfBoundsException.class, () -> report.isSuccess(100)),
+        () -> assertThrows(AssertionError.class, report::assertion));
+  }
+
+  @Test
+  void enabledBySystemProperty() {
+    System.setProperty("purecheck.report.compact", "true");
+    try {
+      var report = suite("compact",
+          it.should("say hello")
+            .given("Toni")
+            .when(name -> "Hello " + name)
+            .verify((input, output) -> output.endsWith(input))).run();
+
+      assertAll(
+          () -> assertTrue(report instanceof TestSuite.CompactReport, "compact report"),
+          () -> assertEquals(1, report.total()),
+          () -> assertTrue(report.results().isEmpty(), "no results retained"));
+    } finally {
+      System.clearProperty("purecheck.report.compact");
+    }
+  }
+
+  @Test
+  void parallelKeepsOrder() {
+    System.setProperty("purecheck.report.compact", "true");
+    try {
+      var report = suite("compact",
+          it.should("say hello")
+            .given("Toni")
+            .when(name -> "Hello " + name)
+            .verify((input, output) -> output.endsWith(input)),
+          it.should("say goodbye")
+            .given("Toni")
+            .when(name -> "Goodbye " + name)
+            .verify((input, output) -> output.startsWith(input)),
+          it.should("say hi")
+            .given("Toni")
+            .when(name -> "Hi " + name)
+            .verify((input, output) -> output.endsWith(input))).parRun().await().getOrElseThrow();
+
+      var compact = (TestSuite.CompactReport<String>) report;
+      assertAll(
+          () -> assertEquals(3, compact.total()),
+          () -> assertEquals(2, compact.successes()),
+          () -> assertEquals(1, compact.failures()),
+          () -> assertTrue(compact.isSuccess(0), "first test"),
+          () -> assertFalse(compact.isSuccess(1), "second test"),
+          () -> assertTrue(compact.isSuccess(2), "third test"),
+          () -> assertEquals(1, compact.results().size()));
+    } finally {
+      System.clearProperty("purecheck.report.compact");
+    }
+  }
+}
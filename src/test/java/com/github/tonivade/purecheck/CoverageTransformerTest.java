@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+class CoverageTransformerTest {
+
+  @Test
+  void injectProbes() throws Exception {
+    Method parse = instrumented().getMethod("parse", String.class);
+    var trace = Coverage.trace();
+    var features = Coverage.features();
+
+    trace.attach();
+    try {
+      assertAll(
+          () -> assertTrue(run(parse, "abc", trace, features)),
+          () -> assertFalse(run(parse, "xyz", trace, features)),
+          () -> assertTrue(run(parse, "Fxy", trace, features)),
+          () -> assertTrue(run(parse, "FUx", trace, features)),
+          () -> assertFalse(run(parse, "FUy", trace, features)));
+    } finally {
+      trace.detach();
+    }
+  }
+
+  @Test
+  void disabledAfterDetach() throws Exception {
+    Method parse = instrumented().getMethod("parse", String.class);
+    var trace = Coverage.trace();
+    var features = Coverage.features();
+
+    trace.attach();
+    trace.detach();
+
+    assertFalse(run(parse, "FUZ", trace, features));
+  }
+
+  @Test
+  void onlyLastThreadAttached() throws Exception {
+    Method parse = instrumented().getMethod("parse", String.class);
+    var trace = Coverage.trace();
+    var features = Coverage.features();
+    var attached = new CountDownLatch(1);
+    var replaced = new CountDownLatch(1);
+
+    var previous = Thread.ofPlatform().start(() -> {
+      trace.attach();
+      attached.countDown();
+      awaitQuietly(replaced);
+      invokeQuietly(parse, "FUZ");
+    });
+    attached.await();
+    trace.attach();
+    try {
+      replaced.countDown();
+      previous.join();
+
+      assertAll(
+          () -> assertFalse(trace.collect(features), "previous thread"),
+          () -> assertTrue(run(parse, "FUZ", trace, features), "last thread"));
+    } finally {
+      trace.detach();
+    }
+  }
+
+  @Test
+  void onlySelectedPackages() throws IOException {
+    var transformer = new CoverageTransformer("com.example");
+
+    assertAll(
+        () -> assertNull(transformer.transform(null, Sample.class.getName().replace('.', '/'), null, null, bytes())),
+        () -> assertNull(transformer.transform(null, "com/github/tonivade/purecheck/Coverage", null, null, bytes())),
+        () -> assertNotNull(new CoverageTransformer("com.github.tonivade")
+            .transform(null, Sample.class.getName().replace('.', '/'), null, null, bytes())));
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void invokeQuietly(Method parse, String input) {
+    try {
+      parse.invoke(null, input);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static boolean run(Method parse, String input, Coverage.Trace trace, byte[] features) throws Exception {
+    parse.invoke(null, input);
+    return trace.collect(features);
+  }
+
+  private static Class<?> instrumented() throws IOException {
+    byte[] bytes = CoverageTransformer.instrument(bytes());
+    return new ClassLoader(CoverageTransformerTest.class.getClassLoader()) {
+      Class<?> define() {
+        return defineClass(Sample.class.getName(), bytes, 0, bytes.length);
+      }
+    }.define();
+  }
+
+  private static byte[] bytes() throws IOException {
+    try (InputStream input = Sample.class.getResourceAsStream("/" + Sample.class.getName().replace('.', '/') + ".class")) {
+      return input.readAllBytes();
+    }
+  }
+
+  public static final class Sample {
+
+    public static boolean parse(String input) {
+      if (input.length() > 0 && input.charAt(0) == 'F') {
+        if (input.length() > 1 && input.charAt(1) == 'U') {
+          return input.length() > 2 && input.charAt(2) == 'Z';
+        }
+      }
+      return true;
+    }
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.github.tonivade.purecheck.spec.UIOTestSpec;
+
+class DataSourceTest extends UIOTestSpec<String> {
+
+  @Test
+  void lines(@TempDir Path directory) throws IOException {
+    Path file = Files.writeString(directory.resolve("data.csv"), "Toni,Hello Toni\r\n\"Smith, John\",\"Hello \"\"John\"\"\"\nAna,Hello Ana", UTF_8);
+
+    try (var rows = DataSource.lines(file, 32).rows(RowDecoder.csv())) {
+      assertEquals(List.of(
+          List.of("Toni", "Hello Toni"),
+          List.of("Smith, John", "Hello \"John\""),
+          List.of("Ana", "Hello Ana")), rows.toList());
+    }
+  }
+
+  @Test
+  void records(@TempDir Path directory) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(8 * 100);
+    for (int i = 0; i < 100; i++) {
+      buffer.putInt(i).putInt(i * 2);
+    }
+    Path file = Files.write(directory.resolve("data.bin"), buffer.array());
+
+    try (var rows = DataSource.records(file, 8, 20).rows(row -> row.getInt(4) - row.getInt(0) * 2)) {
+      assertEquals(0, rows.mapToInt(Integer::intValue).sum());
+    }
+  }
+
+  @Test
+  void table(@TempDir Path directory) throws IOException {
+    Path file = Files.writeString(directory.resolve("golden.csv"), "Toni,Hello Toni\nAna,Hello Ana\nPepe,Bye Pepe\n", UTF_8);
+
+    var suite = streamSuite("golden", () -> it.table("say hello", DataSource.lines(file), RowDecoder.csv(),
+        row -> row
+          .when(values -> "Hello " + values.get(0))
+          .verify((values, result) -> result.equals(values.get(1)))));
+
+    var report = suite.run();
+
+    assertAll(
+        () -> assertEquals(3, report.total()),
+        () -> assertEquals(1, report.failures()));
+  }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.github.tonivade.purecheck.spec.IOTestSpec;
+
+class FailureCorpusTest extends IOTestSpec<String> {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void replayFailures() {
+    var corpus = FailureCorpus.onDisk(directory);
+    List<Integer> inputs = new CopyOnWriteArrayList<>();
+
+    var first = properties("corpus",
+        it.should("be positive")
+          .given(Generator.randomInt())
+          .when(Math::abs)
+          .verify((input, output) -> input >= 0)
+          .repeat(100, corpus)).run();
+
+    var failures = corpus.<Integer>load(corpus.key("be positive", FailureCorpusTest.class), FailureCorpusTest.class);
+
+    var second = properties("corpus",
+        it.should("be positive")
+          .given(() -> 1)
+          .when(input -> { inputs.add(input); return input; })
+          .verify((input, output) -> input >= 0)
+          .repeat(10, corpus)).run();
+
+    assertAll(
+        () -> assertThrows(AssertionError.class, first::assertion),
+        () -> assertThrows(AssertionError.class, second::assertion),
+        () -> assertTrue(failures.size() > 0, "failures stored"),
+        () -> assertEquals(failures.size() + 10, inputs.size()),
+        () -> assertEquals(failures.stream().toList(), inputs.subList(0, failures.size())),
+        () -> assertTrue(inputs.subList(failures.size(), inputs.size()).stream().allMatch(i -> i == 1), "random inputs"));
+  }
+
+  @Test
+  void storeOnlyFailures() {
+    var corpus = FailureCorpus.onDisk(directory);
+
+    properties("corpus",
+        it.should("be positive")
+          .given(() -> 1)
+          .when(input -> input)
+          .verify((input, output) -> input >= 0)
+          .repeat(10, corpus)).run().assertion();
+
+    assertTrue(corpus.load(corpus.key("be positive", FailureCorpusTest.class), FailureCorpusTest.class).isEmpty(), "nothing stored");
+  }
+
+  @Test
+  void repeatAfterRetry() {
+    var corpus = FailureCorpus.onDisk(directory);
+
+    var result = properties("corpus",
+        it.should("be positive")
+          .given(Generator.randomInt())
+          .when(Math::abs)
+          .verify((input, output) -> input >= 0)
+          .retryOnFailure(1)
+          .repeat(100, corpus)).run();
+
+    assertAll(
+        () -> assertThrows(AssertionError.class, result::assertion),
+        () -> assertTrue(corpus.load(corpus.key("be positive", FailureCorpusTest.class), FailureCorpusTest.class).size() > 0));
+  }
+
+  @Test
+  void removeInputsOfAnotherType() {
+    var corpus = FailureCorpus.onDisk(directory);
+    var key = corpus.key("change type", FailureCorpusTest.class);
+
+    properties("corpus",
+        it.should("change type")
+          .given(() -> -1)
+          .when(Math::abs)
+          .verify((input, output) -> input >= 0)
+          .repeat(1, corpus)).run();
+
+    var stored = corpus.load(key, FailureCorpusTest.class);
+
+    properties("corpus",
+        it.should("change type")
+          .given(() -> "a")
+          .when(String::length)
+          .verify((input, output) -> output == 1)
+          .repeat(3, corpus)).run().assertion();
+
+    assertAll(
+        () -> assertEquals(1, stored.size()),
+        () -> assertTrue(corpus.load(key, FailureCorpusTest.class).isEmpty(), "input removed"));
+  }
+
+  @Test
+  void rejectedByFilter() throws IOException {
+    var corpus = FailureCorpus.onDisk(directory);
+    var key = corpus.key("reject", FailureCorpusTest.class);
+
+    properties("corpus",
+        it.should("reject")
+          .given(() -> URI.create("http://localhost"))
+          .when(URI::getHost)
+          .verify((input, output) -> false)
+          .repeat(1, corpus)).run();
+
+    try (var files = Files.list(directory.resolve(key))) {
+      assertAll(
+          () -> assertTrue(corpus.load(key, FailureCorpusTest.class).isEmpty(), "rejected"),
+          () -> assertEquals(1, files.count(), "kept"));
+    }
+  }
+}
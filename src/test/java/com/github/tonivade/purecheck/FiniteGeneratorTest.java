@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.tonivade.purecheck.spec.IOTestSpec;
+
+class FiniteGeneratorTest extends IOTestSpec<String> {
+
+  @Test
+  void exhaustive() {
+    List<Byte> inputs = new CopyOnWriteArrayList<>();
+
+    properties("exhaustive",
+        it.should("test each byte once")
+          .given(Generator.bytes())
+          .when(input -> { inputs.add(input); return input; })
+          .verify((input, output) -> input.equals(output))
+          .repeat(1000)).run().assertion();
+
+    assertAll(
+        () -> assertEquals(256, inputs.size()),
+        () -> assertEquals(256, Set.copyOf(inputs).size()));
+  }
+
+  @Test
+  void exhaustiveIsLazy() {
+    var enumerated = new AtomicInteger();
+    var generator = new FiniteGenerator<>(3, i -> { enumerated.incrementAndGet(); return i; });
+
+    var suite = properties("lazy",
+        it.should("enumerate the values when executed")
+          .given(generator)
+          .when(input -> input)
+          .verify((input, output) -> input.equals(output))
+          .repeat(10));
+
+    int beforeRun = enumerated.get();
+    suite.run().assertion();
+    suite.run().assertion();
+
+    assertAll(
+        () -> assertEquals(0, beforeRun),
+        () -> assertEquals(6, enumerated.get()));
+  }
+
+  @Test
+  void sampling() {
+    List<Integer> inputs = new CopyOnWriteArrayList<>();
+
+    properties("sampling",
+        it.should("sample when the domain is bigger")
+          .given(Generator.range(0, 1000))
+          .when(input -> { inputs.add(input); return input; })
+          .verify((input, output) -> input >= 0 && input < 1000)
+          .repeat(100)).run().assertion();
+
+    assertEquals(100, inputs.size());
+  }
+
+  @Test
+  void values() {
+    assertAll(
+        () -> assertEquals(List.of(-1, 0, 1), Generator.range(-1, 2).values().stream().toList()),
+        () -> assertEquals(List.of(false, true), Generator.booleans().values().stream().toList()),
+        () -> assertEquals(Byte.valueOf(Byte.MIN_VALUE), Generator.bytes().values().stream().findFirst().orElseThrow()),
+        () -> assertThrows(IllegalArgumentException.class, () -> Generator.range(1, 1)),
+        () -> assertThrows(IllegalArgumentException.class, () -> Generator.range(Integer.MIN_VALUE, Integer.MAX_VALUE)));
+  }
+
+  @Test
+  void biased() {
+    var integers = IntStream.range(0, 1000).mapToObj(i -> Generator.biasedInt().get()).toList();
+    var strings = IntStream.range(0, 1000).mapToObj(i -> Generator.biasedString(100).get()).toList();
+    var lists = IntStream.range(0, 1000).mapToObj(i -> Generator.biasedList(Generator.randomInt(), 100).get()).toList();
+
+    assertAll(
+        () -> assertTrue(integers.contains(0) && integers.contains(Integer.MAX_VALUE) && integers.contains(Integer.MIN_VALUE), "boundaries"),
+        () -> assertTrue(strings.stream().filter(String::isEmpty).count() > 50, "empty strings"),
+        () -> assertTrue(lists.stream().filter(list -> list.size() == 1).count() > 50, "single element lists"));
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck;
+
+import static com.github.tonivade.purefun.core.Validator.equalsTo;
+import static com.github.tonivade.purefun.data.Sequence.listOf;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.tonivade.purecheck.spec.UIOTestSpec;
+
+class FixtureTest extends UIOTestSpec<String> {
+
+  @Test
+  void sharedBySuite() {
+    var setup = new AtomicInteger();
+    var release = new AtomicInteger();
+
+    var dataset = fixture(() -> "dataset " + setup.incrementAndGet(), ignore -> release.incrementAndGet());
+
+    var suite = suite("fixtures", listOf(dataset),
+        it.should("use fixture")
+          .given(dataset)
+          .when(String::toUpperCase)
+          .then(equalsTo("DATASET 1")),
+        it.should("use the same fixture")
+          .given(dataset)
+          .when(String::length)
+          .then(equalsTo(9)));
+
+    suite.parRun().await().getOrElseThrow().assertion();
+
+    assertAll(
+        () -> assertEquals(1, setup.get()),
+        () -> assertEquals(1, release.get()));
+  }
+
+  @Test
+  void sharedByRepetitions() {
+    var setup = new AtomicInteger();
+
+    var dataset = fixture(() -> "dataset " + setup.incrementAndGet());
+
+    var suite = properties("fixtures", listOf(dataset),
+        it.should("use fixture")
+          .given(dataset)
+          .when(String::toUpperCase)
+          .then(equalsTo("DATASET 1"))
+          .repeat(100));
+
+    suite.run().assertion();
+    suite.run();
+
+    assertEquals(2, setup.get());
+  }
+
+  @Test
+  void releasedOnError() {
+    var release = new AtomicInteger();
+
+    var dataset = fixture(() -> "dataset", ignore -> release.incrementAndGet());
+    Fixture<String> broken = fixture(() -> { throw new IllegalStateException("broken"); });
+
+    var suite = suite("fixtures", listOf(dataset, broken),
+        it.should("use fixture")
+          .given(dataset)
+          .when(String::length)
+          .then(equalsTo(7)),
+        it.should("use broken fixture")
+          .given(broken)
+          .when(String::length)
+          .then(equalsTo(0)));
+
+    assertAll(
+        () -> assertThrows(RuntimeException.class, suite::run),
+        () -> assertEquals(1, release.get()));
+  }
+
+  @Test
+  void sharedByConcurrentSuites() {
+    var release = new AtomicInteger();
+
+    var dataset = fixture(() -> "dataset", ignore -> release.incrementAndGet());
+
+    var inner = suite("inner", listOf(dataset),
+        it.should("use fixture")
+          .given(dataset)
+          .when(String::length)
+          .then(equalsTo(7)));
+
+    var outer = suite("outer", listOf(dataset),
+        it.should("not release the fixture used by this suite")
+          .given(dataset)
+          .when(value -> {
+            inner.run().assertion();
+            return release.get();
+          })
+          .then(equalsTo(0)));
+
+    outer.run().assertion();
+
+    assertEquals(1, release.get());
+  }
+}
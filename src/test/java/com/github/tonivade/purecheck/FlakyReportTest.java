@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck;
+
+import static com.github.tonivade.purefun.core.Validator.equalsTo;
+import static com.github.tonivade.purefun.data.Sequence.listOf;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.tonivade.purecheck.spec.UIOTestSpec;
+import com.github.tonivade.purefun.concurrent.Future;
+import com.github.tonivade.purefun.data.NonEmptyList;
+import com.github.tonivade.purefun.effect.UIO;
+import com.github.tonivade.purefun.typeclasses.FunctionK;
+import com.github.tonivade.purefun.typeclasses.Instance;
+import com.github.tonivade.purefun.typeclasses.Parallel;
+
+class FlakyReportTest extends UIOTestSpec<String> {
+
+  @Test
+  void quarantineUnstableTests() {
+    var counter = new AtomicInteger();
+
+    var suite = suite("flaky suite",
+        it.should("be stable")
+          .given("Toni")
+          .when(name -> "Hello " + name)
+          .then(equalsTo("Hello Toni")),
+        it.should("be unstable")
+          .given(counter::incrementAndGet)
+          .when(i -> i % 2)
+          .then(equalsTo(0)),
+        it.should("always fail")
+          .given("Toni")
+          .when(name -> "Hello " + name)
+          .then(equalsTo("Bye Toni")));
+
+    var report = suite.detectFlaky(10);
+
+    System.out.println(report);
+
+    assertAll(
+        () -> assertEquals(listOf("be unstable"), report.quarantined().map(FlakyReport.Stats::name)),
+        () -> assertEquals(2, report.stable().size()),
+        () -> assertEquals(5, report.quarantined().stream().mapToInt(FlakyReport.Stats::passes).sum()),
+        () -> assertThrows(AssertionError.class, report::assertion));
+  }
+
+  @Test
+  void detectFlakyInSuiteWithoutOverride() {
+    var counter = new AtomicInteger();
+
+    var instance = new Instance<UIO<?>>() {};
+    var runtime = instance.runtime();
+    var tests = NonEmptyList.<TestCase<UIO<?>, String, ?, ?>>of(
+        it.should("be unstable")
+          .given(counter::incrementAndGet)
+          .when(i -> i % 2)
+          .then(equalsTo(0)));
+
+    var suite = new TestSuite<UIO<?>, String>(
+        Parallel.of(instance.monadDefer(), instance.applicative(), FunctionK.identity(), FunctionK.identity()),
+        "external suite", tests) {
+      @Override
+      public Report<String> run() {
+        return runtime.run(runK());
+      }
+
+      @Override
+      public Future<Report<String>> parRun(Executor executor) {
+        return runtime.parRun(runParK(), executor);
+      }
+    };
+
+    var report = suite.detectFlaky(4);
+
+    assertAll(
+        () -> assertEquals(listOf("be unstable"), report.quarantined().map(FlakyReport.Stats::name)),
+        () -> assertEquals(2, report.quarantined().stream().mapToInt(FlakyReport.Stats::passes).sum()));
+  }
+}
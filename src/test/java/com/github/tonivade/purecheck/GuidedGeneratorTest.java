@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.tonivade.purecheck.spec.IOTestSpec;
+
+class GuidedGeneratorTest extends IOTestSpec<String> {
+
+  @Test
+  void guided() {
+    var generator = Generator.guided(Generator.randomString(8), GuidedGenerator.strings());
+
+    var result = properties("guided",
+        it.should("parse any input")
+          .given(generator)
+          .when(GuidedGeneratorTest::parse)
+          .verify((input, output) -> output)
+          .repeat(50_000)).run();
+
+    assertAll(
+        () -> assertThrows(AssertionError.class, result::assertion),
+        () -> assertTrue(generator.corpus().stream().anyMatch(input -> input.startsWith("FU"))));
+  }
+
+  @Test
+  void mutations() {
+    var integers = GuidedGenerator.integers();
+    var strings = GuidedGenerator.strings();
+
+    assertAll(
+        () -> assertTrue(strings.apply("").length() == 1),
+        () -> assertTrue(Math.abs(strings.apply("abc").length() - 3) <= 1),
+        () -> assertTrue(Generator.randomString(8).get().length() <= 8),
+        () -> integers.apply(0));
+  }
+
+  private static boolean parse(String input) {
+    Coverage.hit(1);
+    if (input.length() > 0 && input.charAt(0) == 'F') {
+      Coverage.hit(2);
+      if (input.length() > 1 && input.charAt(1) == 'U') {
+        Coverage.hit(3);
+        if (input.length() > 2 && input.charAt(2) == 'Z') {
+          Coverage.hit(4);
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+}
@@ -183,6 +183,45 @@ class HelloTest extends IOTestSpec<String> {
     System.out.println(result);
   }
 
+  @Test
+  void retryOnFailureWithPolicy(@Mock Producer<String> task) {
+    when(task.get())
+      .thenReturn("Hello World")
+      .thenReturn("Hello World")
+      .thenReturn("Hello Toni");
+
+    var budget = RetryPolicy.Budget.of(5);
+
+    var result =
+        suite("some tests suite",
+            it.should("retry on failure")
+              .given(IO.task(task))
+              .whenK(identity())
+              .then(equalsTo("Hello Toni"))
+              .retryOnFailure(RetryPolicy.recurs(10).backoff(Duration.ofMillis(10), 2.0).jitter(0.1).budget(budget))
+            ).run();
+
+    verify(task, times(3)).get();
+    assertEquals(3, budget.remaining());
+    assertDoesNotThrow(result::assertion);
+
+    System.out.println(result);
+  }
+
+  @Test
+  void retryOnFailureStackSafe() {
+    var result =
+        suite("some tests suite",
+            it.should("retry on failure")
+              .given("Toni")
+              .when(name -> "Hello " + name)
+              .then(equalsTo("Bye Toni"))
+              .retryOnFailure(100_000)
+            ).run();
+
+    assertThrows(AssertionError.class, result::assertion);
+  }
+
   @Test
   void timed() {
     var result =
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.tonivade.purecheck.Linearizability.History;
+import com.github.tonivade.purecheck.Linearizability.Model;
+import com.github.tonivade.purecheck.Linearizability.Operation;
+import com.github.tonivade.purecheck.spec.IOTestSpec;
+import com.github.tonivade.purefun.core.Tuple;
+import com.github.tonivade.purefun.data.ImmutableList;
+import com.github.tonivade.purefun.monad.IO;
+import com.github.tonivade.purefun.typeclasses.Instances;
+
+class LinearizabilityTest extends IOTestSpec<String> {
+
+  private final Model<Integer, Op, Integer> model =
+      new Model<>(0, (state, op) -> op.write() ? Tuple.of(op.value(), state) : Tuple.of(state, state));
+
+  private final Linearizability<IO<?>, AtomicInteger, Op, Integer> register =
+      Linearizability.<IO<?>, AtomicInteger, Op, Integer>linearizability(
+          "register", Instances.monadDefer(), AtomicInteger::new, (target, op) -> op.execute(target))
+        .operations(Op.generator())
+        .threads(3, 200);
+
+  @Test
+  void linearizable() {
+    var suite = suite("register",
+        it.should("be linearizable")
+          .given(register)
+          .whenK(Linearizability::run)
+          .then(Linearizability.linearizable(model)));
+
+    var results = suite.run().results();
+
+    assertEquals(1, results.stream().filter(TestResult::isSuccess).count());
+  }
+
+  @Test
+  void counterexample() {
+    var history = new History<>(ImmutableList.of(
+        new Operation<>(0, 0, 10, Op.write(1), 0),
+        new Operation<>(1, 20, 30, Op.read(), 0),
+        new Operation<>(0, 25, 50, Op.write(2), 1),
+        new Operation<>(1, 60, 70, Op.read(), 2)));
+
+    var result = Linearizability.linearizable(model).validate(history);
+
+    assertAll(
+        () -> assertTrue(result.isInvalid()),
+        () -> assertTrue(result.getError().contains("shortest failing prefix")),
+        () -> assertTrue(result.getError().contains("History[operations=2]")),
+        () -> assertTrue(result.getError().contains("[thread-1] read -> 0")),
+        () -> assertFalse(result.getError().contains("write(2)")));
+  }
+
+  @Test
+  void search() {
+    var concurrent = ImmutableList.of(
+        new Operation<>(0, 0, 100, Op.write(1), 0),
+        new Operation<>(1, 10, 20, Op.read(), 1),
+        new Operation<>(1, 30, 40, Op.read(), 1),
+        new Operation<>(2, 50, 60, Op.write(3), 1));
+    var stale = ImmutableList.of(
+        new Operation<>(0, 0, 10, Op.write(1), 0),
+        new Operation<>(1, 15, 20, Op.read(), 1),
+        new Operation<>(1, 30, 40, Op.read(), 0));
+
+    assertAll(
+        () -> assertTrue(Linearizability.isLinearizable(model, concurrent.stream().toList())),
+        () -> assertFalse(Linearizability.isLinearizable(model, stale.stream().toList())));
+  }
+
+  private record Op(boolean write, int value) {
+
+    static Op write(int value) {
+      return new Op(true, value);
+    }
+
+    static Op read() {
+      return new Op(false, 0);
+    }
+
+    static Generator<Op> generator() {
+      return () -> ThreadLocalRandom.current().nextBoolean() ? write(ThreadLocalRandom.current().nextInt(5)) : read();
+    }
+
+    Integer execute(AtomicInteger register) {
+      return write ? register.getAndSet(value) : register.get();
+    }
+
+    @Override
+    public String toString() {
+      return write ? "write(" + value + ")" : "read";
+    }
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck;
+
+import static com.github.tonivade.purecheck.PerfCase.ioPerfCase;
+import static com.github.tonivade.purefun.core.Validator.equalsTo;
+import static com.github.tonivade.purefun.core.Validator.lowerThan;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.github.tonivade.purecheck.spec.IOTestSpec;
+import com.github.tonivade.purefun.core.Producer;
+
+class OpenMetricsExporterTest extends IOTestSpec<String> {
+
+  @Test
+  void export(@TempDir Path directory) throws IOException {
+    Path file = directory.resolve("purecheck.prom");
+    var exporter = new OpenMetricsExporter(file);
+    Producer<Integer> sum = () -> 1 + 1;
+    var perf = ioPerfCase("sum", sum);
+
+    var suite = suite("metrics",
+        it.should("pass")
+          .given(1)
+          .when(x -> x + 1)
+          .then(equalsTo(2)),
+        it.should("fail")
+          .given(1)
+          .when(x -> x + 1)
+          .then(equalsTo(3)),
+        it.should("measure")
+          .given(100)
+          .whenK(perf::run)
+          .then(lowerThan(Duration.ofSeconds(10), () -> "too slow").compose(PerfCase.Stats::total)));
+
+    TestEvents.subscribe(exporter);
+    try {
+      suite.run();
+      TestEvents.flush();
+    } finally {
+      TestEvents.unsubscribe(exporter);
+    }
+
+    String metrics = Files.readString(file, UTF_8);
+    assertAll(
+        () -> assertTrue(metrics.contains("# TYPE purecheck_tests counter")),
+        () -> assertTrue(metrics.contains("purecheck_tests_total{suite=\"metrics\",result=\"passed\"} 2")),
+        () -> assertTrue(metrics.contains("purecheck_tests_total{suite=\"metrics\",result=\"failed\"} 1")),
+        () -> assertTrue(metrics.contains("purecheck_test_duration_seconds_bucket{suite=\"metrics\",test=\"pass\",le=\"+Inf\"} 1")),
+        () -> assertTrue(metrics.contains("purecheck_perf_duration_seconds{name=\"sum\",quantile=\"0.99\"}")),
+        () -> assertTrue(metrics.contains("purecheck_perf_requests_per_second{name=\"sum\"}")),
+        () -> assertTrue(metrics.endsWith("# EOF\n")));
+  }
+}
@@ -8,9 +8,13 @@ import static com.github.tonivade.purecheck.PerfCase.ioPerfCase;
 import static com.github.tonivade.purefun.core.Validator.lowerThan;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import com.github.tonivade.purecheck.PerfCase.Stats;
 import com.github.tonivade.purecheck.spec.IOPerfCase;
@@ -18,6 +22,8 @@ import com.github.tonivade.purecheck.spec.IOTestSpec;
 import com.github.tonivade.purefun.core.Producer;
 import com.github.tonivade.purefun.data.Range;
 
+import jdk.jfr.consumer.RecordingFile;
+
 class PerfCaseTest extends IOTestSpec<String> {
 
   final IOPerfCase<Integer> task = ioPerfCase("test", task()).warmup(10);
@@ -42,6 +48,61 @@ class PerfCaseTest extends IOTestSpec<String> {
     System.out.println(stats);
   }
 
+  @Test
+  void recording(@TempDir Path directory) throws IOException {
+    Stats stats = task.recording(directory).run(100).unsafeRunSync();
+
+    Path file = stats.recording().getOrElseThrow();
+    var events = RecordingFile.readAllEvents(file).stream()
+        .map(event -> event.getEventType().getName())
+        .filter(name -> name.startsWith("com.github.tonivade.purecheck"))
+        .toList();
+
+    assertAll(
+        () -> assertTrue(Files.exists(file)),
+        () -> assertTrue(file.startsWith(directory)),
+        () -> assertEquals(2, events.stream().filter("com.github.tonivade.purecheck.PerfBatch"::equals).count()));
+  }
+
+  @Test
+  void profile(@TempDir Path directory) {
+    Stats stats = task.profile(directory, 5).run(1000).unsafeRunSync();
+
+    Profile profile = stats.profile().getOrElseThrow();
+
+    assertAll(
+        () -> assertTrue(Files.exists(profile.recording())),
+        () -> assertTrue(Files.exists(profile.collapsed())),
+        () -> assertTrue(profile.hottest().size() <= 5),
+        () -> assertTrue(stats.toString().contains("Profile[samples=")));
+  }
+
+  @Test
+  void footprint() {
+    Producer<long[]> array = () -> new long[1024];
+    var perfCase = PerfCase.<long[]>ioPerfCase("array", array);
+
+    var suite = suite("footprint",
+        it.should("retain the array")
+          .given(100)
+          .whenK(perfCase::footprint)
+          .then(Footprint.atMostPerElement(1024, 16)),
+        it.should("fail if too big")
+          .given(100)
+          .whenK(perfCase::footprint)
+          .then(Footprint.atMost(1024)));
+
+    var results = suite.run().results();
+    var footprint = perfCase.footprint(100).unsafeRunSync();
+
+    assertAll(
+        () -> assertEquals(1, results.stream().filter(TestResult::isSuccess).count()),
+        () -> assertTrue(results.stream().filter(TestResult::isFailure).findFirst().orElseThrow()
+            .toString().contains("bytes per instance, expected at most 1024")),
+        () -> assertEquals(100, footprint.instances()),
+        () -> assertTrue(footprint.getBytesPerInstance() > 8000, footprint.toString()));
+  }
+
   private Producer<Integer> task() {
     return () -> Range.of(1, 100).collect().foldLeft(0, Integer::sum);
   }
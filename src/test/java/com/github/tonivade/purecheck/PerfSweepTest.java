@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck;
+
+import static com.github.tonivade.purefun.data.Sequence.listOf;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.function.LongToDoubleFunction;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.tonivade.purecheck.spec.IOTestSpec;
+import com.github.tonivade.purefun.monad.IO;
+import com.github.tonivade.purefun.typeclasses.Instances;
+
+class PerfSweepTest extends IOTestSpec<String> {
+
+  @Test
+  void fit() {
+    long[] sizes = { 10, 100, 1000, 10000 };
+
+    assertAll(
+        () -> assertEquals(Complexity.CONSTANT, Complexity.fit(sizes, times(sizes, n -> 50)).complexity()),
+        () -> assertEquals(Complexity.LOGARITHMIC, Complexity.fit(sizes, times(sizes, n -> 7 * Math.log(n))).complexity()),
+        () -> assertEquals(Complexity.LINEAR, Complexity.fit(sizes, times(sizes, n -> 3 * n)).complexity()),
+        () -> assertEquals(Complexity.LINEARITHMIC, Complexity.fit(sizes, times(sizes, n -> 2 * n * Math.log(n))).complexity()),
+        () -> assertEquals(Complexity.QUADRATIC, Complexity.fit(sizes, times(sizes, n -> 0.5 * n * n)).complexity()),
+        () -> assertEquals(3, Complexity.fit(sizes, times(sizes, n -> 3 * n)).coefficient(), 0.0001),
+        () -> assertEquals(0, Complexity.fit(sizes, times(sizes, n -> 3 * n)).intercept(), 0.0001),
+        () -> assertThrows(IllegalArgumentException.class, () -> Complexity.fit(new long[] { 1 }, new double[] { 1 })));
+  }
+
+  @Test
+  void fitWithOverhead() {
+    long[] sizes = { 1, 2, 4, 8, 16 };
+
+    var fit = Complexity.fit(sizes, times(sizes, n -> 1000 + 10 * n));
+
+    assertAll(
+        () -> assertEquals(Complexity.LINEAR, fit.complexity()),
+        () -> assertEquals(1000, fit.intercept(), 0.0001),
+        () -> assertEquals(10, fit.coefficient(), 0.0001));
+  }
+
+  @Test
+  void sweep() {
+    // a busy wait of a fixed duration per element, so the medians don't depend on the speed of the machine
+    var sweep = PerfCase.sweep("spin", Instances.<IO<?>>monadDefer(), listOf(1, 10, 100),
+        size -> IO.exec(() -> spin(Duration.ofMillis(size).dividedBy(50)))).warmup(10);
+
+    var suite = suite("sweep",
+        it.should("not be quadratic")
+          .given(50)
+          .whenK(sweep::run)
+          .then(PerfSweep.atMost(Complexity.LINEARITHMIC)),
+        it.should("fail if not constant")
+          .given(50)
+          .whenK(sweep::run)
+          .then(PerfSweep.exactly(Complexity.CONSTANT)));
+
+    var results = suite.run().results();
+    var failure = results.stream().filter(TestResult::isFailure).findFirst().orElseThrow().toString();
+
+    assertAll(
+        () -> assertEquals(1, results.stream().filter(TestResult::isSuccess).count()),
+        () -> assertTrue(failure.contains("expected O(1) but was")),
+        () -> assertTrue(failure.contains("n=100 ")));
+  }
+
+  @Test
+  void requiresDifferentSizes() {
+    assertThrows(IllegalArgumentException.class,
+        () -> PerfCase.sweep("sum", Instances.<IO<?>>monadDefer(), listOf(10, 10), size -> IO.task(() -> size)));
+  }
+
+  private static void spin(Duration duration) {
+    long deadline = System.nanoTime() + duration.toNanos();
+    while (System.nanoTime() < deadline) {
+      Thread.onSpinWait();
+    }
+  }
+
+  private static double[] times(long[] sizes, LongToDoubleFunction function) {
+    return LongStream.of(sizes).mapToDouble(function).toArray();
+  }
+}
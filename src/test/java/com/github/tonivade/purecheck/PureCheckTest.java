@@ -5,9 +5,23 @@
 package com.github.tonivade.purecheck;
 
 import static com.github.tonivade.purefun.core.Validator.equalsTo;
+import static com.github.tonivade.purefun.data.Sequence.listOf;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import com.github.tonivade.purecheck.spec.TaskTestSpec;
 import com.github.tonivade.purefun.effect.Task;
@@ -20,6 +34,119 @@ class PureCheckTest extends TaskTestSpec<String> {
         () -> pureCheck("test", hello(), bye()).run().assertion());
   }
 
+  @Test
+  void shards(@TempDir Path directory) {
+    var pureCheck = pureCheck("test", hello(), bye());
+
+    var shard0 = Shard.of(0, 2);
+    var shard1 = Shard.of(1, 2);
+    new ShardReport<>(pureCheck.run(shard0), shard0.durations()).write(directory.resolve("shard-0"));
+    new ShardReport<>(pureCheck.run(shard1), shard1.durations()).write(directory.resolve("shard-1"));
+
+    ShardReport<String> merged = ShardReport.merge(listOf(
+        ShardReport.read(directory.resolve("shard-0")), ShardReport.read(directory.resolve("shard-1"))));
+
+    assertAll(
+        () -> assertEquals(1, shard0.durations().size()),
+        () -> assertEquals(1, shard1.durations().size()),
+        () -> assertEquals(2, merged.durations().size()),
+        () -> assertEquals(2, merged.report().reports().size()),
+        () -> assertThrows(AssertionError.class, merged.report()::assertion));
+  }
+
+  @Test
+  void shardsCompact(@TempDir Path directory) {
+    System.setProperty("purecheck.report.compact", "true");
+    try {
+      var pureCheck = pureCheck("test", greetings());
+
+      var shard0 = Shard.of(0, 2);
+      var shard1 = Shard.of(1, 2);
+      new ShardReport<>(pureCheck.run(shard0), shard0.durations()).write(directory.resolve("shard-0"));
+      new ShardReport<>(pureCheck.run(shard1), shard1.durations()).write(directory.resolve("shard-1"));
+
+      ShardReport<String> merged = ShardReport.merge(listOf(
+          ShardReport.read(directory.resolve("shard-0")), ShardReport.read(directory.resolve("shard-1"))));
+
+      var suite = merged.report().reports().stream().findFirst().orElseThrow();
+      assertAll(
+          () -> assertEquals(1, merged.report().reports().size()),
+          () -> assertTrue(suite instanceof TestSuite.CompactReport, "compact report"),
+          () -> assertEquals(4, suite.total()),
+          () -> assertEquals(3, ((TestSuite.CompactReport<?>) suite).successes()),
+          () -> assertEquals(1, suite.failures()),
+          () -> assertEquals(0, suite.errors()),
+          () -> assertEquals(1, suite.results().size()),
+          () -> assertThrows(AssertionError.class, merged.report()::assertion));
+    } finally {
+      System.clearProperty("purecheck.report.compact");
+    }
+  }
+
+  @Test
+  void shardReportRejectsUnknownClasses(@TempDir Path directory) throws IOException {
+    Path file = directory.resolve("shard-0");
+    try (var output = new ObjectOutputStream(Files.newOutputStream(file))) {
+      output.writeInt(2);
+      output.writeObject(URI.create("https://github.com/tonivade"));
+    }
+
+    assertThrows(IllegalArgumentException.class, () -> ShardReport.read(file));
+  }
+
+  @Test
+  void shardsWithFilter() {
+    System.setProperty("purecheck.filter", "say hello");
+    try {
+      var pureCheck = pureCheck("test", hello(), bye());
+
+      var shard0 = Shard.of(0, 2);
+      var shard1 = Shard.of(1, 2);
+      pureCheck.run(shard0).assertion();
+      pureCheck.run(shard1).assertion();
+
+      assertEquals(1, shard0.durations().size() + shard1.durations().size());
+    } finally {
+      System.clearProperty("purecheck.filter");
+    }
+  }
+
+  @Test
+  void async() {
+    var report = pureCheck("test", hello(), bye()).runAsync().toCompletableFuture().join();
+    var result = runAsync(it.should("say hello")
+        .given("Toni")
+        .when(name -> "Hello " + name)
+        .then(equalsTo("Hello Toni"))).toCompletableFuture().join();
+
+    assertAll(
+        () -> assertEquals(2, report.reports().size()),
+        () -> assertThrows(AssertionError.class, report::assertion),
+        result::assertion);
+  }
+
+  @Test
+  void asyncWithOneThread() {
+    var executor = Executors.newSingleThreadExecutor();
+    try {
+      var hello = hello().runAsync(executor).toCompletableFuture();
+      var bye = bye().runAsync(executor).toCompletableFuture();
+      var result = runAsync(it.should("say hello")
+          .given("Toni")
+          .when(name -> "Hello " + name)
+          .then(equalsTo("Hello Toni")), executor).toCompletableFuture();
+
+      CompletableFuture.allOf(hello, bye, result).orTimeout(10, TimeUnit.SECONDS).join();
+
+      assertAll(
+          () -> hello.join().assertion(),
+          () -> assertThrows(AssertionError.class, bye.join()::assertion),
+          () -> result.join().assertion());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
   TestSuite<Task<?>, String> hello() {
     return suite("suite 1",
         it.should("say hello")
@@ -29,6 +156,27 @@ class PureCheckTest extends TaskTestSpec<String> {
         );
   }
 
+  TestSuite<Task<?>, String> greetings() {
+    return suite("suite 3",
+        it.should("say hello")
+          .given("Toni")
+          .when(name -> "Hello " + name)
+          .then(equalsTo("Hello Toni")),
+        it.should("say hi")
+          .given("Toni")
+          .when(name -> "Hi " + name)
+          .then(equalsTo("Hi Toni")),
+        it.should("say good morning")
+          .given("Toni")
+          .when(name -> "Good morning " + name)
+          .then(equalsTo("Good morning Toni")),
+        it.should("say goodbye")
+          .given("Toni")
+          .when(name -> "Goodbye " + name)
+          .then(equalsTo("Bye Toni"))
+        );
+  }
+
   TestSuite<Task<?>, String> bye() {
     return suite("suite 2",
         it.should("say goodbye")
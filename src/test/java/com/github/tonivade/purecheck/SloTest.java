@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck;
+
+import static com.github.tonivade.purecheck.PerfCase.ioPerfCase;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.tonivade.purecheck.PerfCase.Stats;
+import com.github.tonivade.purecheck.spec.IOTestSpec;
+import com.github.tonivade.purefun.core.Producer;
+import com.github.tonivade.purefun.data.Range;
+import com.github.tonivade.purefun.monad.IO;
+
+class SloTest extends IOTestSpec<String> {
+
+  private final Producer<Integer> sum = () -> Range.of(1, 100).collect().foldLeft(0, Integer::sum);
+
+  @Test
+  void percentiles() {
+    Stats stats = ioPerfCase("sum", sum).warmup(10).run(1000).unsafeRunSync();
+
+    assertAll(
+        () -> assertEquals(stats.percentiles().get(99.0).getOrElseThrow(), stats.getPercentile(99)),
+        () -> assertTrue(stats.getPercentile(99.9).compareTo(stats.getPercentile(99)) >= 0),
+        () -> assertTrue(stats.getPercentile(99.99).compareTo(stats.max()) <= 0),
+        () -> assertEquals(stats.max(), stats.getPercentile(100)));
+  }
+
+  @Test
+  void slo() {
+    var perfCase = ioPerfCase("sum", sum).warmup(10);
+
+    var suite = suite("slo",
+        it.should("meet the objectives")
+          .given(1000)
+          .whenK(perfCase::run)
+          .then(Slo.all(
+              Slo.p999(Duration.ofSeconds(1)),
+              Slo.throughput(1),
+              Slo.jitter(Duration.ofSeconds(1)))),
+        it.should("miss the objectives")
+          .given(1000)
+          .whenK(perfCase::run)
+          .then(Slo.all(
+              Slo.p9999(Duration.ZERO),
+              Slo.throughput(Long.MAX_VALUE),
+              Slo.allocation(-1))));
+
+    var results = suite.run().results();
+    var failure = results.stream().filter(TestResult::isFailure).findFirst().orElseThrow().toString();
+
+    assertAll(
+        () -> assertEquals(1, results.stream().filter(TestResult::isSuccess).count()),
+        () -> assertTrue(failure.contains("p99.99 was")),
+        () -> assertTrue(failure.contains("throughput was")),
+        () -> assertTrue(failure.contains("allocation")),
+        () -> assertTrue(failure.contains("Distribution[samples=")));
+  }
+
+  @Test
+  void allocationExcludesHarness() {
+    Stats stats = ioPerfCase("noop", IO.unit()).warmup(1000).run(1000).unsafeRunSync();
+
+    assertTrue(stats.allocation().fold(() -> true, bytes -> bytes < 64), "allocation: " + stats.allocation());
+  }
+}
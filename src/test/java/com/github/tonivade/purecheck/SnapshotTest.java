@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck;
+
+import static com.github.tonivade.purecheck.Snapshot.matchesSnapshot;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.github.tonivade.purecheck.spec.UIOTestSpec;
+
+class SnapshotTest extends UIOTestSpec<String> {
+
+  @Test
+  void snapshot(@TempDir Path directory) {
+    var record = report(directory, "big report", 10_000, true);
+    var verify = report(directory, "big report", 10_000, false);
+    var mismatch = report(directory, "big report", 20_000, false);
+
+    assertAll(
+        () -> assertTrue(record.isSuccess()),
+        () -> assertEquals(1, files(directory)),
+        () -> assertTrue(verify.isSuccess()),
+        () -> assertTrue(mismatch.isFailure()),
+        () -> assertTrue(mismatch.toString().contains("@@ line 2")),
+        () -> assertTrue(mismatch.toString().length() < 5000));
+  }
+
+  @Test
+  void missingSnapshot(@TempDir Path directory) {
+    var missing = report(directory, "big report", 10_000, false);
+
+    assertAll(
+        () -> assertTrue(missing.isFailure()),
+        () -> assertTrue(missing.toString().contains("snapshot 'big report' not found")),
+        () -> assertEquals(0, files(directory)));
+  }
+
+  @Test
+  void differentNames(@TempDir Path directory) {
+    var first = report(directory, "big report", 10_000, true);
+    var second = report(directory, "big_report", 20_000, true);
+    var verify = report(directory, "big report", 10_000, false);
+
+    assertAll(
+        () -> assertTrue(first.isSuccess()),
+        () -> assertTrue(second.isSuccess()),
+        () -> assertTrue(verify.isSuccess()),
+        () -> assertEquals(2, files(directory)));
+  }
+
+  private TestResult<String, ?, ?> report(Path directory, String name, int factor, boolean update) {
+    var suite = suite("snapshot",
+        it.should("render report")
+          .given(factor)
+          .when(n -> IntStream.range(0, 1000).mapToObj(i -> "line " + i * n).collect(Collectors.joining("\n")))
+          .then(matchesSnapshot(directory, name, update)));
+
+    return suite.run().results().stream().findFirst().orElseThrow();
+  }
+
+  private static long files(Path directory) throws IOException {
+    try (var files = Files.list(directory)) {
+      return files.count();
+    }
+  }
+}
@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.tonivade.purecheck.StateMachine.Command;
+import com.github.tonivade.purecheck.StateMachine.Result;
+import com.github.tonivade.purecheck.spec.IOTestSpec;
+import com.github.tonivade.purefun.monad.IO;
+import com.github.tonivade.purefun.monad.IOOf;
+import com.github.tonivade.purefun.typeclasses.Instances;
+
+class StateMachineTest extends IOTestSpec<String> {
+
+  @Test
+  void sequential() {
+    var machine = StateMachine.<IO<?>, Map<Integer, Integer>, Store>stateMachine(
+          "store", Instances.monadDefer(), Map.of(), () -> new Store(new HashMap<>()))
+        .commands(StateMachineTest::command)
+        .size(50);
+
+    var suite = suite("state machine",
+        it.should("behave like a map")
+          .given(machine)
+          .whenK(StateMachine::run)
+          .then(StateMachine.holds()));
+
+    assertEquals(1, suite.run().results().stream().filter(TestResult::isSuccess).count());
+  }
+
+  @Test
+  void parallel() {
+    var machine = StateMachine.<IO<?>, Map<Integer, Integer>, Store>stateMachine(
+          "store", Instances.monadDefer(), Map.of(), () -> new Store(new ConcurrentHashMap<>()))
+        .commands(StateMachineTest::command)
+        .size(5)
+        .parallel(2, 5);
+
+    Result result = machine.run().fix(IOOf::toIO).unsafeRunSync();
+
+    assertAll(
+        () -> assertTrue(result.isSuccess(), result.toString()),
+        () -> assertTrue(result.program().contains("thread-1: [")));
+  }
+
+  @Test
+  void parallelWithPreconditions() {
+    var machine = StateMachine.<IO<?>, Map<Integer, Integer>, Store>stateMachine(
+          "store", Instances.monadDefer(), Map.of(), () -> new Store(new ConcurrentHashMap<>()))
+        .commands(StateMachineTest::preconditioned)
+        .size(3)
+        .parallel(2, 4);
+
+    for (int i = 0; i < 20; i++) {
+      Result result = machine.run().fix(IOOf::toIO).unsafeRunSync();
+
+      assertTrue(result.isSuccess(), result.toString());
+    }
+  }
+
+  @Test
+  void shrink() {
+    var machine = StateMachine.<IO<?>, Map<Integer, Integer>, Store>stateMachine(
+          "buggy", Instances.monadDefer(), Map.of(), BuggyStore::new)
+        .commands(StateMachineTest::command)
+        .size(50);
+
+    Result result = machine.run().fix(IOOf::toIO).unsafeRunSync();
+    for (int i = 0; i < 10 && result.isSuccess(); i++) {
+      result = machine.run().fix(IOOf::toIO).unsafeRunSync();
+    }
+    var error = StateMachine.holds().validate(result);
+
+    assertAll(
+        () -> assertTrue(error.isInvalid()),
+        () -> assertTrue(error.getError().contains("postcondition failed at command 2: Size")),
+        () -> assertTrue(error.getError().contains("prefix: [Remove[key=")),
+        () -> assertFalse(error.getError().contains("Put[")));
+  }
+
+  private static Command<Map<Integer, Integer>, Store, ?> command(Map<Integer, Integer> model) {
+    int key = ThreadLocalRandom.current().nextInt(2);
+    return switch (ThreadLocalRandom.current().nextInt(4)) {
+      case 0 -> new Put(key, ThreadLocalRandom.current().nextInt(100));
+      case 1 -> new Get(key);
+      case 2 -> new Remove(key);
+      default -> new Size();
+    };
+  }
+
+  private static Command<Map<Integer, Integer>, Store, ?> preconditioned(Map<Integer, Integer> model) {
+    int key = ThreadLocalRandom.current().nextInt(2);
+    return ThreadLocalRandom.current().nextBoolean()
+        ? new Put(key, ThreadLocalRandom.current().nextInt(100)) : new Delete(key);
+  }
+
+  private static class Store {
+
+    private final Map<Integer, Integer> map;
+
+    Store(Map<Integer, Integer> map) {
+      this.map = map;
+    }
+
+    Integer put(int key, int value) {
+      return map.put(key, value);
+    }
+
+    Integer get(int key) {
+      return map.get(key);
+    }
+
+    Integer remove(int key) {
+      return map.remove(key);
+    }
+
+    int size() {
+      return map.size();
+    }
+  }
+
+  private static final class BuggyStore extends Store {
+
+    private int size;
+
+    BuggyStore() {
+      super(new HashMap<>());
+    }
+
+    @Override
+    Integer put(int key, int value) {
+      Integer previous = super.put(key, value);
+      size += previous == null ? 1 : 0;
+      return previous;
+    }
+
+    @Override
+    Integer remove(int key) {
+      size--;
+      return super.remove(key);
+    }
+
+    @Override
+    int size() {
+      return size;
+    }
+  }
+
+  private record Put(int key, int value) implements Command<Map<Integer, Integer>, Store, Integer> {
+
+    @Override
+    public Integer run(Store system) {
+      return system.put(key, value);
+    }
+
+    @Override
+    public Map<Integer, Integer> nextState(Map<Integer, Integer> model) {
+      var next = new HashMap<>(model);
+      next.put(key, value);
+      return Map.copyOf(next);
+    }
+
+    @Override
+    public boolean postcondition(Map<Integer, Integer> model, Integer result) {
+      return Objects.equals(model.get(key), result);
+    }
+  }
+
+  private record Get(int key) implements Command<Map<Integer, Integer>, Store, Integer> {
+
+    @Override
+    public Integer run(Store system) {
+      return system.get(key);
+    }
+
+    @Override
+    public Map<Integer, Integer> nextState(Map<Integer, Integer> model) {
+      return model;
+    }
+
+    @Override
+    public boolean postcondition(Map<Integer, Integer> model, Integer result) {
+      return Objects.equals(model.get(key), result);
+    }
+  }
+
+  private record Remove(int key) implements Command<Map<Integer, Integer>, Store, Integer> {
+
+    @Override
+    public Integer run(Store system) {
+      return system.remove(key);
+    }
+
+    @Override
+    public Map<Integer, Integer> nextState(Map<Integer, Integer> model) {
+      var next = new HashMap<>(model);
+      next.remove(key);
+      return Map.copyOf(next);
+    }
+
+    @Override
+    public boolean postcondition(Map<Integer, Integer> model, Integer result) {
+      return Objects.equals(model.get(key), result);
+    }
+  }
+
+  /**
+   * Same as remove, but it can only be executed if the key exists
+   */
+  private record Delete(int key) implements Command<Map<Integer, Integer>, Store, Integer> {
+
+    @Override
+    public boolean precondition(Map<Integer, Integer> model) {
+      return model.containsKey(key);
+    }
+
+    @Override
+    public Integer run(Store system) {
+      return system.remove(key);
+    }
+
+    @Override
+    public Map<Integer, Integer> nextState(Map<Integer, Integer> model) {
+      var next = new HashMap<>(model);
+      next.remove(key);
+      return Map.copyOf(next);
+    }
+
+    @Override
+    public boolean postcondition(Map<Integer, Integer> model, Integer result) {
+      return Objects.equals(model.get(key), result);
+    }
+  }
+
+  private record Size() implements Command<Map<Integer, Integer>, Store, Integer> {
+
+    @Override
+    public Integer run(Store system) {
+      return system.size();
+    }
+
+    @Override
+    public Map<Integer, Integer> nextState(Map<Integer, Integer> model) {
+      return model;
+    }
+
+    @Override
+    public boolean postcondition(Map<Integer, Integer> model, Integer result) {
+      return model.size() == result;
+    }
+  }
+}
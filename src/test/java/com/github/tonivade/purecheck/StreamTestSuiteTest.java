@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck;
+
+import static com.github.tonivade.purefun.core.Validator.equalsTo;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.tonivade.purecheck.spec.UIOTestSpec;
+
+class StreamTestSuiteTest extends UIOTestSpec<String> {
+
+  @Test
+  void runLazily() {
+    var created = new AtomicInteger();
+    var ahead = new AtomicInteger();
+
+    var suite = streamSuite("stream", 4, () -> IntStream.range(0, 10_000)
+        .peek(ignore -> created.incrementAndGet())
+        .mapToObj(i -> it.should("double " + i)
+          .given(i)
+          .when(x -> {
+            ahead.accumulateAndGet(created.get() - x, Math::max);
+            return x * 2;
+          })
+          .then(equalsTo(i == 5000 ? -1 : i * 2))));
+
+    var report = suite.parRun().await().getOrElseThrow();
+
+    assertAll(
+        () -> assertTrue(ahead.get() <= 4, "pulled ahead: " + ahead.get()),
+        () -> assertEquals(10_000, created.get()),
+        () -> assertEquals(10_000, report.total()),
+        () -> assertEquals(9_999, report.successes()),
+        () -> assertEquals(1, report.failures()),
+        () -> assertEquals(1, report.results().size()),
+        () -> assertThrows(AssertionError.class, report::assertion));
+  }
+
+  @Test
+  void slidingWindow() {
+    var others = new CountDownLatch(9);
+
+    var suite = streamSuite("stream", 2, () -> IntStream.range(0, 10)
+        .mapToObj(i -> it.should("wait " + i)
+          .given(i)
+          .when(x -> {
+            if (x == 0) {
+              // the other slot keeps pulling tests while this one is waiting
+              return others.await(5, TimeUnit.SECONDS);
+            }
+            others.countDown();
+            return true;
+          })
+          .then(equalsTo(true))));
+
+    var report = suite.parRun().await().getOrElseThrow();
+
+    assertAll(
+        () -> assertEquals(10, report.total()),
+        () -> assertEquals(10, report.successes()),
+        report::assertion);
+  }
+
+  @Test
+  void closeOnError() {
+    var closed = new AtomicBoolean();
+
+    var suite = streamSuite("stream", () -> IntStream.range(0, 10)
+        .mapToObj(i -> {
+          if (i == 5) {
+            throw new IllegalStateException("broken row");
+          }
+          return it.should("say hello " + i)
+            .given("Toni " + i)
+            .when(name -> "Hello " + name)
+            .then(equalsTo("Hello Toni " + i));
+        })
+        .onClose(() -> closed.set(true)));
+
+    assertAll(
+        () -> assertThrows(IllegalStateException.class, suite::run),
+        () -> assertTrue(closed.get()));
+  }
+
+  @Test
+  void runSerially() {
+    var suite = streamSuite("stream", () -> IntStream.range(0, 100)
+        .mapToObj(i -> it.should("say hello " + i)
+          .given("Toni " + i)
+          .when(name -> "Hello " + name)
+          .then(equalsTo("Hello Toni " + i))));
+
+    var report = suite.run();
+
+    assertAll(
+        () -> assertEquals(100, report.total()),
+        () -> assertEquals(100, report.successes()),
+        () -> assertEquals(0, report.results().size()),
+        report::assertion);
+  }
+}
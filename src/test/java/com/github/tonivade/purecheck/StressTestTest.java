@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.tonivade.purecheck.StressTest.Outcomes;
+import com.github.tonivade.purecheck.spec.IOTestSpec;
+import com.github.tonivade.purefun.monad.IO;
+import com.github.tonivade.purefun.monad.IOOf;
+import com.github.tonivade.purefun.typeclasses.Instances;
+
+class StressTestTest extends IOTestSpec<String> {
+
+  private final StressTest<IO<?>, AtomicInteger> counter =
+      StressTest.stress("counter", Instances.<IO<?>>monadDefer(), AtomicInteger::new)
+        .actor(AtomicInteger::incrementAndGet)
+        .actor(AtomicInteger::incrementAndGet)
+        .arbiter(AtomicInteger::get);
+
+  @Test
+  void histogram() {
+    Outcomes outcomes = counter.batch(100).run(10_000).fix(IOOf::toIO).unsafeRunSync();
+
+    assertAll(
+        () -> assertEquals(10_000, outcomes.trials()),
+        () -> assertEquals(10_000, outcomes.count("1, 2, 2") + outcomes.count("2, 1, 2")),
+        () -> assertEquals(0, outcomes.count("1, 1, 1")),
+        () -> assertTrue(outcomes.toString().startsWith("Outcomes[name=counter,trials=10000]")));
+  }
+
+  @Test
+  void validators() {
+    var suite = suite("stress",
+        it.should("never lose an increment")
+          .given(10_000)
+          .whenK(counter::run)
+          .then(StressTest.acceptable("1, 2, 2", "2, 1, 2")),
+        it.should("fail when an outcome is forbidden")
+          .given(10_000)
+          .whenK(counter::run)
+          .then(StressTest.forbidden("1, 2, 2", "2, 1, 2")));
+
+    var results = suite.run().results();
+
+    assertAll(
+        () -> assertEquals(1, results.stream().filter(TestResult::isSuccess).count()),
+        () -> assertTrue(results.stream().filter(TestResult::isFailure).findFirst().orElseThrow()
+            .toString().contains("forbidden outcomes [")));
+  }
+
+  @Test
+  void error() {
+    var stress = StressTest.stress("error", Instances.<IO<?>>monadDefer(), AtomicInteger::new)
+        .actor(AtomicInteger::incrementAndGet)
+        .actor(value -> { throw new UnsupportedOperationException(); });
+
+    assertAll(
+        () -> assertThrows(UnsupportedOperationException.class,
+            () -> stress.run(10).fix(IOOf::toIO).unsafeRunSync()),
+        () -> assertThrows(IllegalArgumentException.class,
+            () -> StressTest.stress("empty", Instances.<IO<?>>monadDefer(), AtomicInteger::new).run(10)));
+  }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck;
+
+import static com.github.tonivade.purefun.core.Validator.equalsTo;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.tonivade.purecheck.spec.UIOTestSpec;
+import com.github.tonivade.purefun.effect.UIO;
+
+class TestEventsTest extends UIOTestSpec<String> {
+
+  @Test
+  void events() {
+    var events = new ArrayList<String>();
+    var dispatchers = new ArrayList<Thread>();
+    TestListener listener = new TestListener() {
+      @Override
+      public void testStarted(String suite, String test) {
+        record(suite, "started " + test);
+      }
+
+      @Override
+      public void testFinished(String suite, TestResult<?, ?, ?> result, Duration duration) {
+        record(suite, "finished " + result.name());
+      }
+
+      @Override
+      public void suiteFinished(TestSuite.Report<?> report, Duration duration) {
+        record(report.name(), "suite");
+      }
+
+      private void record(String suite, String event) {
+        if (suite.equals("events")) {
+          events.add(event);
+          dispatchers.add(Thread.currentThread());
+        }
+      }
+    };
+
+    TestEvents.subscribe(listener);
+    try {
+      suite("events", 100).parRun().await().getOrElseThrow();
+      TestEvents.flush();
+    } finally {
+      TestEvents.unsubscribe(listener);
+    }
+
+    assertAll(
+        () -> assertEquals(201, events.size()),
+        () -> assertEquals(100, events.stream().filter(e -> e.startsWith("started")).count()),
+        () -> assertEquals(100, events.stream().filter(e -> e.startsWith("finished")).count()),
+        () -> assertEquals("suite", events.get(events.size() - 1)),
+        () -> assertEquals(1, dispatchers.stream().distinct().count()),
+        () -> assertTrue(dispatchers.stream().noneMatch(Thread.currentThread()::equals)));
+  }
+
+  @Test
+  void consoleProgress() {
+    var output = new ByteArrayOutputStream();
+    var progress = new ConsoleProgress(new PrintStream(output, true, UTF_8));
+
+    TestEvents.subscribe(progress);
+    try {
+      suite("progress", 3).run();
+      TestEvents.flush();
+    } finally {
+      TestEvents.unsubscribe(progress);
+    }
+
+    String lines = output.toString(UTF_8);
+    assertAll(
+        () -> assertTrue(lines.contains("[progress #1] PASS double 0")),
+        () -> assertTrue(lines.contains("[progress #3] FAIL double 2")),
+        () -> assertTrue(lines.contains("[progress] finished 3 tests in")),
+        () -> assertTrue(lines.contains("2 passed, 1 failed, 0 errors, 0 disabled")));
+  }
+
+  @Test
+  void properties() {
+    var output = new ByteArrayOutputStream();
+    var progress = new ConsoleProgress(new PrintStream(output, true, UTF_8));
+
+    TestEvents.subscribe(progress);
+    try {
+      properties("properties",
+          it.should("have length")
+            .given("Toni")
+            .when(String::length)
+            .then(equalsTo(4))
+            .repeat(5),
+          it.should("be uppercase")
+            .given("Toni")
+            .when(String::toUpperCase)
+            .then(equalsTo("toni"))
+            .repeat(3)).parRun().await().getOrElseThrow();
+      TestEvents.flush();
+    } finally {
+      TestEvents.unsubscribe(progress);
+    }
+
+    String lines = output.toString(UTF_8);
+    assertAll(
+        () -> assertTrue(lines.contains("PASS have length")),
+        () -> assertTrue(lines.contains("FAIL be uppercase")),
+        () -> assertTrue(lines.contains("[properties] finished 8 tests in")),
+        () -> assertTrue(lines.contains("5 passed, 3 failed, 0 errors, 0 disabled")));
+  }
+
+  @Test
+  void compactProperties() {
+    var output = new ByteArrayOutputStream();
+    var progress = new ConsoleProgress(new PrintStream(output, true, UTF_8));
+
+    System.setProperty("purecheck.report.compact", "true");
+    TestEvents.subscribe(progress);
+    try {
+      var report = properties("properties",
+          it.should("have length")
+            .given("Toni")
+            .when(String::length)
+            .then(equalsTo(4))
+            .repeat(5),
+          it.should("be uppercase")
+            .given("Toni")
+            .when(String::toUpperCase)
+            .then(equalsTo("toni"))
+            .repeat(3)).run();
+      TestEvents.flush();
+
+      String lines = output.toString(UTF_8);
+      assertAll(
+          () -> assertTrue(lines.contains("PASS have length")),
+          () -> assertTrue(lines.contains("5 passed, 3 failed, 0 errors, 0 disabled")),
+          () -> assertEquals(8, report.summary().total()),
+          () -> assertEquals(3, report.summary().failures()));
+    } finally {
+      TestEvents.unsubscribe(progress);
+      System.clearProperty("purecheck.report.compact");
+    }
+  }
+
+  @Test
+  void brokenListener() {
+    var finished = new ArrayList<String>();
+    TestListener broken = new TestListener() {
+      @Override
+      public void testFinished(String suite, TestResult<?, ?, ?> result, Duration duration) {
+        throw new IllegalStateException("broken listener");
+      }
+    };
+    TestListener listener = new TestListener() {
+      @Override
+      public void testFinished(String suite, TestResult<?, ?, ?> result, Duration duration) {
+        if (suite.equals("broken")) {
+          finished.add(result.name());
+        }
+      }
+    };
+
+    TestEvents.subscribe(broken);
+    TestEvents.subscribe(listener);
+    try {
+      suite("broken", 3).run();
+      TestEvents.flush();
+    } finally {
+      TestEvents.unsubscribe(broken);
+      TestEvents.unsubscribe(listener);
+    }
+
+    assertEquals(3, finished.size());
+  }
+
+  @SuppressWarnings("unchecked")
+  private TestSuite<UIO<?>, String> suite(String name, int size) {
+    TestCase<UIO<?>, String, ?, ?>[] tests = new TestCase[size - 1];
+    for (int i = 1; i < size; i++) {
+      tests[i - 1] = test(i);
+    }
+    return suite(name, test(0), tests);
+  }
+
+  private TestCase<UIO<?>, String, Integer, Integer> test(int value) {
+    return it.should("double " + value)
+        .given(value)
+        .when(x -> x * 2)
+        .then(equalsTo(value == 2 ? -1 : value * 2));
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck;
+
+import static com.github.tonivade.purefun.core.Validator.equalsTo;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.tonivade.purecheck.spec.UIOTestSpec;
+import com.github.tonivade.purefun.effect.UIOOf;
+
+class TestFilterTest extends UIOTestSpec<String> {
+
+  @AfterEach
+  void tearDown() {
+    System.clearProperty("purecheck.filter");
+    System.clearProperty("purecheck.tags");
+  }
+
+  @Test
+  void filterByName() {
+    var counter = new AtomicInteger();
+
+    System.setProperty("purecheck.filter", "say hel*");
+
+    var suite = suite("filter",
+        it.should("say hello")
+          .given("Toni")
+          .when(name -> "Hello " + name)
+          .then(equalsTo("Hello Toni")),
+        it.should("say goodbye")
+          .given(counter::incrementAndGet)
+          .when(i -> i)
+          .then(equalsTo(0)));
+
+    var report = suite.run();
+
+    assertAll(
+        () -> assertEquals(1, report.results().size()),
+        () -> assertEquals(0, counter.get()),
+        report::assertion);
+  }
+
+  @Test
+  void explicitFilterRunsExcludedTests() {
+    var counter = new AtomicInteger();
+
+    System.setProperty("purecheck.filter", "say hel*");
+
+    var suite = suite("filter",
+        it.should("say hello")
+          .given("Toni")
+          .when(name -> "Hello " + name)
+          .then(equalsTo("Hello Toni")),
+        it.should("say goodbye")
+          .given(counter::incrementAndGet)
+          .when(i -> i)
+          .then(equalsTo(1)));
+
+    var report = suite.runK(TestFilter.all()).fix(UIOOf::toUIO).unsafeRunSync();
+
+    assertAll(
+        () -> assertEquals(2, report.results().size()),
+        () -> assertTrue(report.results().stream().allMatch(TestResult::isSuccess), "all executed"),
+        () -> assertEquals(1, counter.get()));
+  }
+
+  @Test
+  void filterByTags() {
+    System.setProperty("purecheck.tags", "fast,!slow");
+
+    var suite = suite("filter",
+        it.should("say hello")
+          .given("Toni")
+          .when(name -> "Hello " + name)
+          .then(equalsTo("Hello Toni"))
+          .tag("fast"),
+        it.should("say goodbye")
+          .given("Toni")
+          .when(name -> "Goodbye " + name)
+          .then(equalsTo("Bye Toni"))
+          .tag("fast", "slow"),
+        it.should("say nothing")
+          .given("Toni")
+          .when(name -> "")
+          .then(equalsTo("Toni")));
+
+    var report = suite.run();
+
+    assertAll(
+        () -> assertEquals(1, report.results().size()),
+        report::assertion);
+  }
+
+  @Test
+  void qualifiedGlob() {
+    var filter = TestFilter.byName("user suite/should?say*");
+
+    assertAll(
+        () -> assertTrue(filter.mayMatch("anything")),
+        () -> assertTrue(filter.matchesName("user suite", "should say hello")),
+        () -> assertFalse(filter.matchesName("other suite", "should say hello")),
+        () -> assertFalse(TestFilter.byName("hello").mayMatch("hello world")),
+        () -> assertTrue(TestFilter.byTags("!slow").matches("suite", "test", Set.of())),
+        () -> assertFalse(TestFilter.byTags("!slow").matches("suite", "test", Set.of("slow"))));
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.purecheck;
+
+import static com.github.tonivade.purefun.core.Validator.equalsTo;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.github.tonivade.purecheck.spec.IOTestSpec;
+
+class TestResultCacheTest extends IOTestSpec<String> {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void skipSuccess() {
+    var cache = TestResultCache.onDisk(directory);
+    var counter = new AtomicInteger();
+
+    var suite = suite("cached suite",
+        it.should("say hello")
+          .given("Toni")
+          .when(name -> counter.incrementAndGet() + " Hello " + name)
+          .then(equalsTo("1 Hello Toni"))
+          .cached(cache));
+
+    suite.run().assertion();
+    suite.run().assertion();
+
+    assertEquals(1, counter.get());
+  }
+
+  @Test
+  void rerunFailures() {
+    var cache = TestResultCache.onDisk(directory);
+    var counter = new AtomicInteger();
+
+    var suite = suite("cached suite",
+        it.should("say hello")
+          .given("Toni")
+          .when(name -> counter.incrementAndGet() + " Hello " + name)
+          .then(equalsTo("2 Hello Toni"))
+          .cached(cache));
+
+    suite.run();
+    suite.run().assertion();
+    suite.run().assertion();
+
+    assertEquals(2, counter.get());
+  }
+
+  @Test
+  void cacheRetriedSuccess() {
+    var cache = TestResultCache.onDisk(directory);
+    var counter = new AtomicInteger();
+
+    var suite = suite("cached suite",
+        it.should("say hello")
+          .given("Toni")
+          .when(name -> counter.incrementAndGet() + " Hello " + name)
+          .then(equalsTo("2 Hello Toni"))
+          .retryOnFailure(3)
+          .cached(cache));
+
+    suite.run().assertion();
+    suite.run().assertion();
+
+    assertEquals(2, counter.get());
+  }
+
+  @Test
+  void invalidateDependencies() {
+    var cache = TestResultCache.onDisk(directory);
+
+    assertAll(
+        () -> assertEquals(cache.key("test", getClass(), "input"), cache.key("test", getClass(), "input")),
+        () -> assertNotEquals(cache.key("test", getClass(), "input"),
+            cache.dependsOn(TestResultCache.class).key("test", getClass(), "input")));
+  }
+
+  @Test
+  void rejectedByFilter() {
+    var cache = TestResultCache.onDisk(directory);
+    var counter = new AtomicInteger();
+
+    var suite = suite("cached suite",
+        it.should("parse uri")
+          .given(URI.create("https://github.com/tonivade"))
+          .when(uri -> counter.incrementAndGet() + " " + uri.getHost())
+          .verify((input, output) -> output.endsWith(input.getHost()))
+          .cached(cache));
+
+    suite.run().assertion();
+    suite.run().assertion();
+
+    assertEquals(2, counter.get());
+  }
+}